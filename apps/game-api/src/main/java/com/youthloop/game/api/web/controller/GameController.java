@@ -13,6 +13,7 @@ import com.youthloop.game.api.dto.GameActionRequest;
 import com.youthloop.game.api.dto.GameActionResponse;
 import com.youthloop.game.api.dto.GameCardCatalogDTO;
 import com.youthloop.game.api.dto.GameCardMetaDTO;
+import com.youthloop.game.api.dto.GameHintDTO;
 import com.youthloop.game.api.dto.GameSessionDTO;
 import com.youthloop.game.api.facade.GameFacade;
 import io.swagger.v3.oas.annotations.Operation;
@@ -92,6 +93,15 @@ public class GameController {
         return ApiSpecResponse.ok(pageData);
     }
 
+    @Operation(summary = "Suggest moves for the current turn")
+    @GetMapping("/sessions/{sessionId}/hints")
+    @ApiResponseContract(ApiEndpointKind.DETAIL)
+    public ApiSpecResponse<GameHintDTO> getHints(
+        @PathVariable("sessionId") UUID sessionId
+    ) {
+        return ApiSpecResponse.ok(gameFacade.getHints(sessionId));
+    }
+
     @Operation(summary = "Perform one gameplay action")
     @PostMapping("/actions")
     @ApiResponseContract(ApiEndpointKind.COMMAND)
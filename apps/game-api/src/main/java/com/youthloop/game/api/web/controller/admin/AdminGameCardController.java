@@ -7,6 +7,8 @@ import com.youthloop.common.api.contract.ApiResponseContract;
 import com.youthloop.common.api.contract.ApiSpecResponse;
 import com.youthloop.common.security.RequireAdmin;
 import com.youthloop.game.api.dto.AdminCreateGameCardRequest;
+import com.youthloop.game.api.dto.AdminImportGameCardsRequest;
+import com.youthloop.game.api.dto.AdminImportGameCardsResultDTO;
 import com.youthloop.game.api.dto.AdminUpdateGameCardRequest;
 import com.youthloop.game.api.dto.GameCardMetaDTO;
 import com.youthloop.game.api.facade.GameCardAdminFacade;
@@ -73,6 +75,16 @@ public class AdminGameCardController {
         return ApiSpecResponse.ok(gameCardAdminFacade.createCard(request.getData()));
     }
 
+    @Operation(summary = "Bulk import a card deck", description = "Upserts cards, upgrade requirements and tags in one transaction; dryRun only returns the diff")
+    @PostMapping("/import")
+    @ApiResponseContract(ApiEndpointKind.COMMAND)
+    public ApiSpecResponse<AdminImportGameCardsResultDTO> importCards(
+        @Parameter(description = "Validate and diff without writing") @RequestParam(defaultValue = "false") boolean dryRun,
+        @Valid @RequestBody UnifiedRequest<AdminImportGameCardsRequest> request
+    ) {
+        return ApiSpecResponse.ok(gameCardAdminFacade.importCards(request.getData(), dryRun));
+    }
+
     @Operation(summary = "Update a game card")
     @PatchMapping("/{cardId}")
     @ApiResponseContract(ApiEndpointKind.COMMAND)
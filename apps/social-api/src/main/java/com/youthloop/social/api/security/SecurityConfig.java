@@ -62,6 +62,7 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/api/v1/market/carbon/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/contents/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/activities/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/v1/comments/*/replies").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/search/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/recommendations/**").permitAll()
 
@@ -44,16 +44,11 @@ public class ActivityController {
         @Parameter(description = "状态") @RequestParam(value = "status", required = false) Integer status,
         @Parameter(description = "排序") @RequestParam(value = "sort", defaultValue = "latest") String sort,
         @Parameter(description = "页码") @RequestParam(value = "page", defaultValue = "1") Integer page,
-        @Parameter(description = "每页数量") @RequestParam(value = "size", defaultValue = "10") Integer size
+        @Parameter(description = "每页数量") @RequestParam(value = "size", defaultValue = "10") Integer size,
+        @Parameter(description = "游标（传入后按游标分页，首页传空串）") @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        PageResponse<ActivityListItemDTO> result = queryFacade.getActivityList(category, status, sort, page, size);
-        ApiPageData<ActivityListItemDTO> pageData = new ApiPageData<>(
-            result.getPage(),
-            result.getSize(),
-            result.getTotal(),
-            result.getItems()
-        );
-        return ApiSpecResponse.ok(pageData);
+        PageResponse<ActivityListItemDTO> result = queryFacade.getActivityList(category, status, sort, page, size, cursor);
+        return ApiSpecResponse.ok(ApiPageData.of(result));
     }
 
     @Operation(summary = "获取活动统计摘要", description = "获取指定月份活动统计")
@@ -118,9 +113,10 @@ public class ActivityController {
         @Parameter(description = "活动 ID") @PathVariable("id") UUID id,
         @Parameter(description = "排序") @RequestParam(value = "sort", defaultValue = "latest") String sort,
         @Parameter(description = "页码") @RequestParam(value = "page", defaultValue = "1") Integer page,
-        @Parameter(description = "每页数量") @RequestParam(value = "size", defaultValue = "10") Integer size
+        @Parameter(description = "每页数量") @RequestParam(value = "size", defaultValue = "10") Integer size,
+        @Parameter(description = "游标（传入后按游标分页，首页传空串）") @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        CommentTreeDTO tree = queryFacade.getCommentTree(2, id, sort, page, size);
+        CommentTreeDTO tree = queryFacade.getCommentTree(2, id, sort, page, size, cursor);
         return ApiSpecResponse.ok(tree);
     }
 }
@@ -72,13 +72,7 @@ public class AdminContentController {
         query.setIncludeAllStatus(status == null);
 
         PageResponse<ContentListDTO> result = contentQueryFacade.getContentList(query);
-        ApiPageData<ContentListDTO> pageData = new ApiPageData<>(
-            result.getPage(),
-            result.getSize(),
-            result.getTotal(),
-            result.getItems()
-        );
-        return ApiSpecResponse.ok(pageData);
+        return ApiSpecResponse.ok(ApiPageData.of(result));
     }
 
     @Operation(summary = "Get content detail", description = "Admin query content detail")
@@ -0,0 +1,69 @@
+package com.youthloop.social.api.web.controller.admin;
+
+import com.youthloop.common.api.UnifiedRequest;
+import com.youthloop.common.api.contract.ApiEndpointKind;
+import com.youthloop.common.api.contract.ApiPageData;
+import com.youthloop.common.api.contract.ApiResponseContract;
+import com.youthloop.common.api.contract.ApiSpecResponse;
+import com.youthloop.common.security.RequireAdmin;
+import com.youthloop.event.api.dto.OutboxDeadLetterQueryRequest;
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import com.youthloop.event.api.dto.OutboxReplayRequest;
+import com.youthloop.event.api.dto.OutboxReplayResultDTO;
+import com.youthloop.event.api.facade.OutboxDeadLetterFacade;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "Admin Outbox", description = "Outbox dead-letter inspection and replay")
+@RestController
+@RequestMapping("/api/v1/admin/outbox")
+@RequiredArgsConstructor
+@RequireAdmin
+public class AdminOutboxController {
+
+    private final OutboxDeadLetterFacade outboxDeadLetterFacade;
+
+    @Operation(summary = "List dead-letter events", description = "Keyset-paginated, newest first; pass nextCursor to fetch the next page")
+    @GetMapping("/dead-letters")
+    @ApiResponseContract(ApiEndpointKind.PAGE_LIST)
+    public ApiSpecResponse<ApiPageData<OutboxEventDTO>> listDeadLetters(
+        @Parameter(description = "Event type") @RequestParam(value = "eventType", required = false) String eventType,
+        @Parameter(description = "Substring of last error") @RequestParam(value = "errorContains", required = false) String errorContains,
+        @Parameter(description = "Created at or after (ISO-8601)") @RequestParam(value = "from", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @Parameter(description = "Created before (ISO-8601)") @RequestParam(value = "to", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @Parameter(description = "Cursor from the previous page") @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "50") Integer size
+    ) {
+        OutboxDeadLetterQueryRequest query = new OutboxDeadLetterQueryRequest();
+        query.setEventType(eventType);
+        query.setErrorContains(errorContains);
+        query.setFrom(from);
+        query.setTo(to);
+        query.setCursor(cursor);
+        query.setSize(size);
+        return ApiSpecResponse.ok(ApiPageData.of(outboxDeadLetterFacade.listDeadLetters(query)));
+    }
+
+    @Operation(summary = "Replay dead-letter events", description = "Re-queue matching dead events through the normal worker pipeline, paced by ratePerSecond; dryRun (default) only counts")
+    @PostMapping("/dead-letters/replay")
+    @ApiResponseContract(ApiEndpointKind.COMMAND)
+    public ApiSpecResponse<OutboxReplayResultDTO> replayDeadLetters(
+        @Valid @RequestBody UnifiedRequest<OutboxReplayRequest> request
+    ) {
+        return ApiSpecResponse.ok(outboxDeadLetterFacade.replay(request.getData()));
+    }
+}
@@ -78,16 +78,11 @@ public class MeController {
         @Parameter(description = "反应类型") @RequestParam(name = "reactionType", required = false) Integer reactionType,
         @Parameter(description = "目标类型") @RequestParam(name = "targetType", required = false) Integer targetType,
         @Parameter(description = "页码") @RequestParam(name = "page", defaultValue = "1") Integer page,
-        @Parameter(description = "每页数量") @RequestParam(name = "size", defaultValue = "20") Integer size
+        @Parameter(description = "每页数量") @RequestParam(name = "size", defaultValue = "20") Integer size,
+        @Parameter(description = "游标（传入后按游标分页，首页传空串）") @RequestParam(name = "cursor", required = false) String cursor
     ) {
-        PageResponse<ReactionItemDTO> result = queryFacade.getMyReactions(reactionType, targetType, page, size);
-        ApiPageData<ReactionItemDTO> pageData = new ApiPageData<>(
-            result.getPage(),
-            result.getSize(),
-            result.getTotal(),
-            result.getItems()
-        );
-        return ApiSpecResponse.ok(pageData);
+        PageResponse<ReactionItemDTO> result = queryFacade.getMyReactions(reactionType, targetType, page, size, cursor);
+        return ApiSpecResponse.ok(ApiPageData.of(result));
     }
 
     @Operation(summary = "获取我的通知", description = "查询当前用户通知列表")
@@ -95,16 +90,11 @@ public class MeController {
     @ApiResponseContract(ApiEndpointKind.PAGE_LIST)
     public ApiSpecResponse<ApiPageData<NotificationItemDTO>> getMyNotifications(
         @Parameter(description = "页码") @RequestParam(name = "page", defaultValue = "1") Integer page,
-        @Parameter(description = "每页数量") @RequestParam(name = "size", defaultValue = "20") Integer size
+        @Parameter(description = "每页数量") @RequestParam(name = "size", defaultValue = "20") Integer size,
+        @Parameter(description = "游标（传入后按游标分页，首页传空串）") @RequestParam(name = "cursor", required = false) String cursor
     ) {
-        PageResponse<NotificationItemDTO> result = queryFacade.getMyNotifications(page, size);
-        ApiPageData<NotificationItemDTO> pageData = new ApiPageData<>(
-            result.getPage(),
-            result.getSize(),
-            result.getTotal(),
-            result.getItems()
-        );
-        return ApiSpecResponse.ok(pageData);
+        PageResponse<NotificationItemDTO> result = queryFacade.getMyNotifications(page, size, cursor);
+        return ApiSpecResponse.ok(ApiPageData.of(result));
     }
 
     @Operation(summary = "标记通知为已读", description = "支持批量标记已读")
@@ -130,15 +120,10 @@ public class MeController {
     public ApiSpecResponse<ApiPageData<MyActivityItemDTO>> getMyActivities(
         @Parameter(description = "报名状态") @RequestParam(name = "status", required = false) Integer status,
         @Parameter(description = "页码") @RequestParam(name = "page", defaultValue = "1") Integer page,
-        @Parameter(description = "每页数量") @RequestParam(name = "size", defaultValue = "20") Integer size
+        @Parameter(description = "每页数量") @RequestParam(name = "size", defaultValue = "20") Integer size,
+        @Parameter(description = "游标（传入后按游标分页，首页传空串）") @RequestParam(name = "cursor", required = false) String cursor
     ) {
-        PageResponse<MyActivityItemDTO> result = queryFacade.getMyActivities(status, page, size);
-        ApiPageData<MyActivityItemDTO> pageData = new ApiPageData<>(
-            result.getPage(),
-            result.getSize(),
-            result.getTotal(),
-            result.getItems()
-        );
-        return ApiSpecResponse.ok(pageData);
+        PageResponse<MyActivityItemDTO> result = queryFacade.getMyActivities(status, page, size, cursor);
+        return ApiSpecResponse.ok(ApiPageData.of(result));
     }
 }
@@ -128,16 +128,11 @@ public class PointsController {
     @ApiResponseContract(ApiEndpointKind.PAGE_LIST)
     public ApiSpecResponse<ApiPageData<PointsLedgerDTO>> getLedger(
         @Parameter(description = "页码") @RequestParam(defaultValue = "1") int page,
-        @Parameter(description = "每页大小") @RequestParam(defaultValue = "20") int size
+        @Parameter(description = "每页大小") @RequestParam(defaultValue = "20") int size,
+        @Parameter(description = "游标（传入后按游标分页，首页传空串）") @RequestParam(required = false) String cursor
     ) {
-        PageResponse<PointsLedgerDTO> response = pointsFacade.getLedger(page, size);
-        ApiPageData<PointsLedgerDTO> pageData = new ApiPageData<>(
-            response.getPage(),
-            response.getSize(),
-            response.getTotal(),
-            response.getItems()
-        );
-        return ApiSpecResponse.ok(pageData);
+        PageResponse<PointsLedgerDTO> response = pointsFacade.getLedger(page, size, cursor);
+        return ApiSpecResponse.ok(ApiPageData.of(response));
     }
 
     @Operation(summary = "获取可兑换商品列表", description = "获取所有上架积分商品")
@@ -0,0 +1,46 @@
+package com.youthloop.social.api.web.controller.query;
+
+import com.youthloop.common.api.PageResponse;
+import com.youthloop.common.api.contract.ApiEndpointKind;
+import com.youthloop.common.api.contract.ApiPageData;
+import com.youthloop.common.api.contract.ApiResponseContract;
+import com.youthloop.common.api.contract.ApiSpecResponse;
+import com.youthloop.common.security.OptionalAuth;
+import com.youthloop.query.dto.CommentDTO;
+import com.youthloop.query.facade.QueryFacade;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Comment query controller for paging replies beyond the preview in the comment tree.
+ */
+@Tag(name = "Comment Query", description = "Comment reply query APIs")
+@RestController
+@RequestMapping("/api/v1/comments")
+@RequiredArgsConstructor
+@OptionalAuth
+public class CommentQueryController {
+
+    private final QueryFacade queryFacade;
+
+    @Operation(summary = "Get comment replies", description = "Cursor-paginated replies of a root comment, newest first")
+    @GetMapping("/{id}/replies")
+    @ApiResponseContract(ApiEndpointKind.PAGE_LIST)
+    public ApiSpecResponse<ApiPageData<CommentDTO>> getCommentReplies(
+        @Parameter(description = "Root comment ID") @PathVariable("id") UUID id,
+        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "10") Integer size,
+        @Parameter(description = "Cursor from repliesNextCursor or nextCursor; empty for the first page") @RequestParam(value = "cursor", required = false) String cursor
+    ) {
+        PageResponse<CommentDTO> result = queryFacade.getCommentReplies(id, size, cursor);
+        return ApiSpecResponse.ok(ApiPageData.of(result));
+    }
+}
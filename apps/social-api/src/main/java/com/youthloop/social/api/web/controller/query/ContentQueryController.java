@@ -6,7 +6,8 @@ import com.youthloop.common.api.contract.ApiPageData;
 import com.youthloop.common.api.contract.ApiResponseContract;
 import com.youthloop.common.api.contract.ApiSpecResponse;
 import com.youthloop.common.security.OptionalAuth;
-import com.youthloop.content.application.service.ContentStatsUpdateService;
+import com.youthloop.common.util.SecurityUtil;
+import com.youthloop.content.application.service.ContentViewCounter;
 import com.youthloop.query.dto.CommentTreeDTO;
 import com.youthloop.query.dto.ContentDetailDTO;
 import com.youthloop.query.dto.ContentListItemDTO;
@@ -14,6 +15,7 @@ import com.youthloop.query.facade.QueryFacade;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -31,7 +33,7 @@ import java.util.UUID;
 public class ContentQueryController {
 
     private final QueryFacade queryFacade;
-    private final ContentStatsUpdateService contentStatsUpdateService;
+    private final ContentViewCounter contentViewCounter;
 
     @Operation(summary = "Get content list", description = "Query content list with stats and optional source filter")
     @GetMapping
@@ -42,27 +44,24 @@ public class ContentQueryController {
         @Parameter(description = "Status") @RequestParam(value = "status", required = false) Integer status,
         @Parameter(description = "Sort") @RequestParam(value = "sort", defaultValue = "latest") String sort,
         @Parameter(description = "Page") @RequestParam(value = "page", defaultValue = "1") Integer page,
-        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") Integer size
+        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "20") Integer size,
+        @Parameter(description = "Cursor; enables cursor paging, empty for the first page") @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        PageResponse<ContentListItemDTO> result = queryFacade.getContentList(type, sourceKey, status, sort, page, size);
-        ApiPageData<ContentListItemDTO> pageData = new ApiPageData<>(
-            result.getPage(),
-            result.getSize(),
-            result.getTotal(),
-            result.getItems()
-        );
-        return ApiSpecResponse.ok(pageData);
+        PageResponse<ContentListItemDTO> result = queryFacade.getContentList(type, sourceKey, status, sort, page, size, cursor);
+        return ApiSpecResponse.ok(ApiPageData.of(result));
     }
 
     @Operation(summary = "Get content detail", description = "Query content detail and update view count")
     @GetMapping("/{id}")
     @ApiResponseContract(ApiEndpointKind.DETAIL)
     public ApiSpecResponse<ContentDetailDTO> getContentDetail(
-        @Parameter(description = "Content ID") @PathVariable("id") UUID id
+        @Parameter(description = "Content ID") @PathVariable("id") UUID id,
+        HttpServletRequest request
     ) {
         ContentDetailDTO detail = queryFacade.getContentDetail(id);
         if (detail != null) {
-            contentStatsUpdateService.incrementViewCount(id);
+            // 浏览数在内存中累加，后台批量写入
+            contentViewCounter.recordView(id, viewerKey(request));
         }
         return ApiSpecResponse.ok(detail);
     }
@@ -74,9 +73,25 @@ public class ContentQueryController {
         @Parameter(description = "Content ID") @PathVariable("id") UUID id,
         @Parameter(description = "Sort") @RequestParam(value = "sort", defaultValue = "latest") String sort,
         @Parameter(description = "Page") @RequestParam(value = "page", defaultValue = "1") Integer page,
-        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "10") Integer size
+        @Parameter(description = "Page size") @RequestParam(value = "size", defaultValue = "10") Integer size,
+        @Parameter(description = "Cursor; enables cursor paging, empty for the first page") @RequestParam(value = "cursor", required = false) String cursor
     ) {
-        CommentTreeDTO tree = queryFacade.getCommentTree(1, id, sort, page, size);
+        CommentTreeDTO tree = queryFacade.getCommentTree(1, id, sort, page, size, cursor);
         return ApiSpecResponse.ok(tree);
     }
+
+    /**
+     * 浏览去重用的观看者标识：登录用户按用户 ID，匿名用户按客户端地址 + User-Agent
+     */
+    private String viewerKey(HttpServletRequest request) {
+        UUID userId = SecurityUtil.getCurrentUserIdOptional();
+        if (userId != null) {
+            return userId.toString();
+        }
+        String forwarded = request.getHeader("X-Forwarded-For");
+        String client = forwarded != null && !forwarded.isBlank()
+            ? forwarded.split(",")[0].trim()
+            : request.getRemoteAddr();
+        return client + "|" + request.getHeader("User-Agent");
+    }
 }
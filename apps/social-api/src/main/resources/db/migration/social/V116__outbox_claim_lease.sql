@@ -0,0 +1,14 @@
+-- ============================================================================
+-- YouthLoop Social Schema Migration V116
+-- Schema: social
+-- Purpose: Lease columns for multi-worker outbox claiming (FOR UPDATE SKIP LOCKED)
+-- ============================================================================
+
+ALTER TABLE social.outbox_event
+  ADD COLUMN IF NOT EXISTS locked_by text,
+  ADD COLUMN IF NOT EXISTS locked_until timestamptz;
+
+-- Reaper scans only rows currently held by a worker
+CREATE INDEX IF NOT EXISTS idx_outbox_event_lease
+  ON social.outbox_event(locked_until)
+  WHERE status = 2;
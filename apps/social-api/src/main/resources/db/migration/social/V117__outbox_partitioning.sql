@@ -0,0 +1,93 @@
+-- ============================================================================
+-- YouthLoop Social Schema Migration V117
+-- Schema: social
+-- Purpose: Daily range partitions for outbox_event, pending partial index,
+--          archive table for retention (done partitions are dropped by the worker)
+-- ============================================================================
+
+ALTER TABLE social.outbox_event RENAME TO outbox_event_legacy;
+
+DROP INDEX IF EXISTS social.idx_outbox_event_status;
+DROP INDEX IF EXISTS social.idx_outbox_event_retry;
+DROP INDEX IF EXISTS social.idx_outbox_event_lease;
+
+-- Partition key must be part of the primary key
+CREATE TABLE social.outbox_event (
+  id uuid NOT NULL DEFAULT gen_random_uuid(),
+  event_type text NOT NULL,
+  payload jsonb NOT NULL,
+  status int NOT NULL DEFAULT 1, -- 1=pending 2=processing 3=done 4=dead
+  retry_count int NOT NULL DEFAULT 0,
+  next_retry_at timestamptz,
+  last_error text,
+  locked_by text,
+  locked_until timestamptz,
+  created_at timestamptz NOT NULL DEFAULT now(),
+  updated_at timestamptz NOT NULL DEFAULT now(),
+  PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows outside the pre-created daily partitions (legacy rows, or the worker lagging behind)
+CREATE TABLE social.outbox_event_default PARTITION OF social.outbox_event DEFAULT;
+
+-- Today plus a few days ahead (UTC); the worker keeps creating partitions from here on
+DO $$
+DECLARE
+  d date;
+BEGIN
+  FOR i IN 0..3 LOOP
+    d := (now() AT TIME ZONE 'UTC')::date + i;
+    EXECUTE format(
+      'CREATE TABLE IF NOT EXISTS social.%I PARTITION OF social.outbox_event FOR VALUES FROM (%L) TO (%L)',
+      'outbox_event_p' || to_char(d, 'YYYYMMDD'),
+      d::text || ' 00:00:00+00',
+      (d + 1)::text || ' 00:00:00+00'
+    );
+  END LOOP;
+END $$;
+
+-- Claim scans only pending rows
+CREATE INDEX idx_outbox_event_pending ON social.outbox_event(created_at) WHERE status = 1;
+-- Reaper scans only rows currently held by a worker
+CREATE INDEX idx_outbox_event_lease ON social.outbox_event(locked_until) WHERE status = 2;
+CREATE INDEX idx_outbox_event_id ON social.outbox_event(id);
+
+-- Done rows from expired partitions, copied only when outbox.retention.archive-done is on; dead letters are never archived
+CREATE TABLE social.outbox_event_archive (
+  id uuid NOT NULL,
+  event_type text NOT NULL,
+  payload jsonb NOT NULL,
+  status int NOT NULL,
+  retry_count int NOT NULL,
+  next_retry_at timestamptz,
+  last_error text,
+  locked_by text,
+  locked_until timestamptz,
+  created_at timestamptz NOT NULL,
+  updated_at timestamptz NOT NULL,
+  archived_at timestamptz NOT NULL DEFAULT now(),
+  PRIMARY KEY (id, created_at)
+);
+
+CREATE INDEX idx_outbox_event_archive_status ON social.outbox_event_archive(status, created_at);
+
+-- Done legacy rows go straight to the archive; unfinished ones move to the partitioned table
+INSERT INTO social.outbox_event_archive (
+  id, event_type, payload, status, retry_count, next_retry_at, last_error,
+  locked_by, locked_until, created_at, updated_at
+)
+SELECT id, event_type, payload, status, retry_count, next_retry_at, last_error,
+       locked_by, locked_until, created_at, updated_at
+FROM social.outbox_event_legacy
+WHERE status = 3;
+
+INSERT INTO social.outbox_event (
+  id, event_type, payload, status, retry_count, next_retry_at, last_error,
+  locked_by, locked_until, created_at, updated_at
+)
+SELECT id, event_type, payload, status, retry_count, next_retry_at, last_error,
+       locked_by, locked_until, created_at, updated_at
+FROM social.outbox_event_legacy
+WHERE status <> 3;
+
+DROP TABLE social.outbox_event_legacy;
@@ -0,0 +1,10 @@
+-- ============================================================================
+-- YouthLoop Social Schema Migration V118
+-- Schema: social
+-- Purpose: Partial index for dead-letter inspection / replay (keyset scans on
+--          created_at, id restricted to status = 4)
+-- ============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_outbox_event_dead
+    ON social.outbox_event (created_at DESC, id DESC)
+    WHERE status = 4;
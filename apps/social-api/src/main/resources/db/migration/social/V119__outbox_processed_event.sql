@@ -0,0 +1,21 @@
+-- ============================================================================
+-- YouthLoop Social Schema Migration V119
+-- Schema: social
+-- Purpose: Processed-event ledger for idempotent outbox handler execution.
+--          A row is inserted in the same transaction as the handler's writes,
+--          so a redelivered event (crash before markDone, relay redelivery)
+--          finds its row and is skipped.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS social.outbox_processed_event (
+    event_id     UUID         NOT NULL,
+    consumer     VARCHAR(100) NOT NULL,
+    processed_at TIMESTAMPTZ  NOT NULL DEFAULT now(),
+    PRIMARY KEY (event_id, consumer)
+);
+
+-- 保留期清理按 processed_at 删除
+CREATE INDEX IF NOT EXISTS idx_outbox_processed_event_processed_at
+    ON social.outbox_processed_event (processed_at);
+
+COMMENT ON TABLE social.outbox_processed_event IS 'Outbox 已处理事件账本（事件 ID + 消费者），与 Handler 写入同事务提交';
@@ -0,0 +1,38 @@
+-- ============================================================================
+-- YouthLoop Social Schema Migration V120
+-- Schema: social
+-- Purpose: Hot score engine support
+--          - updated_at indexes so the worker can rescore recently touched stats
+--          - stats rows for every content / activity (hot sort joins them)
+--          - default active hot_score_rule per target type
+-- ============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_content_stats_updated_at ON social.content_stats (updated_at);
+CREATE INDEX IF NOT EXISTS idx_activity_stats_updated_at ON social.activity_stats (updated_at);
+CREATE INDEX IF NOT EXISTS idx_comment_stats_updated_at ON social.comment_stats (updated_at);
+
+INSERT INTO social.content_stats (content_id)
+SELECT c.id
+FROM social.content c
+WHERE NOT EXISTS (SELECT 1 FROM social.content_stats s WHERE s.content_id = c.id);
+
+INSERT INTO social.activity_stats (activity_id)
+SELECT a.id
+FROM social.activity a
+WHERE NOT EXISTS (SELECT 1 FROM social.activity_stats s WHERE s.activity_id = a.id);
+
+-- formula_json 字段：likeWeight / favWeight / commentWeight / viewWeight（作用于 ln(1 + view_count)）/ downWeight /
+-- base / gravity / offsetHours / scale；score = scale * max(0, base + Σ weight * count) / (ageHours + offsetHours) ^ gravity
+INSERT INTO social.hot_score_rule (target_type, name, version, formula_json, is_active)
+SELECT t.target_type, t.name, 1, t.formula::jsonb, true
+FROM (VALUES
+    (1, 'Default content gravity',
+     '{"type":"gravity","likeWeight":1,"favWeight":2,"commentWeight":3,"viewWeight":0.5,"downWeight":-1,"base":1,"gravity":1.5,"offsetHours":2,"scale":1000000}'),
+    (2, 'Default activity gravity',
+     '{"type":"gravity","likeWeight":1,"favWeight":2,"commentWeight":3,"viewWeight":0,"downWeight":-1,"base":1,"gravity":1.2,"offsetHours":2,"scale":1000000}'),
+    (3, 'Default comment gravity',
+     '{"type":"gravity","likeWeight":1,"favWeight":0,"commentWeight":2,"viewWeight":0,"downWeight":-1,"base":1,"gravity":1.8,"offsetHours":2,"scale":1000000}')
+) AS t(target_type, name, formula)
+WHERE NOT EXISTS (
+    SELECT 1 FROM social.hot_score_rule r WHERE r.target_type = t.target_type AND r.is_active
+);
@@ -0,0 +1,38 @@
+-- ============================================================================
+-- YouthLoop Social Schema Migration V121
+-- Schema: social
+-- Purpose: Keyset (cursor) pagination indexes
+--          - every list orders by (sort key DESC, id DESC); the seek predicate
+--            (sort key, id) < (cursor) is served by a matching composite index
+--          - single-column / (user_id, created_at) indexes that are now a prefix
+--            of the composite ones are dropped
+-- ============================================================================
+
+-- 内容列表（latest）：WHERE status = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_content_status_created_id
+    ON social.content (status, created_at DESC, id DESC);
+
+-- 活动列表（latest）：WHERE status = ? ORDER BY start_time DESC NULLS LAST, id DESC
+CREATE INDEX IF NOT EXISTS idx_activity_status_start_id
+    ON social.activity (status, start_time DESC NULLS LAST, id DESC);
+
+-- 热度排序：ORDER BY hot_score DESC, <target>_id DESC（索引反向扫描）
+CREATE INDEX IF NOT EXISTS idx_content_stats_hot_score_id
+    ON social.content_stats (hot_score, content_id);
+CREATE INDEX IF NOT EXISTS idx_activity_stats_hot_score_id
+    ON social.activity_stats (hot_score, activity_id);
+
+-- 我的列表与积分流水：WHERE user_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_reaction_user_created_id
+    ON social.reaction (user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_notification_user_created_id
+    ON social.notification (user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_activity_signup_user_created_id
+    ON social.activity_signup (user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_points_ledger_user_created_id
+    ON social.points_ledger (user_id, created_at DESC, id DESC);
+
+DROP INDEX IF EXISTS social.idx_content_stats_hot_score;
+DROP INDEX IF EXISTS social.idx_activity_stats_hot_score;
+DROP INDEX IF EXISTS social.idx_reaction_user;
+DROP INDEX IF EXISTS social.idx_points_ledger_user;
@@ -0,0 +1,54 @@
+-- ============================================================================
+-- YouthLoop Social Schema Migration V122
+-- Schema: social
+-- Purpose: Comment tree keyset pagination
+--          - comment.hot_score mirrors comment_stats.hot_score (written by the
+--            hot score engine) so the per-target hot order is served by an index
+--          - partial indexes matching the root and reply ORDER BY clauses
+--          - every comment gets a comment_stats row; reply_count of a root comment
+--            counts its visible replies
+-- ============================================================================
+
+ALTER TABLE social.comment
+    ADD COLUMN IF NOT EXISTS hot_score bigint NOT NULL DEFAULT 0;
+
+-- 补齐统计行（此前评论创建时不建统计行）
+INSERT INTO social.comment_stats (comment_id)
+SELECT c.id
+FROM social.comment c
+ON CONFLICT (comment_id) DO NOTHING;
+
+-- 根评论回复数 = 可见回复数
+UPDATE social.comment_stats s
+SET reply_count = r.reply_count,
+    updated_at = now()
+FROM (
+    SELECT root_id, COUNT(*)::int AS reply_count
+    FROM social.comment
+    WHERE root_id IS NOT NULL
+      AND status = 1
+    GROUP BY root_id
+) r
+WHERE s.comment_id = r.root_id
+  AND s.reply_count IS DISTINCT FROM r.reply_count;
+
+UPDATE social.comment c
+SET hot_score = s.hot_score
+FROM social.comment_stats s
+WHERE s.comment_id = c.id
+  AND s.hot_score <> 0;
+
+-- 根评论（latest）：WHERE target_type = ? AND target_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_comment_root_latest
+    ON social.comment (target_type, target_id, created_at DESC, id DESC)
+    WHERE depth = 0 AND status = 1;
+
+-- 根评论（hot）：WHERE target_type = ? AND target_id = ? ORDER BY hot_score DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_comment_root_hot
+    ON social.comment (target_type, target_id, hot_score DESC, id DESC)
+    WHERE depth = 0 AND status = 1;
+
+-- 回复：WHERE root_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_comment_reply_created_id
+    ON social.comment (root_id, created_at DESC, id DESC)
+    WHERE status = 1;
@@ -1,12 +1,10 @@
 package com.youthloop.social.worker.handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.youthloop.activity.application.service.ActivityStatsUpdateService;
 import com.youthloop.content.application.service.ContentStatsUpdateService;
 import com.youthloop.event.api.dto.OutboxEventDTO;
 import com.youthloop.event.domain.EventType;
 import com.youthloop.event.domain.payload.CommentCreatedPayload;
-import com.youthloop.notification.application.service.NotificationCommandService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -23,21 +21,15 @@ import java.util.UUID;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class CommentCreatedHandler implements EventHandler {
+public class CommentCreatedHandler implements EventHandler<CommentCreatedPayload> {
     
-    private final ObjectMapper objectMapper;
     private final ContentStatsUpdateService contentStatsUpdateService;
     private final ActivityStatsUpdateService activityStatsUpdateService;
-    private final NotificationCommandService notificationCommandService;
+    private final HandlerNotificationSender handlerNotificationSender;
     
     @Override
-    public void handle(OutboxEventDTO event) throws Exception {
-        CommentCreatedPayload payload = objectMapper.readValue(
-            event.getPayload(), 
-            CommentCreatedPayload.class
-        );
-        
-        log.info("处理评论创建事件: commentId={}, targetType={}, targetId={}", 
+    public void handle(OutboxEventDTO event, CommentCreatedPayload payload) {
+        log.debug("处理评论创建事件: commentId={}, targetType={}, targetId={}", 
             payload.getCommentId(), payload.getTargetType(), payload.getTargetId());
         
         // 更新目标的评论数统计
@@ -54,7 +46,12 @@ public class CommentCreatedHandler implements EventHandler {
             createReplyNotification(payload);
         }
         
-        log.info("评论创建事件处理完成: commentId={}", payload.getCommentId());
+        log.debug("评论创建事件处理完成: commentId={}", payload.getCommentId());
+    }
+    
+    @Override
+    public Class<CommentCreatedPayload> payloadType() {
+        return CommentCreatedPayload.class;
     }
     
     @Override
@@ -66,38 +63,34 @@ public class CommentCreatedHandler implements EventHandler {
      * 创建回复通知
      */
     private void createReplyNotification(CommentCreatedPayload payload) {
-        try {
-            // 从 payload 获取父评论作者 ID
-            UUID parentUserId = payload.getParentUserId();
-            if (parentUserId == null) {
-                log.warn("父评论作者 ID 为空，无法创建通知: parentId={}", payload.getParentId());
-                return;
-            }
-            
-            // 不给自己发通知
-            if (parentUserId.equals(payload.getUserId())) {
-                log.debug("回复自己的评论，跳过通知: commentId={}", payload.getCommentId());
-                return;
-            }
-            
-            // 创建通知
-            notificationCommandService.createNotification(
-                parentUserId,                // 接收者：父评论作者
-                1,                           // 通知类型：1=comment_reply
-                payload.getUserId(),         // 触发者：当前评论作者
-                payload.getTargetType(),     // 目标类型
-                payload.getTargetId(),       // 目标 ID
-                payload.getCommentId(),      // 新评论 ID
-                payload.getRootId(),         // 根评论 ID
-                null                         // meta（可选）
-            );
-            
+        // 从 payload 获取父评论作者 ID
+        UUID parentUserId = payload.getParentUserId();
+        if (parentUserId == null) {
+            log.warn("父评论作者 ID 为空，无法创建通知: parentId={}", payload.getParentId());
+            return;
+        }
+        
+        // 不给自己发通知
+        if (parentUserId.equals(payload.getUserId())) {
+            log.debug("回复自己的评论，跳过通知: commentId={}", payload.getCommentId());
+            return;
+        }
+        
+        // 创建通知（保存点内执行，失败不影响主流程）
+        boolean sent = handlerNotificationSender.trySend(
+            parentUserId,                // 接收者：父评论作者
+            1,                           // 通知类型：1=comment_reply
+            payload.getUserId(),         // 触发者：当前评论作者
+            payload.getTargetType(),     // 目标类型
+            payload.getTargetId(),       // 目标 ID
+            payload.getCommentId(),      // 新评论 ID
+            payload.getRootId(),         // 根评论 ID
+            null                         // meta（可选）
+        );
+        
+        if (sent) {
             log.info("回复通知创建成功: parentUserId={}, actorUserId={}, commentId={}", 
                 parentUserId, payload.getUserId(), payload.getCommentId());
-                
-        } catch (Exception e) {
-            log.error("创建回复通知失败: parentId={}, error={}", payload.getParentId(), e.getMessage(), e);
-            // 不抛出异常，避免影响主流程
         }
     }
 }
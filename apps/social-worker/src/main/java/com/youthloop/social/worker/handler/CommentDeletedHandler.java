@@ -1,15 +1,14 @@
 package com.youthloop.social.worker.handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.youthloop.activity.application.service.ActivityStatsUpdateService;
 import com.youthloop.content.application.service.ContentStatsUpdateService;
 import com.youthloop.event.api.dto.OutboxEventDTO;
 import com.youthloop.event.domain.EventType;
+import com.youthloop.event.domain.payload.CommentDeletedPayload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -21,25 +20,17 @@ import java.util.UUID;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class CommentDeletedHandler implements EventHandler {
+public class CommentDeletedHandler implements EventHandler<CommentDeletedPayload> {
     
-    private final ObjectMapper objectMapper;
     private final ContentStatsUpdateService contentStatsUpdateService;
     private final ActivityStatsUpdateService activityStatsUpdateService;
     
     @Override
-    public void handle(OutboxEventDTO event) throws Exception {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> payload = objectMapper.readValue(
-            event.getPayload(), 
-            Map.class
-        );
+    public void handle(OutboxEventDTO event, CommentDeletedPayload payload) {
+        Integer targetType = payload.getTargetType();
+        UUID targetId = payload.getTargetId();
         
-        Integer targetType = (Integer) payload.get("targetType");
-        String targetIdStr = (String) payload.get("targetId");
-        UUID targetId = UUID.fromString(targetIdStr);
-        
-        log.info("处理评论删除事件: targetType={}, targetId={}", targetType, targetId);
+        log.debug("处理评论删除事件: targetType={}, targetId={}", targetType, targetId);
         
         // 更新目标的评论数统计（减少）
         if (targetType == 1) {
@@ -50,7 +41,12 @@ public class CommentDeletedHandler implements EventHandler {
             activityStatsUpdateService.decrementCommentCount(targetId);
         }
         
-        log.info("评论删除事件处理完成: targetId={}", targetId);
+        log.debug("评论删除事件处理完成: targetId={}", targetId);
+    }
+    
+    @Override
+    public Class<CommentDeletedPayload> payloadType() {
+        return CommentDeletedPayload.class;
     }
     
     @Override
@@ -4,19 +4,36 @@ import com.youthloop.event.api.dto.OutboxEventDTO;
 
 /**
  * 事件处理器接口
+ * 
+ * 负载由 {@link EventHandlerRegistry} 按 {@link #payloadType()} 使用预建的 ObjectReader 反序列化后传入
+ * 
+ * @param <P> 负载类型
  */
-public interface EventHandler {
+public interface EventHandler<P> {
     
     /**
      * 处理事件
      * 
      * @param event Outbox 事件 DTO
+     * @param payload 已反序列化的负载
      * @throws Exception 处理失败时抛出异常
      */
-    void handle(OutboxEventDTO event) throws Exception;
+    void handle(OutboxEventDTO event, P payload) throws Exception;
+    
+    /**
+     * 负载类型
+     */
+    Class<P> payloadType();
     
     /**
      * 支持的事件类型
      */
     String supportedEventType();
+    
+    /**
+     * 额外按前缀匹配的事件类型（如 SIGNUP_ 匹配所有报名事件），默认不匹配前缀；启动时编译为路由表
+     */
+    default String supportedEventTypePrefix() {
+        return null;
+    }
 }
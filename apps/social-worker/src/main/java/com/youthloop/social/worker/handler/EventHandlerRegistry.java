@@ -0,0 +1,106 @@
+package com.youthloop.social.worker.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 事件处理器注册表
+ * 
+ * 启动时一次性构建：精确匹配表、按长度倒序的前缀路由表，以及每种负载类型一个预建的 ObjectReader。
+ * 解析结果（含未匹配）按事件类型缓存，运行期查找为一次哈希命中。
+ * 本地消费（{@code OutboxEventConsumer}）与中继模式下的队列消费者共用同一套路由。
+ */
+@Slf4j
+@Component
+public class EventHandlerRegistry {
+    
+    private final List<EventHandler<?>> eventHandlers;
+    private final Map<String, EventRoute<?>> exactRoutes;
+    private final List<PrefixRoute> prefixRoutes;
+    private final Map<String, Optional<EventRoute<?>>> resolved = new ConcurrentHashMap<>();
+    
+    public EventHandlerRegistry(List<EventHandler<?>> eventHandlers, ObjectMapper objectMapper) {
+        this.eventHandlers = List.copyOf(eventHandlers);
+        
+        Map<Class<?>, ObjectReader> readers = new HashMap<>();
+        Map<String, EventRoute<?>> exact = new HashMap<>();
+        List<PrefixRoute> prefixes = new ArrayList<>();
+        for (EventHandler<?> handler : eventHandlers) {
+            EventRoute<?> route = toRoute(handler, readers.computeIfAbsent(handler.payloadType(), objectMapper::readerFor));
+            if (exact.putIfAbsent(handler.supportedEventType(), route) != null) {
+                throw new IllegalStateException("事件类型重复注册: " + handler.supportedEventType());
+            }
+            String prefix = handler.supportedEventTypePrefix();
+            if (prefix != null && !prefix.isEmpty()) {
+                prefixes.add(new PrefixRoute(prefix, route));
+            }
+        }
+        prefixes.sort(Comparator.comparingInt((PrefixRoute p) -> p.prefix().length()).reversed());
+        
+        this.exactRoutes = Map.copyOf(exact);
+        this.prefixRoutes = List.copyOf(prefixes);
+        log.info("已注册 {} 个事件处理器: exact={}, prefixes={}", eventHandlers.size(), exactRoutes.keySet(),
+            prefixRoutes.stream().map(PrefixRoute::prefix).toList());
+    }
+    
+    /**
+     * 全部处理器
+     */
+    public List<EventHandler<?>> handlers() {
+        return eventHandlers;
+    }
+    
+    /**
+     * 查找事件路由（优先精确匹配，然后最长前缀匹配，例如 SignupEventHandler 处理所有 SIGNUP_ 开头的事件）
+     * 
+     * @return 未找到时为 null
+     */
+    public EventRoute<?> route(String eventType) {
+        if (eventType == null) {
+            return null;
+        }
+        EventRoute<?> route = exactRoutes.get(eventType);
+        if (route != null) {
+            return route;
+        }
+        return resolved.computeIfAbsent(eventType, this::matchPrefix).orElse(null);
+    }
+    
+    /**
+     * 查找事件处理器
+     * 
+     * @return 未找到时为 null
+     */
+    public EventHandler<?> find(String eventType) {
+        EventRoute<?> route = route(eventType);
+        return route == null ? null : route.handler();
+    }
+    
+    // === 私有方法 ===
+    
+    private Optional<EventRoute<?>> matchPrefix(String eventType) {
+        for (PrefixRoute candidate : prefixRoutes) {
+            if (eventType.startsWith(candidate.prefix())) {
+                return Optional.of(candidate.route());
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static <P> EventRoute<P> toRoute(EventHandler<P> handler, ObjectReader reader) {
+        return new EventRoute<>(handler, reader);
+    }
+    
+    private record PrefixRoute(String prefix, EventRoute<?> route) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.youthloop.social.worker.handler;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.youthloop.event.api.dto.OutboxEventDTO;
+
+import java.io.IOException;
+
+/**
+ * 事件路由：处理器 + 其负载类型的预建 ObjectReader（线程安全，可复用）
+ * 
+ * @param <P> 负载类型
+ */
+public record EventRoute<P>(EventHandler<P> handler, ObjectReader reader) {
+    
+    /**
+     * 反序列化负载（优先使用原始字节）
+     */
+    public P decode(OutboxEventDTO event) throws IOException {
+        byte[] bytes = event.getPayloadBytes();
+        if (bytes != null) {
+            return reader.readValue(bytes);
+        }
+        return reader.readValue(event.getPayload() == null ? "{}" : event.getPayload());
+    }
+    
+    /**
+     * 反序列化并交给处理器
+     */
+    public void dispatch(OutboxEventDTO event) throws Exception {
+        handler.handle(event, decode(event));
+    }
+}
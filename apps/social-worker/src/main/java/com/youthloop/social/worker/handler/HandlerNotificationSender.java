@@ -0,0 +1,62 @@
+package com.youthloop.social.worker.handler;
+
+import com.youthloop.notification.application.service.NotificationCommandService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * Handler 内的尽力而为通知
+ *
+ * 通知失败不应让事件重试，但 Handler 运行在 {@link IdempotentEventDispatcher} 的账本事务里，
+ * 直接调用 @Transactional 的通知服务失败时会把整个事务标记为只回滚，吞掉异常也无济于事。
+ * 这里在保存点（NESTED）中写通知：失败只回滚到保存点，账本与统计写入照常提交；
+ * 外层事务回滚时通知也一并撤销，事件重试不会产生重复通知。
+ */
+@Slf4j
+@Component
+public class HandlerNotificationSender {
+
+    private final NotificationCommandService notificationCommandService;
+    private final TransactionTemplate savepointTemplate;
+
+    public HandlerNotificationSender(
+        NotificationCommandService notificationCommandService,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.notificationCommandService = notificationCommandService;
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    /**
+     * 创建通知，失败时记录日志并返回 false
+     *
+     * 参数同 {@link NotificationCommandService#createNotification}
+     */
+    public boolean trySend(
+        UUID userId,
+        Integer type,
+        UUID actorUserId,
+        Integer targetType,
+        UUID targetId,
+        UUID commentId,
+        UUID rootCommentId,
+        String meta
+    ) {
+        try {
+            savepointTemplate.executeWithoutResult(status -> notificationCommandService.createNotification(
+                userId, type, actorUserId, targetType, targetId, commentId, rootCommentId, meta
+            ));
+            return true;
+        } catch (Exception e) {
+            log.error("创建通知失败: userId={}, type={}, targetId={}, error={}",
+                userId, type, targetId, e.getMessage(), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.youthloop.social.worker.handler;
+
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import com.youthloop.common.util.RotatingBloomFilter;
+import com.youthloop.event.api.facade.OutboxEventCommandFacade;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.util.UUID;
+
+/**
+ * 幂等事件分发
+ * 
+ * 每次执行 Handler 都包在一个事务里：先向已处理账本插入 (事件 ID, 消费者)，插入成功才执行 Handler，
+ * Handler 内各服务的 @Transactional 加入该事务，账本记录与业务写入一起提交或回滚。
+ * 因此“Handler 已提交但 markDone 前崩溃”“中继重复投递”等情况再次执行时会被账本挡住，
+ * Handler 自身无需去重逻辑。Bloom 过滤器只用来让重复投递在不开事务的情况下尽早跳过。
+ */
+@Slf4j
+@Component
+public class IdempotentEventDispatcher {
+    
+    private final OutboxEventCommandFacade outboxEventCommandFacade;
+    private final TransactionTemplate transactionTemplate;
+    private final RotatingBloomFilter processedEventFilter;
+    private final boolean enabled;
+    
+    public IdempotentEventDispatcher(
+        OutboxEventCommandFacade outboxEventCommandFacade,
+        TransactionTemplate transactionTemplate,
+        @Value("${outbox.idempotency.enabled:true}") boolean enabled,
+        @Value("${outbox.idempotency.bloom-expected-insertions:1000000}") long bloomExpectedInsertions,
+        @Value("${outbox.idempotency.bloom-fpp:0.01}") double bloomFpp
+    ) {
+        this.outboxEventCommandFacade = outboxEventCommandFacade;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.processedEventFilter = new RotatingBloomFilter(bloomExpectedInsertions, bloomFpp);
+    }
+    
+    /**
+     * 幂等地执行路由对应的 Handler
+     * 
+     * @return true 表示本次执行了 Handler；false 表示事件已处理过，被跳过
+     * @throws Exception Handler 失败时抛出原异常（事务已回滚，账本未记录）
+     */
+    public boolean dispatch(EventRoute<?> route, OutboxEventDTO event) throws Exception {
+        if (!enabled) {
+            route.dispatch(event);
+            return true;
+        }
+        
+        String consumer = consumerName(route);
+        if (processedEventFilter.mightContain(key1(event.getId(), consumer), key2(event.getId(), consumer))
+            && outboxEventCommandFacade.isProcessed(event.getId(), consumer)) {
+            log.debug("事件已处理过，跳过: id={}, consumer={}", event.getId(), consumer);
+            return false;
+        }
+        
+        Boolean executed;
+        try {
+            executed = transactionTemplate.execute(status -> {
+                if (!outboxEventCommandFacade.recordProcessed(event.getId(), consumer)) {
+                    return false;
+                }
+                try {
+                    route.dispatch(event);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new HandlerFailure(e);
+                }
+                return true;
+            });
+        } catch (HandlerFailure e) {
+            throw (Exception) e.getCause();
+        }
+        
+        processedEventFilter.put(key1(event.getId(), consumer), key2(event.getId(), consumer));
+        if (!Boolean.TRUE.equals(executed)) {
+            log.debug("事件已由其他执行处理，跳过: id={}, consumer={}", event.getId(), consumer);
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * 是否启用账本去重
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * 路由在已处理账本中的消费者名（Handler 类名）
+     */
+    public String consumerName(EventRoute<?> route) {
+        return ClassUtils.getUserClass(route.handler()).getSimpleName();
+    }
+    
+    // === 私有方法 ===
+    
+    private long key1(UUID eventId, String consumer) {
+        return eventId.getMostSignificantBits() ^ consumer.hashCode();
+    }
+    
+    private long key2(UUID eventId, String consumer) {
+        return eventId.getLeastSignificantBits() + 31L * consumer.hashCode();
+    }
+    
+    /**
+     * 在事务回调中携带 Handler 的受检异常
+     */
+    private static final class HandlerFailure extends RuntimeException {
+        
+        private HandlerFailure(Exception cause) {
+            super(cause);
+        }
+    }
+}
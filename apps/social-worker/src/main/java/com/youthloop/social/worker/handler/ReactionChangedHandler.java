@@ -1,6 +1,5 @@
 package com.youthloop.social.worker.handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.youthloop.activity.application.service.ActivityStatsUpdateService;
 import com.youthloop.content.application.service.ContentStatsUpdateService;
 import com.youthloop.event.api.dto.OutboxEventDTO;
@@ -19,20 +18,14 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ReactionChangedHandler implements EventHandler {
+public class ReactionChangedHandler implements EventHandler<ReactionChangedPayload> {
     
-    private final ObjectMapper objectMapper;
     private final ContentStatsUpdateService contentStatsUpdateService;
     private final ActivityStatsUpdateService activityStatsUpdateService;
     
     @Override
-    public void handle(OutboxEventDTO event) throws Exception {
-        ReactionChangedPayload payload = objectMapper.readValue(
-            event.getPayload(), 
-            ReactionChangedPayload.class
-        );
-        
-        log.info("处理反应变化事件: reactionType={}, targetType={}, targetId={}, action={}", 
+    public void handle(OutboxEventDTO event, ReactionChangedPayload payload) {
+        log.debug("处理反应变化事件: reactionType={}, targetType={}, targetId={}, action={}", 
             payload.getReactionType(), payload.getTargetType(), payload.getTargetId(), payload.getAction());
         
         // 根据目标类型和反应类型更新统计
@@ -44,7 +37,12 @@ public class ReactionChangedHandler implements EventHandler {
             updateActivityStats(payload);
         }
         
-        log.info("反应变化事件处理完成: reactionId={}", payload.getReactionId());
+        log.debug("反应变化事件处理完成: reactionId={}", payload.getReactionId());
+    }
+    
+    @Override
+    public Class<ReactionChangedPayload> payloadType() {
+        return ReactionChangedPayload.class;
     }
     
     @Override
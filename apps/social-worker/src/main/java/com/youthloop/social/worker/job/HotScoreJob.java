@@ -0,0 +1,73 @@
+package com.youthloop.social.worker.job;
+
+import com.youthloop.recommendation.application.service.HotScoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 热度重算任务
+ *
+ * 增量任务按水位线重算统计有变化的目标，衰减任务定期重算 Top-N 并补算规则过期的目标，
+ * 使 "hot" 排序可以直接走 hot_score 索引。重算是幂等的，多个 Worker 副本同时执行只会重复计算。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotScoreJob {
+
+    /**
+     * 水位线回退量，覆盖上一轮执行期间提交的统计更新
+     */
+    private static final long WATERMARK_OVERLAP_SECONDS = 5;
+
+    private final HotScoreService hotScoreService;
+
+    @Value("${hot-score.enabled:true}")
+    private boolean enabled;
+
+    @Value("${hot-score.top-n:500}")
+    private int topN;
+
+    @Value("${hot-score.batch-size:200}")
+    private int batchSize;
+
+    @Value("${hot-score.stale-limit:2000}")
+    private int staleLimit;
+
+    private volatile LocalDateTime watermark;
+
+    @Scheduled(fixedDelayString = "${hot-score.touched-interval-ms:60000}", initialDelay = 30000)
+    public void refreshTouched() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        // 首次执行回看一小时，之后从上一轮开始时间继续
+        LocalDateTime since = watermark == null
+            ? startedAt.minusHours(1)
+            : watermark.minusSeconds(WATERMARK_OVERLAP_SECONDS);
+        try {
+            hotScoreService.refreshTouched(since);
+            watermark = startedAt;
+        } catch (Exception e) {
+            log.error("增量热度重算失败: since={}", since, e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hot-score.decay-interval-ms:600000}", initialDelay = 60000)
+    public void redecay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            hotScoreService.redecay(topN, batchSize, staleLimit);
+        } catch (Exception e) {
+            log.error("热度衰减重算失败", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.youthloop.social.worker.job;
+
+import com.youthloop.event.api.dto.OutboxQueueStatDTO;
+import com.youthloop.social.worker.relay.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outbox 队列状态端点（/actuator/outbox）
+ *
+ * 汇总各事件类型的 pending / processing / dead 数量与最老 pending 事件的等待时长，
+ * 以及当前 Worker 的轮询间隔与运行模式；汇总结果超过刷新间隔时先重新查询
+ */
+@Component
+@Endpoint(id = "outbox")
+@RequiredArgsConstructor
+public class OutboxEndpoint {
+
+    private final OutboxMetrics outboxMetrics;
+    private final OutboxEventConsumer outboxEventConsumer;
+    private final OutboxRelay outboxRelay;
+
+    @Value("${outbox.metrics.refresh-interval-ms:15000}")
+    private long refreshIntervalMs;
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        Instant refreshedAt = outboxMetrics.lastRefreshedAt();
+        if (refreshedAt == null || refreshedAt.plus(Duration.ofMillis(refreshIntervalMs)).isBefore(Instant.now())) {
+            outboxMetrics.refresh();
+        }
+
+        long pending = 0;
+        long processing = 0;
+        long dead = 0;
+        long oldestPendingAgeSeconds = 0;
+        Map<String, Map<String, Long>> byType = new TreeMap<>();
+        List<OutboxQueueStatDTO> stats = outboxMetrics.lastStats();
+        for (OutboxQueueStatDTO stat : stats) {
+            long count = stat.getEventCount() == null ? 0 : stat.getEventCount();
+            Map<String, Long> typeSummary = byType.computeIfAbsent(stat.getEventType(), type -> new LinkedHashMap<>());
+            switch (stat.getStatus()) {
+                case 1 -> {
+                    pending += count;
+                    long age = stat.getOldestAgeSeconds() == null ? 0 : stat.getOldestAgeSeconds();
+                    oldestPendingAgeSeconds = Math.max(oldestPendingAgeSeconds, age);
+                    typeSummary.put("pending", count);
+                    typeSummary.put("oldestPendingAgeSeconds", age);
+                }
+                case 2 -> {
+                    processing += count;
+                    typeSummary.put("processing", count);
+                }
+                case 4 -> {
+                    dead += count;
+                    typeSummary.put("dead", count);
+                }
+                default -> {
+                }
+            }
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("pending", pending);
+        summary.put("processing", processing);
+        summary.put("dead", dead);
+        summary.put("oldestPendingAgeSeconds", oldestPendingAgeSeconds);
+        summary.put("byType", byType);
+        summary.put("mode", outboxRelay.isEnabled() ? "relay" : "local");
+        summary.put("pollIntervalMs", outboxEventConsumer.currentPollIntervalMs());
+        summary.put("refreshedAt", outboxMetrics.lastRefreshedAt());
+        return summary;
+    }
+}
@@ -2,141 +2,328 @@ package com.youthloop.social.worker.job;
 
 import com.youthloop.event.api.dto.OutboxEventDTO;
 import com.youthloop.event.api.facade.OutboxEventCommandFacade;
-import com.youthloop.event.api.facade.OutboxEventQueryFacade;
-import com.youthloop.social.worker.handler.EventHandler;
-import com.youthloop.social.worker.handler.SignupEventHandler;
+import com.youthloop.social.worker.handler.EventHandlerRegistry;
+import com.youthloop.social.worker.handler.EventRoute;
+import com.youthloop.social.worker.handler.IdempotentEventDispatcher;
+import com.youthloop.social.worker.relay.OutboxRelay;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Outbox 事件消费者
  * 
- * 使用 DB 轮询方式消费 outbox_event 表中的待处理事件
+ * 由 LISTEN/NOTIFY 即时唤醒（{@link OutboxNotificationListener}），DB 轮询仅作为带退避的兜底。
+ * 通过 FOR UPDATE SKIP LOCKED 原子认领并加租约，可部署多个 Worker 副本并发消费而不重复处理；
+ * 租约过期（Worker 崩溃或处理超时）的事件由回收任务放回 pending。
+ * 启用中继（{@link OutboxRelay}）时，认领到的事件只发布到消息代理，由队列上的竞争消费者调用 Handler。
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OutboxEventConsumer {
     
-    private final OutboxEventQueryFacade outboxEventQueryFacade;
     private final OutboxEventCommandFacade outboxEventCommandFacade;
-    private final List<EventHandler> eventHandlers;
+    private final EventHandlerRegistry eventHandlerRegistry;
+    private final IdempotentEventDispatcher idempotentEventDispatcher;
+    private final OutboxLaneDispatcher outboxLaneDispatcher;
+    private final StatsDeltaCoalescer statsDeltaCoalescer;
+    private final OutboxRelay outboxRelay;
+    private final OutboxMetrics outboxMetrics;
     
-    private static final int BATCH_SIZE = 10;
     private static final int MAX_RETRY_COUNT = 5;
     
-    private Map<String, EventHandler> handlerMap;
+    @Value("${outbox.consumer.worker-id:}")
+    private String configuredWorkerId;
+    
+    @Value("${outbox.consumer.batch-size:10}")
+    private int batchSize;
+    
+    @Value("${outbox.consumer.lease-seconds:120}")
+    private long leaseSeconds;
+    
+    @Value("${outbox.consumer.poll-interval-ms:10000}")
+    private long pollIntervalMs;
+    
+    @Value("${outbox.consumer.max-poll-interval-ms:60000}")
+    private long maxPollIntervalMs;
+    
+    @Value("${outbox.consumer.coalesce-stats:true}")
+    private boolean coalesceStats;
+    
+    private String workerId;
+    
+    private volatile long currentPollIntervalMs;
+    
+    private final ReentrantLock drainLock = new ReentrantLock();
+    
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
     
     /**
-     * 初始化 Handler 映射
+     * Worker 标识：优先使用配置，否则为 主机名-随机后缀（同一主机多进程也不冲突）
      */
-    private Map<String, EventHandler> getHandlerMap() {
-        if (handlerMap == null) {
-            handlerMap = eventHandlers.stream()
-                .collect(Collectors.toMap(
-                    EventHandler::supportedEventType,
-                    Function.identity()
-                ));
-            log.info("已注册 {} 个事件处理器: {}", handlerMap.size(), handlerMap.keySet());
+    @PostConstruct
+    void initWorkerId() {
+        String base = configuredWorkerId;
+        if (base == null || base.isBlank()) {
+            String hostname = System.getenv("HOSTNAME");
+            base = (hostname == null || hostname.isBlank() ? "social-worker" : hostname)
+                + "-" + UUID.randomUUID().toString().substring(0, 8);
         }
-        return handlerMap;
+        workerId = base;
+        currentPollIntervalMs = minPollIntervalMs();
+        log.info("Outbox 消费者 Worker 标识: {}", workerId);
+    }
+    
+    private String getWorkerId() {
+        return workerId;
     }
     
     /**
-     * 每 5 秒轮询一次待处理事件
+     * 兜底轮询（由 {@link OutboxPollScheduleRegistrar} 按当前间隔调度）
+     * 
+     * 有事件时间隔回到最小值，连续空轮询时指数退避到最大值；正常情况下由 LISTEN/NOTIFY 即时唤醒
      */
-    @Scheduled(fixedDelay = 5000, initialDelay = 3000)
     public void consumeEvents() {
+        int processed = drain();
+        long min = minPollIntervalMs();
+        long max = Math.max(min, maxPollIntervalMs);
+        currentPollIntervalMs = processed > 0 ? min : Math.min(max, currentPollIntervalMs * 2);
+    }
+    
+    /**
+     * 收到 NOTIFY 时调用：立即排空队列，并把兜底轮询间隔重置为最小值
+     */
+    public void onNotified() {
+        drain();
+        currentPollIntervalMs = minPollIntervalMs();
+    }
+    
+    /**
+     * 下一次兜底轮询的间隔
+     */
+    public long currentPollIntervalMs() {
+        return currentPollIntervalMs;
+    }
+    
+    /**
+     * 连续认领并处理直到队列取空；同一时刻只有一个线程在排空，
+     * 排空期间到达的请求由正在运行的线程在结束前补做一轮
+     * 
+     * @return 本次处理的事件数
+     */
+    private int drain() {
+        drainRequested.set(true);
+        int total = 0;
+        do {
+            if (!drainLock.tryLock()) {
+                return total;
+            }
+            try {
+                while (drainRequested.getAndSet(false)) {
+                    total += drainBatches();
+                }
+            } finally {
+                drainLock.unlock();
+            }
+        } while (drainRequested.get());
+        return total;
+    }
+    
+    private int drainBatches() {
+        int total = 0;
+        int limit = Math.max(1, batchSize);
         try {
-            List<OutboxEventDTO> events = outboxEventQueryFacade.getPendingEvents(BATCH_SIZE);
+            List<OutboxEventDTO> events;
+            do {
+                events = outboxEventCommandFacade.claimEvents(
+                    getWorkerId(), limit, Duration.ofSeconds(Math.max(1, leaseSeconds))
+                );
+                if (events.isEmpty()) {
+                    break;
+                }
+                
+                log.debug("认领到 {} 个待处理事件", events.size());
+                
+                if (outboxRelay.isEnabled()) {
+                    // 中继模式：发布到代理，确认后标记完成，由队列消费者处理
+                    relayEvents(events);
+                } else {
+                    // 计数类事件先合并为净增量批量写入，其余按聚合键分通道并行处理，整批完成后再认领下一批
+                    // 成功的事件先收集，整批处理完后用一条 UPDATE 标记完成
+                    Queue<OutboxEventDTO> completed = new ConcurrentLinkedQueue<>();
+                    outboxLaneDispatcher.dispatch(coalesceStats(events), event -> processEvent(event, completed));
+                    flushCompleted(completed);
+                }
+                total += events.size();
+            } while (events.size() >= limit);
             
-            if (events.isEmpty()) {
-                return;
+        } catch (Exception e) {
+            log.error("消费 Outbox 事件失败", e);
+        }
+        return total;
+    }
+    
+    /**
+     * 中继一批事件：代理确认的批量标记完成，未确认的按失败重试
+     */
+    private void relayEvents(List<OutboxEventDTO> events) {
+        Set<UUID> confirmed;
+        try {
+            confirmed = outboxRelay.relay(events);
+        } catch (Exception e) {
+            log.error("中继 Outbox 事件失败: count={}", events.size(), e);
+            confirmed = Set.of();
+        }
+        Queue<OutboxEventDTO> completed = new ConcurrentLinkedQueue<>();
+        for (OutboxEventDTO event : events) {
+            if (confirmed.contains(event.getId())) {
+                completed.add(event);
+            } else {
+                markFailure(event, getWorkerId(), "broker did not confirm publish");
             }
-            
-            log.info("获取到 {} 个待处理事件", events.size());
-            
+        }
+        flushCompleted(completed);
+    }
+    
+    /**
+     * 批量标记完成；未被更新的事件说明租约已失效
+     */
+    private void flushCompleted(Queue<OutboxEventDTO> completed) {
+        if (completed.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = completed.stream().map(OutboxEventDTO::getId).toList();
+        Set<UUID> done = new HashSet<>(outboxEventCommandFacade.markDoneBatch(ids, getWorkerId()));
+        for (OutboxEventDTO event : completed) {
+            if (done.contains(event.getId())) {
+                outboxMetrics.recordDone(event);
+            } else {
+                logLeaseLost(event);
+            }
+        }
+    }
+    
+    /**
+     * 合并并提交计数类事件，返回仍需逐个处理的事件；合并失败时事务已回滚，整批退回逐个处理
+     */
+    private List<OutboxEventDTO> coalesceStats(List<OutboxEventDTO> events) {
+        if (!coalesceStats) {
+            return events;
+        }
+        StatsDeltaCoalescer.Batch batch = statsDeltaCoalescer.partition(events);
+        if (batch.deltas().isEmpty()) {
+            return events;
+        }
+        try {
+            Set<UUID> done = new HashSet<>(statsDeltaCoalescer.apply(batch, getWorkerId()));
             for (OutboxEventDTO event : events) {
-                processEvent(event);
+                if (done.contains(event.getId())) {
+                    outboxMetrics.recordDone(event);
+                }
             }
-            
+            return batch.remaining();
         } catch (Exception e) {
-            log.error("消费 Outbox 事件失败", e);
+            log.error("合并计数事件失败，退回逐个处理: count={}", batch.deltas().size(), e);
+            return events;
         }
     }
     
+    private long minPollIntervalMs() {
+        return Math.max(100, pollIntervalMs);
+    }
+    
     /**
-     * 处理单个事件
+     * 回收租约过期的事件（默认每 30 秒），各 Worker 都会执行，UPDATE 本身幂等
      */
-    private void processEvent(OutboxEventDTO event) {
+    @Scheduled(fixedDelayString = "${outbox.consumer.reaper-interval-ms:30000}", initialDelay = 10000)
+    public void reapExpiredLeases() {
         try {
-            log.info("开始处理事件: id={}, type={}, retryCount={}", 
+            int released = outboxEventCommandFacade.releaseExpiredLeases(MAX_RETRY_COUNT);
+            if (released > 0) {
+                log.warn("回收租约过期的 Outbox 事件: count={}", released);
+            }
+        } catch (Exception e) {
+            log.error("回收 Outbox 租约失败", e);
+        }
+    }
+    
+    /**
+     * 处理单个事件（事件已由本 Worker 认领为 processing）
+     * 
+     * 成功的事件 ID 放入 completed，由调用方批量标记完成；失败 / 死信仍逐个写回（携带各自的重试次数与错误信息）
+     */
+    private void processEvent(OutboxEventDTO event, Queue<OutboxEventDTO> completed) {
+        String owner = getWorkerId();
+        try {
+            log.debug("开始处理事件: id={}, type={}, retryCount={}", 
                 event.getId(), event.getEventType(), event.getRetryCount());
             
-            // 标记为处理中
-            outboxEventCommandFacade.markProcessing(event.getId());
-            
-            // 查找对应的 Handler（优先精确匹配，然后尝试自定义匹配）
-            EventHandler handler = findHandler(event.getEventType());
+            // 查找对应的路由（优先精确匹配，然后最长前缀匹配）
+            EventRoute<?> route = eventHandlerRegistry.route(event.getEventType());
             
-            if (handler == null) {
+            if (route == null) {
                 log.warn("未找到事件处理器: eventType={}", event.getEventType());
                 // 未知事件类型，直接标记为完成（避免一直重试）
-                outboxEventCommandFacade.markDone(event.getId());
+                completed.add(event);
                 return;
             }
             
-            // 调用 Handler 处理
-            handler.handle(event);
+            // 在账本事务内反序列化负载并调用 Handler（已处理过的事件直接跳过）
+            long start = System.nanoTime();
+            idempotentEventDispatcher.dispatch(route, event);
+            outboxMetrics.recordHandler(event.getEventType(), System.nanoTime() - start);
             
             // 标记为完成
-            outboxEventCommandFacade.markDone(event.getId());
-            log.info("事件处理成功: id={}, type={}", event.getId(), event.getEventType());
+            completed.add(event);
+            log.debug("事件处理成功: id={}, type={}", event.getId(), event.getEventType());
             
         } catch (Exception e) {
             log.error("处理事件失败: id={}, type={}", event.getId(), event.getEventType(), e);
-            
-            int newRetryCount = event.getRetryCount() + 1;
-            
-            if (newRetryCount >= MAX_RETRY_COUNT) {
-                // 超过最大重试次数，标记为死信
-                outboxEventCommandFacade.markDead(event.getId(), e.getMessage());
-                log.error("事件已标记为死信: id={}, retryCount={}", event.getId(), newRetryCount);
-            } else {
-                // 标记为失败，等待重试
-                outboxEventCommandFacade.markFailed(event.getId(), newRetryCount, e.getMessage());
-                log.warn("事件将重试: id={}, retryCount={}", event.getId(), newRetryCount);
-            }
+            markFailure(event, owner, e.getMessage());
         }
     }
     
     /**
-     * 查找事件处理器（支持精确匹配和自定义匹配）
+     * 标记失败：未超过最大重试次数的等待重试，否则转为死信
      */
-    private EventHandler findHandler(String eventType) {
-        // 1. 优先精确匹配
-        EventHandler handler = getHandlerMap().get(eventType);
-        if (handler != null) {
-            return handler;
-        }
+    private void markFailure(OutboxEventDTO event, String owner, String errorMessage) {
+        int newRetryCount = event.getRetryCount() + 1;
         
-        // 2. 尝试自定义匹配（例如 SignupEventHandler 支持所有 SIGNUP_ 开头的事件）
-        for (EventHandler h : eventHandlers) {
-            if (h instanceof SignupEventHandler) {
-                SignupEventHandler signupHandler = (SignupEventHandler) h;
-                if (signupHandler.supports(eventType)) {
-                    return signupHandler;
-                }
+        if (newRetryCount >= MAX_RETRY_COUNT) {
+            // 超过最大重试次数，标记为死信
+            if (outboxEventCommandFacade.markDead(event.getId(), owner, errorMessage)) {
+                outboxMetrics.recordDead(event);
+                log.error("事件已标记为死信: id={}, retryCount={}", event.getId(), newRetryCount);
+            } else {
+                logLeaseLost(event);
+            }
+        } else {
+            // 标记为失败，等待重试
+            if (outboxEventCommandFacade.markFailed(event.getId(), owner, newRetryCount, errorMessage)) {
+                outboxMetrics.recordFailed(event);
+                log.warn("事件将重试: id={}, retryCount={}", event.getId(), newRetryCount);
+            } else {
+                logLeaseLost(event);
             }
         }
-        
-        return null;
+    }
+    
+    private void logLeaseLost(OutboxEventDTO event) {
+        log.warn("事件租约已失效，结果未写回（已被回收或由其他 Worker 接管）: id={}, type={}",
+            event.getId(), event.getEventType());
     }
 }
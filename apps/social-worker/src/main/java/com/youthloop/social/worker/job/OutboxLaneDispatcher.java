@@ -0,0 +1,119 @@
+package com.youthloop.social.worker.job;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Outbox 分区并行分发器
+ *
+ * 按聚合键（targetId / activityId / contentId / userId）哈希到 N 条有序通道，每条通道是一个虚拟线程上的单线程执行器：
+ * 同一聚合的事件严格按认领顺序处理，不同聚合的事件并行处理。
+ * 导出指标：outbox.lane.depth（各通道排队深度）、outbox.lane.processed（各通道处理计数，用于计算处理速率）
+ */
+@Slf4j
+@Component
+public class OutboxLaneDispatcher {
+
+    /**
+     * 聚合键候选字段，按优先级排列
+     */
+    private static final String[] AGGREGATE_KEY_FIELDS = {"targetId", "activityId", "contentId", "userId"};
+
+    private final ObjectMapper objectMapper;
+    private final ExecutorService[] lanes;
+    private final AtomicInteger[] laneDepths;
+    private final Counter[] laneProcessed;
+
+    public OutboxLaneDispatcher(
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${outbox.consumer.lanes:4}") int laneCount
+    ) {
+        this.objectMapper = objectMapper;
+        int count = Math.max(1, laneCount);
+        this.lanes = new ExecutorService[count];
+        this.laneDepths = new AtomicInteger[count];
+        this.laneProcessed = new Counter[count];
+        for (int i = 0; i < count; i++) {
+            String lane = String.valueOf(i);
+            lanes[i] = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("outbox-lane-" + lane).factory());
+            laneDepths[i] = new AtomicInteger();
+            Gauge.builder("outbox.lane.depth", laneDepths[i], AtomicInteger::get)
+                .description("Outbox events queued or running on the lane")
+                .tag("lane", lane)
+                .register(meterRegistry);
+            laneProcessed[i] = Counter.builder("outbox.lane.processed")
+                .description("Outbox events processed by the lane")
+                .tag("lane", lane)
+                .register(meterRegistry);
+        }
+        log.info("Outbox 分发通道数: {}", count);
+    }
+
+    /**
+     * 分发一批事件并等待全部处理完成（processor 自行处理异常与状态回写）
+     */
+    public void dispatch(List<OutboxEventDTO> events, Consumer<OutboxEventDTO> processor) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(events.size());
+        for (OutboxEventDTO event : events) {
+            int lane = laneOf(event);
+            laneDepths[lane].incrementAndGet();
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    processor.accept(event);
+                } finally {
+                    laneDepths[lane].decrementAndGet();
+                    laneProcessed[lane].increment();
+                }
+            }, lanes[lane]));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    private int laneOf(OutboxEventDTO event) {
+        return Math.floorMod(aggregateKey(event).hashCode(), lanes.length);
+    }
+
+    /**
+     * 解析聚合键；无法识别时退化为事件 ID（不需要与其他事件保持顺序）
+     */
+    private String aggregateKey(OutboxEventDTO event) {
+        if (event.getPayload() != null) {
+            try {
+                JsonNode payload = objectMapper.readTree(event.getPayload());
+                for (String field : AGGREGATE_KEY_FIELDS) {
+                    String value = payload.path(field).asText(null);
+                    if (value != null && !value.isBlank()) {
+                        return value;
+                    }
+                }
+            } catch (Exception e) {
+                log.debug("解析事件聚合键失败: id={}", event.getId());
+            }
+        }
+        return String.valueOf(event.getId());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.youthloop.social.worker.job;
+
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import com.youthloop.event.api.dto.OutboxQueueStatDTO;
+import com.youthloop.event.api.facade.OutboxEventQueryFacade;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox 监控指标
+ *
+ * 队列状态（定期从数据库汇总）：
+ * outbox.pending.count / outbox.pending.oldest.age（按事件类型）、outbox.processing.count、outbox.dead.count；
+ * 队列状态是全局的，多副本部署时只需一个副本定期汇总（outbox.metrics.queue-stats-enabled），
+ * 其余副本不注册这些指标，按类型求和时也不会重复计数；/actuator/outbox 仍可按需汇总。
+ * 处理结果（Worker 内实时记录）：
+ * outbox.events.done / outbox.events.failed / outbox.events.dead 计数，
+ * outbox.event.latency（created_at 到完成）与 outbox.handler.duration（Handler 执行）计时，均按事件类型打标签。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxMetrics {
+
+    private static final int STATUS_PENDING = 1;
+    private static final int STATUS_PROCESSING = 2;
+    private static final int STATUS_DEAD = 4;
+
+    private final MeterRegistry meterRegistry;
+    private final OutboxEventQueryFacade outboxEventQueryFacade;
+
+    private final Map<String, AtomicLong> pendingCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> pendingOldestAges = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> processingCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> deadCounts = new ConcurrentHashMap<>();
+
+    private volatile List<OutboxQueueStatDTO> lastStats = List.of();
+    private volatile Instant lastRefreshedAt;
+
+    @Value("${outbox.metrics.queue-stats-enabled:true}")
+    private boolean queueStatsEnabled;
+
+    /**
+     * 定期汇总队列状态（默认每 15 秒），未开启时跳过
+     */
+    @Scheduled(fixedDelayString = "${outbox.metrics.refresh-interval-ms:15000}", initialDelay = 5000)
+    public void scheduledRefresh() {
+        if (queueStatsEnabled) {
+            refresh();
+        }
+    }
+
+    /**
+     * 汇总队列状态；未开启定期汇总的副本只更新 {@link #lastStats()}，不注册指标
+     */
+    public void refresh() {
+        List<OutboxQueueStatDTO> stats;
+        try {
+            stats = outboxEventQueryFacade.getQueueStats();
+        } catch (Exception e) {
+            log.warn("汇总 Outbox 队列状态失败: {}", e.getMessage());
+            return;
+        }
+        if (queueStatsEnabled) {
+            updateGauges(stats);
+        }
+        lastStats = List.copyOf(stats);
+        lastRefreshedAt = Instant.now();
+    }
+
+    /**
+     * 事件已完成：计数并记录端到端延迟
+     */
+    public void recordDone(OutboxEventDTO event) {
+        String type = typeOf(event);
+        meterRegistry.counter("outbox.events.done", "type", type).increment();
+        if (event.getCreatedAt() != null) {
+            Duration latency = Duration.between(event.getCreatedAt(), LocalDateTime.now());
+            if (!latency.isNegative()) {
+                latencyTimer(type).record(latency);
+            }
+        }
+    }
+
+    public void recordFailed(OutboxEventDTO event) {
+        meterRegistry.counter("outbox.events.failed", "type", typeOf(event)).increment();
+    }
+
+    public void recordDead(OutboxEventDTO event) {
+        meterRegistry.counter("outbox.events.dead", "type", typeOf(event)).increment();
+    }
+
+    /**
+     * Handler 执行耗时
+     */
+    public void recordHandler(String eventType, long elapsedNanos) {
+        Timer.builder("outbox.handler.duration")
+            .description("Outbox event handler execution time")
+            .tag("type", eventType == null ? "unknown" : eventType)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 最近一次汇总结果
+     */
+    public List<OutboxQueueStatDTO> lastStats() {
+        return lastStats;
+    }
+
+    /**
+     * 最近一次汇总时间，未汇总过为 null
+     */
+    public Instant lastRefreshedAt() {
+        return lastRefreshedAt;
+    }
+
+    // === 私有方法 ===
+
+    /**
+     * 消失的事件类型归零而不是注销，避免指标断线
+     */
+    private void updateGauges(List<OutboxQueueStatDTO> stats) {
+        pendingCounts.values().forEach(value -> value.set(0));
+        pendingOldestAges.values().forEach(value -> value.set(0));
+        processingCounts.values().forEach(value -> value.set(0));
+        deadCounts.values().forEach(value -> value.set(0));
+        for (OutboxQueueStatDTO stat : stats) {
+            long count = stat.getEventCount() == null ? 0 : stat.getEventCount();
+            switch (stat.getStatus()) {
+                case STATUS_PENDING -> {
+                    gauge(pendingCounts, "outbox.pending.count", "Pending outbox events", null, stat.getEventType())
+                        .set(count);
+                    gauge(pendingOldestAges, "outbox.pending.oldest.age", "Age of the oldest pending outbox event",
+                        "seconds", stat.getEventType())
+                        .set(stat.getOldestAgeSeconds() == null ? 0 : stat.getOldestAgeSeconds());
+                }
+                case STATUS_PROCESSING -> gauge(processingCounts, "outbox.processing.count",
+                    "Outbox events leased by workers", null, stat.getEventType()).set(count);
+                case STATUS_DEAD -> gauge(deadCounts, "outbox.dead.count",
+                    "Dead-lettered outbox events", null, stat.getEventType()).set(count);
+                default -> {
+                }
+            }
+        }
+    }
+
+    private AtomicLong gauge(Map<String, AtomicLong> values, String name, String description, String unit,
+                             String eventType) {
+        return values.computeIfAbsent(eventType, type -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(name, value, AtomicLong::get)
+                .description(description)
+                .baseUnit(unit)
+                .tag("type", type)
+                .register(meterRegistry);
+            return value;
+        });
+    }
+
+    private Timer latencyTimer(String type) {
+        return Timer.builder("outbox.event.latency")
+            .description("Time from outbox event creation to completion")
+            .tag("type", type)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private String typeOf(OutboxEventDTO event) {
+        return event.getEventType() == null ? "unknown" : event.getEventType();
+    }
+}
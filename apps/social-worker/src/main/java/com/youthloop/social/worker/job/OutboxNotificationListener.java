@@ -0,0 +1,111 @@
+package com.youthloop.social.worker.job;
+
+import com.youthloop.event.api.facade.OutboxEventCommandFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Outbox LISTEN/NOTIFY 监听器
+ * 
+ * 在独立于连接池的专用连接上 LISTEN outbox 频道，收到通知后立即触发消费者排空队列。
+ * 连接断开时按退避重连，期间由兜底轮询保证事件不丢。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxNotificationListener implements SmartLifecycle {
+
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final OutboxEventConsumer outboxEventConsumer;
+
+    @Value("${outbox.listen.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.listen.wait-timeout-ms:10000}")
+    private int waitTimeoutMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.info("Outbox LISTEN/NOTIFY 已关闭，仅使用轮询");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "outbox-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        long reconnectDelayMs = 1_000;
+        while (running) {
+            try (Connection connection = openConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + OutboxEventCommandFacade.NOTIFY_CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Outbox 监听已建立: channel={}", OutboxEventCommandFacade.NOTIFY_CHANNEL);
+                reconnectDelayMs = 1_000;
+                // 建立监听前提交的事件不会有通知，先排空一次
+                outboxEventConsumer.onNotified();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(Math.max(1, waitTimeoutMs));
+                    if (notifications != null && notifications.length > 0) {
+                        log.debug("收到 Outbox 通知: count={}", notifications.length);
+                        outboxEventConsumer.onNotified();
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Outbox 监听连接异常，{} ms 后重连: {}", reconnectDelayMs, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                reconnectDelayMs = Math.min(MAX_RECONNECT_DELAY_MS, reconnectDelayMs * 2);
+            }
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        return DriverManager.getConnection(
+            dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword()
+        );
+    }
+}
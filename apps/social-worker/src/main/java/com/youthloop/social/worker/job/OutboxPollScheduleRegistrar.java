@@ -0,0 +1,35 @@
+package com.youthloop.social.worker.job;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Outbox 兜底轮询调度：每次执行完成后按消费者当前的退避间隔计算下一次触发时间
+ */
+@Configuration
+@RequiredArgsConstructor
+public class OutboxPollScheduleRegistrar implements SchedulingConfigurer {
+
+    private static final Duration INITIAL_DELAY = Duration.ofSeconds(3);
+
+    private final OutboxEventConsumer outboxEventConsumer;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addTriggerTask(
+            outboxEventConsumer::consumeEvents,
+            triggerContext -> {
+                Instant lastCompletion = triggerContext.lastCompletion();
+                if (lastCompletion == null) {
+                    return Instant.now().plus(INITIAL_DELAY);
+                }
+                return lastCompletion.plusMillis(outboxEventConsumer.currentPollIntervalMs());
+            }
+        );
+    }
+}
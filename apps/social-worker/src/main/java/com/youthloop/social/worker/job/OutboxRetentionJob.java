@@ -0,0 +1,56 @@
+package com.youthloop.social.worker.job;
+
+import com.youthloop.event.api.facade.OutboxEventCommandFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox 分区保留任务
+ *
+ * 定期预建未来的日分区，并整表删除超过保留期且只剩已完成事件的分区，同时清理同一保留期外的已处理事件账本；
+ * 多个 Worker 副本都会调度，由数据库咨询锁保证同一时刻只有一个执行。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRetentionJob {
+
+    private final OutboxEventCommandFacade outboxEventCommandFacade;
+
+    @Value("${outbox.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.retention.days:7}")
+    private int retentionDays;
+
+    @Value("${outbox.retention.premake-days:3}")
+    private int premakeDays;
+
+    @Value("${outbox.retention.archive-done:false}")
+    private boolean archiveDone;
+
+    /**
+     * 默认每小时执行一次；启动后 1 分钟先执行一次，保证当天分区存在
+     */
+    @Scheduled(fixedDelayString = "${outbox.retention.interval-ms:3600000}", initialDelay = 60000)
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int dropped = outboxEventCommandFacade.maintainPartitions(premakeDays, retentionDays, archiveDone);
+            if (dropped > 0) {
+                log.info("Outbox 分区维护完成: dropped={}, retentionDays={}", dropped, retentionDays);
+            }
+            // 账本多保留一天：保留期内的事件仍可能被回收或重放
+            outboxEventCommandFacade.purgeProcessed(LocalDateTime.now().minusDays(Math.max(1, retentionDays) + 1L));
+        } catch (Exception e) {
+            log.error("Outbox 分区维护失败", e);
+        }
+    }
+}
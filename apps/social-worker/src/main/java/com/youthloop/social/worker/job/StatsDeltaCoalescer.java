@@ -0,0 +1,233 @@
+package com.youthloop.social.worker.job;
+
+import com.youthloop.activity.application.service.ActivityStatsUpdateService;
+import com.youthloop.content.application.service.ContentStatsUpdateService;
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import com.youthloop.event.api.facade.OutboxEventCommandFacade;
+import com.youthloop.event.domain.EventType;
+import com.youthloop.event.domain.payload.CommentCreatedPayload;
+import com.youthloop.event.domain.payload.CommentDeletedPayload;
+import com.youthloop.event.domain.payload.ReactionChangedPayload;
+import com.youthloop.social.worker.handler.EventHandlerRegistry;
+import com.youthloop.social.worker.handler.EventRoute;
+import com.youthloop.social.worker.handler.IdempotentEventDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 统计计数事件合并器
+ *
+ * 同一批认领的事件中，纯计数类事件（反应变化、评论删除、非回复的评论创建）折叠为每个目标的净增量，
+ * 每个目标只执行一条 {@code like_count = like_count + ?} 形式的 SQL，避免热点行被逐事件读改写。
+ * 幂等性：计数写入与“租约仍由本 Worker 持有的事件置为完成”在同一事务内提交，
+ * 且只累加实际完成的事件 ID 对应的增量；租约已失效的事件由接管者处理，不会被重复计数。
+ * 完成的事件还会以对应 Handler 的消费者名写入已处理账本（与 {@link IdempotentEventDispatcher} 相同），
+ * 账本中已有记录的事件（例如此前已由 Handler 逐个处理过）不再累加。
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatsDeltaCoalescer {
+
+    private static final int TARGET_CONTENT = 1;
+    private static final int TARGET_ACTIVITY = 2;
+
+    private final EventHandlerRegistry eventHandlerRegistry;
+    private final IdempotentEventDispatcher idempotentEventDispatcher;
+    private final OutboxEventCommandFacade outboxEventCommandFacade;
+    private final ContentStatsUpdateService contentStatsUpdateService;
+    private final ActivityStatsUpdateService activityStatsUpdateService;
+
+    /**
+     * 拆分一批事件：可合并的计数事件解析为增量，其余事件（含解析失败的）留给 Handler 逐个处理
+     */
+    public Batch partition(List<OutboxEventDTO> events) {
+        Map<UUID, CounterDelta> deltas = new LinkedHashMap<>();
+        List<OutboxEventDTO> remaining = new ArrayList<>();
+        for (OutboxEventDTO event : events) {
+            CounterDelta delta = toDelta(event);
+            if (delta != null) {
+                deltas.put(event.getId(), delta);
+            } else {
+                remaining.add(event);
+            }
+        }
+        return new Batch(deltas, remaining);
+    }
+
+    /**
+     * 在一个事务内批量完成事件并写入合并后的净增量
+     *
+     * @return 实际完成的事件 ID
+     */
+    @Transactional
+    public List<UUID> apply(Batch batch, String workerId) {
+        if (batch.deltas().isEmpty()) {
+            return List.of();
+        }
+        List<UUID> acknowledged = outboxEventCommandFacade.markDoneBatch(
+            new ArrayList<>(batch.deltas().keySet()), workerId
+        );
+
+        Collection<UUID> fresh = recordProcessed(batch, acknowledged);
+
+        // 按目标 ID 排序写入，多个 Worker 并发时加锁顺序一致，避免死锁
+        Map<TargetKey, int[]> folded = new TreeMap<>();
+        for (UUID eventId : fresh) {
+            CounterDelta delta = batch.deltas().get(eventId);
+            int[] counters = folded.computeIfAbsent(
+                new TargetKey(delta.targetType(), delta.targetId()), key -> new int[4]
+            );
+            counters[0] += delta.like();
+            counters[1] += delta.fav();
+            counters[2] += delta.down();
+            counters[3] += delta.comment();
+        }
+
+        for (Map.Entry<TargetKey, int[]> entry : folded.entrySet()) {
+            int[] c = entry.getValue();
+            if (c[0] == 0 && c[1] == 0 && c[2] == 0 && c[3] == 0) {
+                continue;
+            }
+            TargetKey target = entry.getKey();
+            if (target.targetType() == TARGET_CONTENT) {
+                contentStatsUpdateService.applyCounterDeltas(target.targetId(), c[0], c[1], c[2], c[3]);
+            } else {
+                activityStatsUpdateService.applyCounterDeltas(target.targetId(), c[0], c[1], c[2], c[3]);
+            }
+        }
+
+        if (acknowledged.size() < batch.deltas().size()) {
+            log.warn("部分计数事件租约已失效，已跳过: total={}, done={}",
+                batch.deltas().size(), acknowledged.size());
+        }
+        if (fresh.size() < acknowledged.size()) {
+            log.debug("部分计数事件已处理过，未重复累加: done={}, applied={}", acknowledged.size(), fresh.size());
+        }
+        log.debug("合并计数事件: events={}, targets={}", fresh.size(), folded.size());
+        return acknowledged;
+    }
+
+    // === 私有方法 ===
+
+    /**
+     * 在当前事务内按消费者写入已处理账本
+     *
+     * @return 首次处理、需要累加增量的事件 ID
+     */
+    private Collection<UUID> recordProcessed(Batch batch, List<UUID> acknowledged) {
+        if (!idempotentEventDispatcher.isEnabled() || acknowledged.isEmpty()) {
+            return acknowledged;
+        }
+        Map<String, List<UUID>> byConsumer = new LinkedHashMap<>();
+        for (UUID eventId : acknowledged) {
+            byConsumer.computeIfAbsent(batch.deltas().get(eventId).consumer(), key -> new ArrayList<>()).add(eventId);
+        }
+        Set<UUID> fresh = new HashSet<>();
+        byConsumer.forEach((consumer, eventIds) ->
+            fresh.addAll(outboxEventCommandFacade.recordProcessedBatch(eventIds, consumer)));
+        return fresh;
+    }
+
+    /**
+     * 解析为计数增量；不可合并（回复需要发通知、未知目标或负载异常）时返回 null
+     */
+    private CounterDelta toDelta(OutboxEventDTO event) {
+        String eventType = event.getEventType();
+        if (!EventType.REACTION_CHANGED.equals(eventType)
+            && !EventType.COMMENT_CREATED.equals(eventType)
+            && !EventType.COMMENT_DELETED.equals(eventType)) {
+            return null;
+        }
+        EventRoute<?> route = eventHandlerRegistry.route(eventType);
+        if (route == null) {
+            return null;
+        }
+        try {
+            // 与 Handler 共用预建的 ObjectReader
+            String consumer = idempotentEventDispatcher.consumerName(route);
+            return switch (route.decode(event)) {
+                case CommentCreatedPayload payload -> payload.getParentId() != null
+                    // 回复需要创建通知，仍走 Handler
+                    ? null
+                    : counterDelta(consumer, payload.getTargetType(), payload.getTargetId(), 0, 0, 0, 1);
+                case CommentDeletedPayload payload ->
+                    counterDelta(consumer, payload.getTargetType(), payload.getTargetId(), 0, 0, 0, -1);
+                case ReactionChangedPayload payload -> reactionDelta(consumer, payload);
+                default -> null;
+            };
+        } catch (Exception e) {
+            log.debug("计数事件无法合并，交由 Handler 处理: id={}", event.getId());
+            return null;
+        }
+    }
+
+    private CounterDelta reactionDelta(String consumer, ReactionChangedPayload payload) {
+        if (payload.getReactionType() == null) {
+            return null;
+        }
+        int sign = Integer.valueOf(1).equals(payload.getAction()) ? 1 : -1;
+        return switch (payload.getReactionType()) {
+            case 1 -> counterDelta(consumer, payload.getTargetType(), payload.getTargetId(), sign, 0, 0, 0);
+            case 2 -> counterDelta(consumer, payload.getTargetType(), payload.getTargetId(), 0, sign, 0, 0);
+            case 3 -> counterDelta(consumer, payload.getTargetType(), payload.getTargetId(), 0, 0, sign, 0);
+            default -> null;
+        };
+    }
+
+    private CounterDelta counterDelta(
+        String consumer,
+        Integer targetType,
+        UUID targetId,
+        int like,
+        int fav,
+        int down,
+        int comment
+    ) {
+        if (targetType == null || (targetType != TARGET_CONTENT && targetType != TARGET_ACTIVITY) || targetId == null) {
+            return null;
+        }
+        return new CounterDelta(consumer, targetType, targetId, like, fav, down, comment);
+    }
+
+    /**
+     * 拆分结果：eventId -> 增量，以及需要逐个处理的事件
+     */
+    public record Batch(Map<UUID, CounterDelta> deltas, List<OutboxEventDTO> remaining) {
+    }
+
+    /**
+     * 单个事件对目标计数的增量，consumer 为该事件 Handler 在已处理账本中的消费者名
+     */
+    public record CounterDelta(
+        String consumer,
+        int targetType,
+        UUID targetId,
+        int like,
+        int fav,
+        int down,
+        int comment
+    ) {
+    }
+
+    private record TargetKey(int targetType, UUID targetId) implements Comparable<TargetKey> {
+
+        @Override
+        public int compareTo(TargetKey other) {
+            int byType = Integer.compare(targetType, other.targetType);
+            return byType != 0 ? byType : targetId.compareTo(other.targetId);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.youthloop.social.worker.relay;
+
+import com.youthloop.event.api.dto.OutboxEventDTO;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Outbox 中继使用的消息代理抽象
+ * 
+ * 每个事件类型对应一个 fanout 交换机；消费方为每个处理器声明一个队列并绑定到其处理的事件类型交换机，
+ * 同一队列上的多个消费者（可跨进程）互为竞争消费者。
+ */
+public interface OutboxBroker {
+    
+    /**
+     * 代理名称（对应配置 outbox.relay.broker）
+     */
+    String name();
+    
+    /**
+     * 声明交换机；queue 不为空时同时声明队列并绑定（幂等）
+     */
+    void declare(String exchange, String queue);
+    
+    /**
+     * 批量发布并等待代理确认
+     * 
+     * @param exchangeOf 事件 -> 交换机名
+     * @param confirmTimeout 整批确认的等待上限
+     * @return 代理已确认的事件 ID；未确认的事件由调用方按失败重试
+     */
+    Set<UUID> publish(List<OutboxEventDTO> events, Function<OutboxEventDTO, String> exchangeOf, Duration confirmTimeout);
+    
+    /**
+     * 在队列上启动竞争消费者
+     * 
+     * @param concurrency 本进程消费者数
+     * @param prefetch 每个消费者未确认消息上限
+     */
+    void listen(String queue, int concurrency, int prefetch, Listener listener);
+    
+    /**
+     * 停止全部消费者
+     */
+    void stopListening();
+    
+    /**
+     * 队列消息回调；抛出异常表示处理失败，消息延迟后重新投递，达到重试上限后进入死信
+     */
+    @FunctionalInterface
+    interface Listener {
+        
+        void onEvent(OutboxEventDTO event) throws Exception;
+    }
+}
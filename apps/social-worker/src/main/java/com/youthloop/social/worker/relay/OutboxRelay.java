@@ -0,0 +1,175 @@
+package com.youthloop.social.worker.relay;
+
+import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.exception.BizException;
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import com.youthloop.social.worker.handler.EventHandler;
+import com.youthloop.social.worker.handler.EventHandlerRegistry;
+import com.youthloop.social.worker.handler.EventRoute;
+import com.youthloop.social.worker.handler.IdempotentEventDispatcher;
+import com.youthloop.social.worker.job.OutboxMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Outbox 中继（outbox.relay.enabled=true 时启用）
+ *
+ * 生产端：认领到的事件按事件类型发布到 {@code <exchange-prefix><EventType>} fanout 交换机，
+ * 由 {@code OutboxEventConsumer} 在代理确认后批量标记完成，未确认的按失败重试。
+ * 消费端：每个处理器一个队列 {@code <queue-prefix><supportedEventType>}，绑定到其处理的事件类型交换机，
+ * 多个 Worker 副本在同一队列上竞争消费，prefetch 控制每个消费者的在途消息数。
+ * 其他服务可以声明自己的队列绑定到同一交换机，实现扇出。
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    private final List<OutboxBroker> brokers;
+    private final EventHandlerRegistry eventHandlerRegistry;
+    private final IdempotentEventDispatcher idempotentEventDispatcher;
+    private final OutboxMetrics outboxMetrics;
+
+    private final boolean enabled;
+    private final String brokerName;
+    private final String exchangePrefix;
+    private final String queuePrefix;
+    private final boolean consumersEnabled;
+    private final int concurrency;
+    private final int prefetch;
+    private final Duration confirmTimeout;
+
+    private final Set<String> declaredTypes = ConcurrentHashMap.newKeySet();
+    private volatile OutboxBroker broker;
+    private volatile boolean running;
+
+    public OutboxRelay(
+        List<OutboxBroker> brokers,
+        EventHandlerRegistry eventHandlerRegistry,
+        IdempotentEventDispatcher idempotentEventDispatcher,
+        OutboxMetrics outboxMetrics,
+        @Value("${outbox.relay.enabled:false}") boolean enabled,
+        @Value("${outbox.relay.broker:rabbit}") String brokerName,
+        @Value("${outbox.relay.exchange-prefix:youthloop.outbox.}") String exchangePrefix,
+        @Value("${outbox.relay.queue-prefix:social-worker.outbox.}") String queuePrefix,
+        @Value("${outbox.relay.consumers-enabled:true}") boolean consumersEnabled,
+        @Value("${outbox.relay.concurrency:2}") int concurrency,
+        @Value("${outbox.relay.prefetch:20}") int prefetch,
+        @Value("${outbox.relay.confirm-timeout-ms:5000}") long confirmTimeoutMs
+    ) {
+        this.brokers = brokers;
+        this.eventHandlerRegistry = eventHandlerRegistry;
+        this.idempotentEventDispatcher = idempotentEventDispatcher;
+        this.outboxMetrics = outboxMetrics;
+        this.enabled = enabled;
+        this.brokerName = brokerName;
+        this.exchangePrefix = exchangePrefix;
+        this.queuePrefix = queuePrefix;
+        this.consumersEnabled = consumersEnabled;
+        this.concurrency = concurrency;
+        this.prefetch = prefetch;
+        this.confirmTimeout = Duration.ofMillis(Math.max(100, confirmTimeoutMs));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 发布一批事件并等待代理确认
+     *
+     * @return 已确认的事件 ID
+     */
+    public Set<UUID> relay(List<OutboxEventDTO> events) {
+        OutboxBroker target = broker();
+        for (OutboxEventDTO event : events) {
+            ensureTopology(target, event.getEventType());
+        }
+        return target.publish(events, event -> exchangeName(event.getEventType()), confirmTimeout);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        OutboxBroker target = broker();
+        if (consumersEnabled) {
+            for (EventHandler<?> handler : eventHandlerRegistry.handlers()) {
+                String queue = queueName(handler);
+                target.declare(exchangeName(handler.supportedEventType()), queue);
+                target.listen(queue, concurrency, prefetch, this::dispatch);
+            }
+        }
+        running = true;
+        log.info("Outbox 中继已启用: broker={}, consumers={}, concurrency={}, prefetch={}",
+            target.name(), consumersEnabled, concurrency, prefetch);
+    }
+
+    @Override
+    public void stop() {
+        if (broker != null) {
+            broker.stopListening();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // === 私有方法 ===
+
+    /**
+     * 声明事件类型的交换机，并把本地处理器的队列绑定上去（前缀匹配的处理器也能收到新出现的事件类型）；
+     * 没有本地处理器的事件类型只声明交换机，供外部消费者绑定
+     */
+    private void ensureTopology(OutboxBroker target, String eventType) {
+        if (declaredTypes.contains(eventType)) {
+            return;
+        }
+        EventHandler<?> handler = eventHandlerRegistry.find(eventType);
+        target.declare(exchangeName(eventType), handler == null ? null : queueName(handler));
+        declaredTypes.add(eventType);
+    }
+
+    private OutboxBroker broker() {
+        if (broker == null) {
+            broker = brokers.stream()
+                .filter(candidate -> candidate.name().equals(brokerName))
+                .findFirst()
+                .orElseThrow(() -> new BizException(ErrorCode.SYSTEM_ERROR, "未知的 Outbox 代理: " + brokerName));
+        }
+        return broker;
+    }
+
+    private String exchangeName(String eventType) {
+        return exchangePrefix + eventType;
+    }
+
+    private String queueName(EventHandler<?> handler) {
+        return queuePrefix + handler.supportedEventType();
+    }
+
+    /**
+     * 队列消费侧：按事件类型路由，经账本幂等执行并记录 Handler 执行耗时（至少一次投递的重复消息被跳过）
+     */
+    private void dispatch(OutboxEventDTO event) throws Exception {
+        EventRoute<?> route = eventHandlerRegistry.route(event.getEventType());
+        if (route == null) {
+            log.warn("队列中收到无处理器的事件，忽略: id={}, type={}", event.getId(), event.getEventType());
+            return;
+        }
+        long start = System.nanoTime();
+        idempotentEventDispatcher.dispatch(route, event);
+        outboxMetrics.recordHandler(event.getEventType(), System.nanoTime() - start);
+    }
+}
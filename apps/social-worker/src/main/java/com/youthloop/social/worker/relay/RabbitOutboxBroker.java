@@ -0,0 +1,246 @@
+package com.youthloop.social.worker.relay;
+
+import com.rabbitmq.client.Channel;
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * RabbitMQ 代理实现
+ *
+ * 发布使用 publisher confirms（需 spring.rabbitmq.publisher-confirm-type=correlated）：整批发送后统一等待确认，
+ * 只有收到 ack 的事件才会被标记完成。
+ * 消费端手动确认：处理成功后 ack；失败时带上投递次数头重新发布到 {@code <queue>.retry}，
+ * 该队列的消息 TTL 到期后经死信交换机回到原队列，相当于延迟重试；
+ * 投递次数达到上限后 nack（不重新入队），经死信交换机进入 {@code <queue>.dlq}。
+ */
+@Slf4j
+@Component
+public class RabbitOutboxBroker implements OutboxBroker {
+
+    private static final String HEADER_CREATED_AT = "x-outbox-created-at";
+    private static final String HEADER_RETRY_COUNT = "x-outbox-retry-count";
+    private static final String HEADER_DELIVERY_ATTEMPT = "x-outbox-delivery-attempt";
+    private static final String DEAD_LETTER_SUFFIX = ".dlq";
+    private static final String RETRY_SUFFIX = ".retry";
+
+    private final ConnectionFactory connectionFactory;
+    private final RabbitTemplate rabbitTemplate;
+    private final AmqpAdmin amqpAdmin;
+    private final int maxAttempts;
+    private final long retryDelayMs;
+
+    private final Set<String> declaredExchanges = ConcurrentHashMap.newKeySet();
+    private final Set<String> declaredQueues = ConcurrentHashMap.newKeySet();
+    private final Set<String> declaredBindings = ConcurrentHashMap.newKeySet();
+    private final List<SimpleMessageListenerContainer> containers = new CopyOnWriteArrayList<>();
+
+    public RabbitOutboxBroker(
+        ConnectionFactory connectionFactory,
+        RabbitTemplate rabbitTemplate,
+        AmqpAdmin amqpAdmin,
+        @Value("${outbox.relay.max-attempts:5}") int maxAttempts,
+        @Value("${outbox.relay.retry-delay-ms:10000}") long retryDelayMs
+    ) {
+        this.connectionFactory = connectionFactory;
+        this.rabbitTemplate = rabbitTemplate;
+        this.amqpAdmin = amqpAdmin;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelayMs = Math.max(0, retryDelayMs);
+    }
+
+    @Override
+    public String name() {
+        return "rabbit";
+    }
+
+    @Override
+    public void declare(String exchange, String queue) {
+        if (declaredExchanges.add(exchange)) {
+            amqpAdmin.declareExchange(new FanoutExchange(exchange, true, false));
+        }
+        if (queue == null || !declaredBindings.add(exchange + "->" + queue)) {
+            return;
+        }
+        if (declaredQueues.add(queue)) {
+            // 超过重试次数的消息经默认交换机路由到同名 .dlq 队列
+            amqpAdmin.declareQueue(QueueBuilder.durable(queue + DEAD_LETTER_SUFFIX).build());
+            // 重试队列没有消费者，消息 TTL 到期后回到原队列
+            amqpAdmin.declareQueue(QueueBuilder.durable(queue + RETRY_SUFFIX)
+                .ttl((int) Math.min(Integer.MAX_VALUE, retryDelayMs))
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(queue)
+                .build());
+            Queue durable = QueueBuilder.durable(queue)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(queue + DEAD_LETTER_SUFFIX)
+                .build();
+            amqpAdmin.declareQueue(durable);
+        }
+        Binding binding = BindingBuilder.bind(new Queue(queue)).to(new FanoutExchange(exchange));
+        amqpAdmin.declareBinding(binding);
+    }
+
+    @Override
+    public Set<UUID> publish(List<OutboxEventDTO> events, Function<OutboxEventDTO, String> exchangeOf,
+                             Duration confirmTimeout) {
+        Map<UUID, CorrelationData> pending = new LinkedHashMap<>();
+        for (OutboxEventDTO event : events) {
+            CorrelationData correlation = new CorrelationData(event.getId().toString());
+            try {
+                rabbitTemplate.send(exchangeOf.apply(event), "", toMessage(event), correlation);
+                pending.put(event.getId(), correlation);
+            } catch (Exception e) {
+                log.warn("发布事件到 RabbitMQ 失败: id={}, type={}, error={}",
+                    event.getId(), event.getEventType(), e.getMessage());
+            }
+        }
+
+        Set<UUID> confirmed = new HashSet<>();
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        for (Map.Entry<UUID, CorrelationData> entry : pending.entrySet()) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                CorrelationData.Confirm confirm = entry.getValue().getFuture().get(remaining, TimeUnit.NANOSECONDS);
+                if (confirm.isAck()) {
+                    confirmed.add(entry.getKey());
+                } else {
+                    log.warn("RabbitMQ 拒绝事件: id={}, reason={}", entry.getKey(), confirm.getReason());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("等待 RabbitMQ 确认超时或失败: id={}", entry.getKey());
+            }
+        }
+        return confirmed;
+    }
+
+    @Override
+    public void listen(String queue, int concurrency, int prefetch, Listener listener) {
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueueNames(queue);
+        container.setConcurrentConsumers(Math.max(1, concurrency));
+        container.setPrefetchCount(Math.max(1, prefetch));
+        container.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        container.setMessageListener((ChannelAwareMessageListener) (message, channel) -> {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            try {
+                listener.onEvent(fromMessage(message));
+            } catch (Exception e) {
+                retryOrReject(queue, message, channel, e);
+                return;
+            }
+            channel.basicAck(deliveryTag, false);
+        });
+        container.start();
+        containers.add(container);
+        log.info("RabbitMQ 消费者已启动: queue={}, concurrency={}, prefetch={}", queue, concurrency, prefetch);
+    }
+
+    @Override
+    public void stopListening() {
+        for (SimpleMessageListenerContainer container : new ArrayList<>(containers)) {
+            container.stop();
+        }
+        containers.clear();
+    }
+
+    // === 私有方法 ===
+
+    /**
+     * 处理失败：未达上限时发布到重试队列后确认原消息，否则拒绝进入死信队列
+     *
+     * 先发布再确认，两步之间崩溃只会造成重复投递，由已处理账本去重
+     */
+    private void retryOrReject(String queue, Message message, Channel channel, Exception failure) throws IOException {
+        MessageProperties properties = message.getMessageProperties();
+        Object header = properties.getHeader(HEADER_DELIVERY_ATTEMPT);
+        int attempt = (header instanceof Number number ? number.intValue() : 0) + 1;
+        if (attempt >= maxAttempts) {
+            log.warn("队列消息处理失败且已达重试上限，进入死信: queue={}, id={}, attempts={}",
+                queue, properties.getMessageId(), attempt, failure);
+            channel.basicNack(properties.getDeliveryTag(), false, false);
+            return;
+        }
+        try {
+            properties.setHeader(HEADER_DELIVERY_ATTEMPT, attempt);
+            rabbitTemplate.send("", queue + RETRY_SUFFIX, new Message(message.getBody(), properties));
+        } catch (Exception e) {
+            // 发布重试消息失败时放回原队列，避免丢消息
+            log.warn("发布重试消息失败，放回原队列: queue={}, id={}", queue, properties.getMessageId(), e);
+            channel.basicNack(properties.getDeliveryTag(), false, true);
+            return;
+        }
+        log.warn("队列消息处理失败，{}ms 后重试: queue={}, id={}, attempt={}, error={}",
+            retryDelayMs, queue, properties.getMessageId(), attempt, failure.getMessage());
+        channel.basicAck(properties.getDeliveryTag(), false);
+    }
+
+    private Message toMessage(OutboxEventDTO event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(event.getId().toString());
+        properties.setType(event.getEventType());
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        if (event.getCreatedAt() != null) {
+            properties.setHeader(HEADER_CREATED_AT, event.getCreatedAt().toString());
+        }
+        properties.setHeader(HEADER_RETRY_COUNT, event.getRetryCount());
+        byte[] body = event.getPayloadBytes();
+        if (body == null) {
+            body = (event.getPayload() == null ? "{}" : event.getPayload()).getBytes(StandardCharsets.UTF_8);
+        }
+        return new Message(body, properties);
+    }
+
+    private OutboxEventDTO fromMessage(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        OutboxEventDTO event = new OutboxEventDTO();
+        event.setId(UUID.fromString(properties.getMessageId()));
+        event.setEventType(properties.getType());
+        // 保留原始字节，由 EventRoute 直接反序列化
+        event.setPayloadBytes(message.getBody());
+        Object createdAt = properties.getHeader(HEADER_CREATED_AT);
+        if (createdAt != null) {
+            event.setCreatedAt(LocalDateTime.parse(createdAt.toString()));
+        }
+        Object retryCount = properties.getHeader(HEADER_RETRY_COUNT);
+        event.setRetryCount(retryCount instanceof Number number ? number.intValue() : 0);
+        return event;
+    }
+}
@@ -0,0 +1,126 @@
+package com.youthloop.social.worker.relay;
+
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+/**
+ * 进程内代理替身，用于中继测试
+ *
+ * 语义与 RabbitMQ 实现保持一致：fanout 交换机复制到每个绑定队列，发布即确认，
+ * 同一队列上的多个消费者竞争消费，处理失败的消息重新入队（不延迟），达到投递上限后进入该队列的死信列表。
+ * 消息只保存在内存中，进程退出即丢失。
+ */
+@Slf4j
+public class InMemoryOutboxBroker implements OutboxBroker {
+
+    private final Map<String, Set<String>> bindings = new ConcurrentHashMap<>();
+    private final Map<String, BlockingQueue<OutboxEventDTO>> queues = new ConcurrentHashMap<>();
+    private final Map<String, List<OutboxEventDTO>> deadLetters = new ConcurrentHashMap<>();
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+    private final List<Thread> consumers = new CopyOnWriteArrayList<>();
+    private final int maxAttempts;
+
+    public InMemoryOutboxBroker(int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public void declare(String exchange, String queue) {
+        Set<String> bound = bindings.computeIfAbsent(exchange, key -> ConcurrentHashMap.newKeySet());
+        if (queue != null) {
+            queues.computeIfAbsent(queue, key -> new LinkedBlockingQueue<>());
+            bound.add(queue);
+        }
+    }
+
+    @Override
+    public Set<UUID> publish(List<OutboxEventDTO> events, Function<OutboxEventDTO, String> exchangeOf,
+                             Duration confirmTimeout) {
+        Set<UUID> confirmed = new HashSet<>();
+        for (OutboxEventDTO event : events) {
+            Set<String> bound = bindings.getOrDefault(exchangeOf.apply(event), Set.of());
+            for (String queue : bound) {
+                queues.get(queue).add(event);
+            }
+            confirmed.add(event.getId());
+        }
+        return confirmed;
+    }
+
+    /**
+     * prefetch 在进程内无意义（消费者每次只取一条），并发度即消费者线程数
+     */
+    @Override
+    public void listen(String queue, int concurrency, int prefetch, Listener listener) {
+        BlockingQueue<OutboxEventDTO> source = queues.computeIfAbsent(queue, key -> new LinkedBlockingQueue<>());
+        for (int i = 0; i < Math.max(1, concurrency); i++) {
+            Thread consumer = Thread.ofVirtual().name("outbox-memory-" + queue + "-" + i).start(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    OutboxEventDTO event;
+                    try {
+                        event = source.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    String attemptKey = queue + "/" + event.getId();
+                    try {
+                        listener.onEvent(event);
+                        attempts.remove(attemptKey);
+                    } catch (Exception e) {
+                        if (attempts.merge(attemptKey, 1, Integer::sum) < maxAttempts) {
+                            log.warn("进程内队列消费失败，重新入队: queue={}, id={}", queue, event.getId(), e);
+                            source.add(event);
+                            continue;
+                        }
+                        attempts.remove(attemptKey);
+                        log.warn("进程内队列消费失败且已达重试上限，进入死信: queue={}, id={}", queue, event.getId(), e);
+                        deadLetters.computeIfAbsent(queue, key -> new CopyOnWriteArrayList<>()).add(event);
+                    }
+                }
+            });
+            consumers.add(consumer);
+        }
+    }
+
+    @Override
+    public void stopListening() {
+        for (Thread consumer : new ArrayList<>(consumers)) {
+            consumer.interrupt();
+        }
+        consumers.clear();
+    }
+
+    /**
+     * 队列中尚未被消费的消息数
+     */
+    public int queueDepth(String queue) {
+        BlockingQueue<OutboxEventDTO> source = queues.get(queue);
+        return source == null ? 0 : source.size();
+    }
+
+    /**
+     * 队列的死信（处理失败的消息）
+     */
+    public List<OutboxEventDTO> deadLetters(String queue) {
+        return List.copyOf(deadLetters.getOrDefault(queue, List.of()));
+    }
+}
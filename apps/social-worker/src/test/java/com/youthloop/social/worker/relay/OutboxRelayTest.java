@@ -0,0 +1,241 @@
+package com.youthloop.social.worker.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import com.youthloop.event.api.facade.OutboxEventCommandFacade;
+import com.youthloop.social.worker.handler.EventHandler;
+import com.youthloop.social.worker.handler.EventHandlerRegistry;
+import com.youthloop.social.worker.handler.IdempotentEventDispatcher;
+import com.youthloop.social.worker.job.OutboxEventConsumer;
+import com.youthloop.social.worker.job.OutboxLaneDispatcher;
+import com.youthloop.social.worker.job.OutboxMetrics;
+import com.youthloop.social.worker.job.StatsDeltaCoalescer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class OutboxRelayTest {
+
+    private static final String EVENT_TYPE = "RELAY_TEST";
+    private static final String QUEUE = "social-worker.outbox." + EVENT_TYPE;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private OutboxEventCommandFacade outboxEventCommandFacade;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OutboxMetrics outboxMetrics;
+
+    @Mock
+    private OutboxLaneDispatcher outboxLaneDispatcher;
+
+    @Mock
+    private StatsDeltaCoalescer statsDeltaCoalescer;
+
+    private InMemoryOutboxBroker broker;
+    private RecordingHandler handler;
+    private OutboxRelay relay;
+    private OutboxEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(outboxEventCommandFacade.recordProcessed(any(), anyString())).thenReturn(true);
+        when(outboxEventCommandFacade.markDoneBatch(any(), anyString()))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        broker = new InMemoryOutboxBroker(MAX_ATTEMPTS);
+        handler = new RecordingHandler();
+        EventHandlerRegistry registry = new EventHandlerRegistry(List.of(handler), new ObjectMapper());
+        IdempotentEventDispatcher dispatcher = new IdempotentEventDispatcher(
+            outboxEventCommandFacade, new TransactionTemplate(transactionManager), true, 1000, 0.01
+        );
+        relay = new OutboxRelay(List.of(broker), registry, dispatcher, outboxMetrics,
+            true, "memory", "youthloop.outbox.", "social-worker.outbox.", true, 1, 1, 1000);
+        relay.start();
+
+        consumer = new OutboxEventConsumer(outboxEventCommandFacade, registry, dispatcher,
+            outboxLaneDispatcher, statsDeltaCoalescer, relay, outboxMetrics);
+        ReflectionTestUtils.setField(consumer, "batchSize", 10);
+        ReflectionTestUtils.setField(consumer, "leaseSeconds", 60L);
+        ReflectionTestUtils.invokeMethod(consumer, "initWorkerId");
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.stop();
+    }
+
+    @Test
+    void publishedEventShouldBeMarkedDoneAndHandledOnce() throws Exception {
+        OutboxEventDTO event = event("ok");
+        when(outboxEventCommandFacade.claimEvents(anyString(), anyInt(), any()))
+            .thenReturn(List.of(event), List.of());
+
+        consumer.onNotified();
+
+        verify(outboxEventCommandFacade).markDoneBatch(eq(List.of(event.getId())), anyString());
+        verify(outboxEventCommandFacade, never()).markFailed(any(), anyString(), anyInt(), anyString());
+        assertTrue(handler.succeeded.await(5, TimeUnit.SECONDS));
+        assertEquals(1, handler.calls.get());
+        verify(outboxEventCommandFacade).recordProcessed(event.getId(), "RecordingHandler");
+        verify(transactionManager, timeout(5000)).commit(any());
+        assertEquals(0, broker.queueDepth(QUEUE));
+        assertTrue(broker.deadLetters(QUEUE).isEmpty());
+    }
+
+    @Test
+    void transientFailureShouldBeRetriedWithoutDeadLetter() throws Exception {
+        handler.failuresBeforeSuccess = 1;
+        OutboxEventDTO event = event("flaky");
+        when(outboxEventCommandFacade.claimEvents(anyString(), anyInt(), any()))
+            .thenReturn(List.of(event), List.of());
+
+        consumer.onNotified();
+
+        assertTrue(handler.succeeded.await(5, TimeUnit.SECONDS));
+        assertEquals(2, handler.calls.get());
+        // 第一次失败回滚账本事务，重试成功后提交（Handler 返回后才提交，需等待）
+        verify(transactionManager, timeout(5000)).commit(any());
+        verify(transactionManager).rollback(any());
+        assertTrue(broker.deadLetters(QUEUE).isEmpty());
+    }
+
+    @Test
+    void persistentFailureShouldEndInDeadLetterAfterMaxAttempts() throws Exception {
+        handler.failuresBeforeSuccess = Integer.MAX_VALUE;
+        OutboxEventDTO event = event("broken");
+        when(outboxEventCommandFacade.claimEvents(anyString(), anyInt(), any()))
+            .thenReturn(List.of(event), List.of());
+
+        consumer.onNotified();
+
+        // 发布已确认，Outbox 行照常完成；后续失败由队列侧重试与死信负责
+        verify(outboxEventCommandFacade).markDoneBatch(eq(List.of(event.getId())), anyString());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broker.deadLetters(QUEUE).isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(event.getId()), broker.deadLetters(QUEUE).stream().map(OutboxEventDTO::getId).toList());
+        assertEquals(MAX_ATTEMPTS, handler.calls.get());
+        verify(transactionManager, times(MAX_ATTEMPTS)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void unconfirmedPublishShouldBeMarkedFailed() {
+        OutboxEventDTO event = event("orphan");
+        event.setEventType("RELAY_UNBOUND");
+        when(outboxEventCommandFacade.claimEvents(anyString(), anyInt(), any()))
+            .thenReturn(List.of(event), List.of());
+        EventHandlerRegistry registry = new EventHandlerRegistry(List.of(handler), new ObjectMapper());
+        OutboxRelay failing = new OutboxRelay(List.of(new RejectingBroker()), registry, null, outboxMetrics,
+            true, "rejecting", "x.", "q.", false, 1, 1, 1000);
+        OutboxEventConsumer rejectingConsumer = new OutboxEventConsumer(outboxEventCommandFacade, null, null,
+            outboxLaneDispatcher, statsDeltaCoalescer, failing, outboxMetrics);
+        ReflectionTestUtils.setField(rejectingConsumer, "batchSize", 10);
+        ReflectionTestUtils.invokeMethod(rejectingConsumer, "initWorkerId");
+
+        rejectingConsumer.onNotified();
+
+        verify(outboxEventCommandFacade).markFailed(eq(event.getId()), anyString(), eq(1), anyString());
+        verify(outboxEventCommandFacade, never()).markDoneBatch(any(), anyString());
+    }
+
+    // === 辅助方法 ===
+
+    private OutboxEventDTO event(String value) {
+        OutboxEventDTO event = new OutboxEventDTO();
+        event.setId(UUID.randomUUID());
+        event.setEventType(EVENT_TYPE);
+        event.setPayload("{\"value\":\"" + value + "\"}");
+        event.setRetryCount(0);
+        event.setCreatedAt(LocalDateTime.now());
+        return event;
+    }
+
+    record TestPayload(String value) {
+    }
+
+    static class RecordingHandler implements EventHandler<TestPayload> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch succeeded = new CountDownLatch(1);
+        private volatile int failuresBeforeSuccess;
+
+        @Override
+        public void handle(OutboxEventDTO event, TestPayload payload) {
+            if (calls.incrementAndGet() <= failuresBeforeSuccess) {
+                throw new IllegalStateException("handler failure: " + payload.value());
+            }
+            succeeded.countDown();
+        }
+
+        @Override
+        public Class<TestPayload> payloadType() {
+            return TestPayload.class;
+        }
+
+        @Override
+        public String supportedEventType() {
+            return EVENT_TYPE;
+        }
+    }
+
+    /**
+     * 从不确认发布的代理
+     */
+    static class RejectingBroker extends InMemoryOutboxBroker {
+
+        RejectingBroker() {
+            super(1);
+        }
+
+        @Override
+        public String name() {
+            return "rejecting";
+        }
+
+        @Override
+        public Set<UUID> publish(List<OutboxEventDTO> events, Function<OutboxEventDTO, String> exchangeOf,
+                                 Duration confirmTimeout) {
+            return Set.of();
+        }
+    }
+}
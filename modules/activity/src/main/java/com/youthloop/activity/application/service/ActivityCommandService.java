@@ -12,6 +12,8 @@ import com.youthloop.activity.persistence.mapper.ActivityMapper;
 import com.youthloop.activity.persistence.mapper.ActivitySessionMapper;
 import com.youthloop.activity.persistence.mapper.ActivityStatsMapper;
 import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.common.exception.BizException;
 import com.youthloop.common.util.SecurityUtil;
 import com.youthloop.event.application.service.OutboxEventService;
@@ -39,6 +41,7 @@ public class ActivityCommandService {
     private final ActivitySessionMapper activitySessionMapper;
     private final OutboxEventService outboxEventService;
     private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
     
     /**
      * 主办方创建活动
@@ -106,6 +109,7 @@ public class ActivityCommandService {
         eventPayload.put("title", entity.getTitle());
         eventPayload.put("hostUserId", currentUserId.toString());
         outboxEventService.publishEvent("ACTIVITY_CREATED", eventPayload);
+        cacheInvalidationBus.publish(CacheRegions.ACTIVITY_LIST);
         
         log.info("主办方活动创建成功: id={}", entity.getId());
         return entity.getId();
@@ -186,6 +190,7 @@ public class ActivityCommandService {
             eventPayload.put("status", request.getStatus());
         }
         outboxEventService.publishEvent("ACTIVITY_UPDATED", eventPayload);
+        cacheInvalidationBus.publish(CacheRegions.ACTIVITY_LIST);
         
         log.info("主办方活动更新成功: id={}", activityId);
     }
@@ -6,6 +6,8 @@ import com.youthloop.activity.persistence.entity.ActivityEntity;
 import com.youthloop.activity.persistence.entity.ActivitySignupEntity;
 import com.youthloop.activity.persistence.mapper.ActivityMapper;
 import com.youthloop.activity.persistence.mapper.ActivitySignupMapper;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.common.exception.BizException;
 import com.youthloop.common.util.SecurityUtil;
 import com.youthloop.event.application.service.OutboxEventService;
@@ -29,6 +31,7 @@ public class ActivitySignupService {
     private final ActivitySignupMapper activitySignupMapper;
     private final ActivityMapper activityMapper;
     private final OutboxEventService outboxEventService;
+    private final CacheInvalidationBus cacheInvalidationBus;
     
     /**
      * 报名活动（支持登录用户和游客）
@@ -123,6 +126,7 @@ public class ActivitySignupService {
             activity.getHostUserId()  // 携带主办方 ID
         );
         outboxEventService.publishEvent("SIGNUP_CREATED", payload);
+        invalidateUserLists(entity.getUserId());
         
         return mapToResponse(entity);
     }
@@ -188,6 +192,7 @@ public class ActivitySignupService {
             activity.getHostUserId()  // 携带主办方 ID
         );
         outboxEventService.publishEvent("SIGNUP_CANCELED", payload);
+        invalidateUserLists(signup.getUserId());
     }
     
     /**
@@ -335,6 +340,7 @@ public class ActivitySignupService {
             activity.getHostUserId()  // 携带主办方 ID
         );
         outboxEventService.publishEvent("SIGNUP_AUDITED", payload);
+        invalidateUserLists(signup.getUserId());
     }
     
     /**
@@ -349,4 +355,14 @@ public class ActivitySignupService {
         response.setCreatedAt(entity.getCreatedAt());
         return response;
     }
+    
+    /**
+     * 失效报名用户“我的活动”列表的缓存总数与已报名活动集合（游客报名没有用户 ID）
+     */
+    private void invalidateUserLists(UUID userId) {
+        if (userId != null) {
+            cacheInvalidationBus.publish(CacheRegions.USER_LIST, userId.toString());
+            cacheInvalidationBus.publish(CacheRegions.USER_INTERACTION, userId.toString());
+        }
+    }
 }
@@ -13,6 +13,8 @@ import java.util.UUID;
 /**
  * 活动统计更新服务
  * 由 Worker 异步调用，更新统计表
+ * 所有计数变更都是一条 {@code INSERT ... ON CONFLICT DO UPDATE SET x = GREATEST(0, x + delta) RETURNING}，
+ * 并发下不丢更新，也不需要先查询
  */
 @Slf4j
 @Service
@@ -26,10 +28,7 @@ public class ActivityStatsUpdateService {
      */
     @Transactional
     public void incrementLikeCount(UUID activityId) {
-        ActivityStatsEntity stats = getOrCreateStats(activityId);
-        stats.setLikeCount(stats.getLikeCount() + 1);
-        stats.setUpdatedAt(LocalDateTime.now());
-        activityStatsMapper.update(stats);
+        ActivityStatsEntity stats = applyDelta(activityId, 1, 0, 0, 0);
         log.info("活动点赞数+1: activityId={}, newCount={}", activityId, stats.getLikeCount());
     }
     
@@ -38,10 +37,7 @@ public class ActivityStatsUpdateService {
      */
     @Transactional
     public void decrementLikeCount(UUID activityId) {
-        ActivityStatsEntity stats = getOrCreateStats(activityId);
-        stats.setLikeCount(Math.max(0, stats.getLikeCount() - 1));
-        stats.setUpdatedAt(LocalDateTime.now());
-        activityStatsMapper.update(stats);
+        ActivityStatsEntity stats = applyDelta(activityId, -1, 0, 0, 0);
         log.info("活动点赞数-1: activityId={}, newCount={}", activityId, stats.getLikeCount());
     }
     
@@ -50,10 +46,7 @@ public class ActivityStatsUpdateService {
      */
     @Transactional
     public void incrementFavCount(UUID activityId) {
-        ActivityStatsEntity stats = getOrCreateStats(activityId);
-        stats.setFavCount(stats.getFavCount() + 1);
-        stats.setUpdatedAt(LocalDateTime.now());
-        activityStatsMapper.update(stats);
+        ActivityStatsEntity stats = applyDelta(activityId, 0, 1, 0, 0);
         log.info("活动收藏数+1: activityId={}, newCount={}", activityId, stats.getFavCount());
     }
     
@@ -62,10 +55,7 @@ public class ActivityStatsUpdateService {
      */
     @Transactional
     public void decrementFavCount(UUID activityId) {
-        ActivityStatsEntity stats = getOrCreateStats(activityId);
-        stats.setFavCount(Math.max(0, stats.getFavCount() - 1));
-        stats.setUpdatedAt(LocalDateTime.now());
-        activityStatsMapper.update(stats);
+        ActivityStatsEntity stats = applyDelta(activityId, 0, -1, 0, 0);
         log.info("活动收藏数-1: activityId={}, newCount={}", activityId, stats.getFavCount());
     }
     
@@ -74,10 +64,7 @@ public class ActivityStatsUpdateService {
      */
     @Transactional
     public void incrementDownCount(UUID activityId) {
-        ActivityStatsEntity stats = getOrCreateStats(activityId);
-        stats.setDownCount(stats.getDownCount() + 1);
-        stats.setUpdatedAt(LocalDateTime.now());
-        activityStatsMapper.update(stats);
+        ActivityStatsEntity stats = applyDelta(activityId, 0, 0, 1, 0);
         log.info("活动踩数+1: activityId={}, newCount={}", activityId, stats.getDownCount());
     }
     
@@ -86,10 +73,7 @@ public class ActivityStatsUpdateService {
      */
     @Transactional
     public void decrementDownCount(UUID activityId) {
-        ActivityStatsEntity stats = getOrCreateStats(activityId);
-        stats.setDownCount(Math.max(0, stats.getDownCount() - 1));
-        stats.setUpdatedAt(LocalDateTime.now());
-        activityStatsMapper.update(stats);
+        ActivityStatsEntity stats = applyDelta(activityId, 0, 0, -1, 0);
         log.info("活动踩数-1: activityId={}, newCount={}", activityId, stats.getDownCount());
     }
     
@@ -98,10 +82,7 @@ public class ActivityStatsUpdateService {
      */
     @Transactional
     public void incrementCommentCount(UUID activityId) {
-        ActivityStatsEntity stats = getOrCreateStats(activityId);
-        stats.setCommentCount(stats.getCommentCount() + 1);
-        stats.setUpdatedAt(LocalDateTime.now());
-        activityStatsMapper.update(stats);
+        ActivityStatsEntity stats = applyDelta(activityId, 0, 0, 0, 1);
         log.info("活动评论数+1: activityId={}, newCount={}", activityId, stats.getCommentCount());
     }
     
@@ -110,35 +91,28 @@ public class ActivityStatsUpdateService {
      */
     @Transactional
     public void decrementCommentCount(UUID activityId) {
-        ActivityStatsEntity stats = getOrCreateStats(activityId);
-        stats.setCommentCount(Math.max(0, stats.getCommentCount() - 1));
-        stats.setUpdatedAt(LocalDateTime.now());
-        activityStatsMapper.update(stats);
+        ActivityStatsEntity stats = applyDelta(activityId, 0, 0, 0, -1);
         log.info("活动评论数-1: activityId={}, newCount={}", activityId, stats.getCommentCount());
     }
     
+    /**
+     * 按净增量批量更新计数（Worker 合并同一批事件后调用，一条 SQL 完成）
+     */
+    @Transactional
+    public void applyCounterDeltas(UUID activityId, int likeDelta, int favDelta, int downDelta, int commentDelta) {
+        applyDelta(activityId, likeDelta, favDelta, downDelta, commentDelta);
+        log.info("活动计数增量已应用: activityId={}, like={}, fav={}, down={}, comment={}",
+            activityId, likeDelta, favDelta, downDelta, commentDelta);
+    }
+    
     // === 私有方法 ===
     
     /**
-     * 获取或创建统计记录
+     * 单条 upsert 原子累加计数并返回更新后的计数（记录不存在时按增量创建，计数不低于 0）
      */
-    private ActivityStatsEntity getOrCreateStats(UUID activityId) {
-        ActivityStatsEntity stats = activityStatsMapper.selectByActivityId(activityId);
-        
-        if (stats == null) {
-            // 如果不存在，创建新记录
-            stats = new ActivityStatsEntity();
-            stats.setActivityId(activityId);
-            stats.setLikeCount(0);
-            stats.setFavCount(0);
-            stats.setDownCount(0);
-            stats.setCommentCount(0);
-            stats.setHotScore(0L);
-            stats.setUpdatedAt(LocalDateTime.now());
-            activityStatsMapper.insert(stats);
-            log.info("创建活动统计记录: activityId={}", activityId);
-        }
-        
-        return stats;
+    private ActivityStatsEntity applyDelta(UUID activityId, int like, int fav, int down, int comment) {
+        return activityStatsMapper.applyCounterDeltas(
+            activityId, like, fav, down, comment, LocalDateTime.now()
+        );
     }
 }
@@ -4,6 +4,7 @@ import com.youthloop.activity.persistence.entity.ActivityStatsEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -26,4 +27,18 @@ public interface ActivityStatsMapper {
      * 更新统计记录
      */
     int update(ActivityStatsEntity entity);
+    
+    /**
+     * 按增量原子更新计数（记录不存在时插入），计数不低于 0
+     * 
+     * @return 更新后的计数（不含 ID 列）
+     */
+    ActivityStatsEntity applyCounterDeltas(
+        @Param("activityId") UUID activityId,
+        @Param("likeDelta") int likeDelta,
+        @Param("favDelta") int favDelta,
+        @Param("downDelta") int downDelta,
+        @Param("commentDelta") int commentDelta,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
@@ -0,0 +1,99 @@
+package com.youthloop.common.api;
+
+import com.youthloop.common.exception.BizException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 游标分页位置（keyset 分页）
+ * 
+ * 游标是上一页最后一行排序键的编码，对客户端不透明：base64url("排序名|时间|分值|ID")。
+ * 查询以 (排序键, id) &lt; (游标值) 作为 seek 条件（见 mapper/KeysetSql.xml），
+ * 配合 (排序键 DESC, id DESC) 索引，任意深度翻页都只扫描一页的行，不再 COUNT + OFFSET。
+ * 排序名写入游标，换了排序方式的游标会被拒绝。
+ */
+@Getter
+public final class PageCursor {
+    
+    private static final String SEPARATOR = "|";
+    
+    private final String sort;
+    
+    /**
+     * 时间排序键；可空排序列（NULLS LAST）翻到空值区间后为 null
+     */
+    private final LocalDateTime time;
+    
+    /**
+     * 分值排序键（热度等）
+     */
+    private final Long score;
+    
+    /**
+     * 行 ID，排序键相同时的决胜键
+     */
+    private final UUID id;
+    
+    private PageCursor(String sort, LocalDateTime time, Long score, UUID id) {
+        this.sort = sort;
+        this.time = time;
+        this.score = score;
+        this.id = id;
+    }
+    
+    public static PageCursor ofTime(String sort, LocalDateTime time, UUID id) {
+        return new PageCursor(sort, time, null, id);
+    }
+    
+    public static PageCursor ofScore(String sort, long score, UUID id) {
+        return new PageCursor(sort, null, score, id);
+    }
+    
+    /**
+     * 编码为不透明游标
+     */
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+            sort,
+            time == null ? "" : time.toString(),
+            score == null ? "" : score.toString(),
+            id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 解码游标
+     * 
+     * @param token 客户端传入的游标；空串表示游标模式的第一页，返回 null
+     * @param expectedSort 当前请求的排序名
+     */
+    public static PageCursor decode(String token, String expectedSort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("segments");
+            }
+            if (!parts[0].equals(expectedSort)) {
+                throw new BizException(ErrorCode.INVALID_PARAMETER, "游标与排序方式不匹配");
+            }
+            return new PageCursor(
+                parts[0],
+                parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]),
+                parts[2].isEmpty() ? null : Long.parseLong(parts[2]),
+                UUID.fromString(parts[3])
+            );
+        } catch (BizException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BizException(ErrorCode.INVALID_PARAMETER, "无效的分页游标");
+        }
+    }
+}
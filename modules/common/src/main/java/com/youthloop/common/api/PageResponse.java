@@ -1,19 +1,22 @@
 package com.youthloop.common.api;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 分页响应（严格按照文档定义）
  * 
- * 只包含 4 个字段：page, size, total, items
+ * 页码模式包含 4 个字段：page, size, total, items；
+ * 游标模式（{@link PageCursor}）不返回 page，total 可能为空，另带 nextCursor 与 hasMore；
+ * total 为规划器估算值时（{@link TotalCount}）totalExact 为 false
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class PageResponse<T> {
     
     /**
@@ -31,15 +34,78 @@ public class PageResponse<T> {
      */
     private Long total;
     
+    /**
+     * 总数是否精确（仅在总数为估算值时返回 false，精确时不输出）
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean totalExact;
+    
     /**
      * 数据列表
      */
     private List<T> items;
     
+    /**
+     * 下一页游标（仅游标模式；没有下一页时为空）
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+    
+    /**
+     * 是否还有下一页（仅游标模式）
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasMore;
+    
+    public PageResponse(Integer page, Integer size, Long total, List<T> items) {
+        this.page = page;
+        this.size = size;
+        this.total = total;
+        this.items = items;
+    }
+    
     /**
      * 构建分页响应
      */
     public static <T> PageResponse<T> of(List<T> items, Long total, Integer page, Integer size) {
         return new PageResponse<>(page, size, total, items);
     }
+    
+    /**
+     * 构建分页响应（总数可能为估算值）
+     */
+    public static <T> PageResponse<T> of(List<T> items, TotalCount total, Integer page, Integer size) {
+        PageResponse<T> response = new PageResponse<>(page, size, total.total(), items);
+        if (!total.exact()) {
+            response.setTotalExact(false);
+        }
+        return response;
+    }
+    
+    /**
+     * 由按 size + 1 条查询的行构建游标分页响应：多出的一行只用于判断 hasMore
+     * 
+     * @param rows 查询结果（LIMIT size + 1）
+     * @param mapper 行到 DTO 的转换
+     * @param cursorOf 取行的排序键，用于生成下一页游标
+     */
+    public static <R, T> PageResponse<T> ofCursor(
+        List<R> rows,
+        int size,
+        Function<R, T> mapper,
+        Function<R, PageCursor> cursorOf
+    ) {
+        boolean hasMore = rows.size() > size;
+        List<R> pageRows = hasMore ? rows.subList(0, size) : rows;
+        List<T> items = new ArrayList<>(pageRows.size());
+        for (R row : pageRows) {
+            items.add(mapper.apply(row));
+        }
+        PageResponse<T> response = new PageResponse<>(null, size, null, items);
+        response.setHasMore(hasMore);
+        if (hasMore) {
+            response.setNextCursor(cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode());
+        }
+        return response;
+    }
 }
@@ -0,0 +1,20 @@
+package com.youthloop.common.api;
+
+/**
+ * 列表总数
+ *
+ * exact 为 false 时 total 来自查询规划器的行数估算，只用于展示量级与页码范围
+ *
+ * @param total 总数
+ * @param exact 是否为精确计数
+ */
+public record TotalCount(long total, boolean exact) {
+
+    public static TotalCount exact(long total) {
+        return new TotalCount(total, true);
+    }
+
+    public static TotalCount estimated(long total) {
+        return new TotalCount(total, false);
+    }
+}
@@ -1,7 +1,8 @@
 package com.youthloop.common.api.contract;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.youthloop.common.api.PageResponse;
 import io.swagger.v3.oas.annotations.media.Schema;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -12,11 +13,10 @@ import java.util.List;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 @Schema(description = "分页数据结构")
 public class ApiPageData<T> {
 
-    @Schema(description = "页码（从 1 开始）", example = "1")
+    @Schema(description = "页码（从 1 开始；游标模式为空）", example = "1")
     private Integer page;
 
     @Schema(description = "每页大小", example = "10")
@@ -27,4 +27,39 @@ public class ApiPageData<T> {
 
     @Schema(description = "数据列表")
     private List<T> items;
+
+    @Schema(description = "总数是否精确（总数为估算值时为 false，精确时不返回）")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean totalExact;
+
+    @Schema(description = "下一页游标（游标模式，没有下一页时不返回）")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    @Schema(description = "是否还有下一页（游标模式）")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasMore;
+
+    public ApiPageData(Integer page, Integer size, Long total, List<T> items) {
+        this.page = page;
+        this.size = size;
+        this.total = total;
+        this.items = items;
+    }
+
+    /**
+     * 由服务层分页结果构建（页码与游标两种模式）
+     */
+    public static <T> ApiPageData<T> of(PageResponse<T> response) {
+        ApiPageData<T> data = new ApiPageData<>(
+            response.getPage(),
+            response.getSize(),
+            response.getTotal(),
+            response.getItems()
+        );
+        data.setTotalExact(response.getTotalExact());
+        data.setNextCursor(response.getNextCursor());
+        data.setHasMore(response.getHasMore());
+        return data;
+    }
 }
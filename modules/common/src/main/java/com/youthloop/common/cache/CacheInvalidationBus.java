@@ -0,0 +1,174 @@
+package com.youthloop.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 缓存失效总线
+ * 
+ * 写操作调用 {@link #publish}，在事务提交后通知本进程的订阅者，并经 Redis pub/sub 广播给其他实例
+ * （API 与 Worker 各自持有进程内缓存，例如 Worker 同步碳市场数据后 API 的首页缓存需要失效）。
+ * Redis 不可用时退化为仅本进程失效，缓存依靠 TTL 兜底；未引入 Redis 的应用（game-api）不创建该组件。
+ */
+@Slf4j
+@Component
+@ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+public class CacheInvalidationBus implements SmartLifecycle {
+    
+    private static final String SEPARATOR = "\n";
+    
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectProvider<RedisConnectionFactory> connectionFactoryProvider;
+    private final boolean redisEnabled;
+    private final String channel;
+    
+    /**
+     * 本实例标识，用于忽略自己广播的消息（本地订阅者已直接通知）
+     */
+    private final String origin = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+    
+    private volatile RedisMessageListenerContainer container;
+    
+    public CacheInvalidationBus(
+        ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+        ObjectProvider<RedisConnectionFactory> connectionFactoryProvider,
+        @Value("${cache.invalidation.redis-enabled:true}") boolean redisEnabled,
+        @Value("${cache.invalidation.channel:youthloop:cache:invalidate}") String channel
+    ) {
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.connectionFactoryProvider = connectionFactoryProvider;
+        this.redisEnabled = redisEnabled;
+        this.channel = channel;
+    }
+    
+    /**
+     * 订阅区域失效通知
+     * 
+     * @param listener 参数为失效的 key，null 表示整个区域
+     */
+    public void subscribe(String region, Consumer<String> listener) {
+        listeners.computeIfAbsent(region, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+    
+    /**
+     * 失效整个区域
+     */
+    public void publish(String region) {
+        publish(region, null);
+    }
+    
+    /**
+     * 失效区域内的一个 key；在事务中调用时延迟到提交后执行，避免并发读在提交前用旧数据重建缓存
+     */
+    public void publish(String region, String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(region, key);
+                }
+            });
+        } else {
+            dispatch(region, key);
+        }
+    }
+    
+    @Override
+    public void start() {
+        if (!redisEnabled || listeners.isEmpty()) {
+            return;
+        }
+        RedisConnectionFactory connectionFactory = connectionFactoryProvider.getIfAvailable();
+        if (connectionFactory == null) {
+            log.info("未配置 Redis，缓存失效仅在本进程生效");
+            return;
+        }
+        try {
+            RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+            listenerContainer.setConnectionFactory(connectionFactory);
+            listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel)
+            );
+            listenerContainer.afterPropertiesSet();
+            listenerContainer.start();
+            container = listenerContainer;
+            log.info("缓存失效总线已订阅: channel={}", channel);
+        } catch (Exception e) {
+            log.warn("订阅缓存失效频道失败，缓存失效仅在本进程生效: channel={}, error={}", channel, e.getMessage());
+        }
+    }
+    
+    @Override
+    public void stop() {
+        RedisMessageListenerContainer listenerContainer = container;
+        container = null;
+        if (listenerContainer != null) {
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                log.debug("关闭缓存失效订阅失败: {}", e.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return container != null;
+    }
+    
+    // === 私有方法 ===
+    
+    private void dispatch(String region, String key) {
+        notifyLocal(region, key);
+        if (!redisEnabled) {
+            return;
+        }
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, String.join(SEPARATOR, origin, region, key == null ? "" : key));
+        } catch (Exception e) {
+            log.warn("广播缓存失效失败，其他实例依靠 TTL 过期: region={}, key={}, error={}", region, key, e.getMessage());
+        }
+    }
+    
+    private void onMessage(String body) {
+        String[] parts = body.split(SEPARATOR, 3);
+        if (parts.length < 3 || origin.equals(parts[0])) {
+            return;
+        }
+        notifyLocal(parts[1], parts[2].isEmpty() ? null : parts[2]);
+    }
+    
+    private void notifyLocal(String region, String key) {
+        for (Consumer<String> listener : listeners.getOrDefault(region, List.of())) {
+            try {
+                listener.accept(key);
+            } catch (Exception e) {
+                log.warn("缓存失效回调失败: region={}, key={}", region, key, e);
+            }
+        }
+    }
+}
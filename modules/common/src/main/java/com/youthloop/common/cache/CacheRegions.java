@@ -0,0 +1,68 @@
+package com.youthloop.common.cache;
+
+/**
+ * 缓存失效区域
+ * 
+ * 写入方与缓存持有方约定的区域名，经 {@link CacheInvalidationBus} 广播
+ */
+public final class CacheRegions {
+    
+    /**
+     * 首页聚合数据（按语言缓存，失效时整体清空）
+     */
+    public static final String HOME = "home";
+    
+    /**
+     * 碳市场行情快照（同步成功后整体失效，各实例重新加载）
+     */
+    public static final String CARBON_MARKET = "carbon-market";
+    
+    /**
+     * 内容详情（正文与元数据，不含计数），key 为内容 ID
+     */
+    public static final String CONTENT_DETAIL = "content-detail";
+    
+    /**
+     * 内容列表总数（任意内容写入时整体失效）
+     */
+    public static final String CONTENT_LIST = "content-list";
+    
+    /**
+     * 活动列表总数（任意活动写入时整体失效）
+     */
+    public static final String ACTIVITY_LIST = "activity-list";
+    
+    /**
+     * 评论列表（根评论总数与评论树首页），key 为 {@link #targetKey(Integer, Object)}
+     */
+    public static final String COMMENT_LIST = "comment-list";
+    
+    /**
+     * 用户个人列表总数（收藏/点赞、通知、报名、积分流水），key 为用户 ID
+     */
+    public static final String USER_LIST = "user-list";
+    
+    /**
+     * 用户互动状态（点赞/收藏/踩的目标集合、已报名活动），key 为用户 ID（整体重载）
+     * 或 {@link #reactionChangeKey}（就地增删一条反应）
+     */
+    public static final String USER_INTERACTION = "user-interaction";
+    
+    private CacheRegions() {
+    }
+    
+    /**
+     * 按目标划分的失效 key：targetType:targetId
+     */
+    public static String targetKey(Integer targetType, Object targetId) {
+        return targetType + ":" + targetId;
+    }
+    
+    /**
+     * 单条反应变化的失效 key：userId:targetType:targetId:reactionType:+（新增）或 -（删除）
+     */
+    public static String reactionChangeKey(Object userId, Integer targetType, Object targetId, Integer reactionType,
+                                           boolean added) {
+        return userId + ":" + targetType + ":" + targetId + ":" + reactionType + ":" + (added ? "+" : "-");
+    }
+}
@@ -0,0 +1,252 @@
+package com.youthloop.common.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * 进程内 TTL 缓存（带单飞加载）
+ * 
+ * 同一个 key 并发未命中时只有一个线程执行加载，其余线程等待同一个结果；
+ * 条目过期但已有线程在重建时，其余线程直接返回旧值，避免缓存击穿时的请求堆积。
+ * 失效按 key 生效：被失效的 key 上正在进行的加载会被标记为过时，其结果照常返回给等待者但不写回缓存；
+ * 其他 key 的加载不受影响。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型（调用方负责保证不可变或返回副本）
+ */
+public class LocalTtlCache<K, V> {
+    
+    private final long ttlNanos;
+    private final int maxSize;
+    private final ToIntFunction<? super V> weigher;
+    private final long maxWeight;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Map<K, Load<V>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong totalWeight = new AtomicLong();
+    
+    /**
+     * @param ttl 条目有效期；为 0 时不缓存，只合并并发加载
+     * @param maxSize 最大条目数，超出时先清理过期条目，仍超出则淘汰任意一个
+     */
+    public LocalTtlCache(Duration ttl, int maxSize) {
+        this(ttl, maxSize, value -> 1, Long.MAX_VALUE);
+    }
+    
+    /**
+     * 条目大小差异很大时（如按用户缓存的集合）同时按总权重限制内存
+     *
+     * @param weigher 条目权重（如集合元素数），写入时计算一次
+     * @param maxWeight 全部条目的权重上限，超出时按与 maxSize 相同的方式淘汰；单个条目超过上限时不缓存
+     */
+    public LocalTtlCache(Duration ttl, int maxSize, ToIntFunction<? super V> weigher, long maxWeight) {
+        this.ttlNanos = Math.max(0, ttl.toNanos());
+        this.maxSize = Math.max(1, maxSize);
+        this.weigher = weigher;
+        this.maxWeight = Math.max(1, maxWeight);
+    }
+    
+    /**
+     * 读取缓存，未命中或过期时用 loader 加载
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Entry<V> cached = entries.get(key);
+        if (cached != null && System.nanoTime() < cached.expiresAt()) {
+            return cached.value();
+        }
+        
+        Load<V> mine = new Load<>();
+        Load<V> inflight = loading.putIfAbsent(key, mine);
+        if (inflight != null) {
+            return cached != null ? cached.value() : await(inflight.result);
+        }
+        
+        try {
+            V value = loader.apply(key);
+            if (ttlNanos > 0) {
+                store(key, value, mine);
+            }
+            mine.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+    
+    /**
+     * 就地更新已缓存的条目，不存在或已过期时不处理，不延长有效期；
+     * 该 key 上更新前开始的加载结果（可能不含本次变化）不会写回缓存
+     *
+     * @param updater 由旧值生成新值，不得修改旧值
+     */
+    public void update(K key, UnaryOperator<V> updater) {
+        markStale(key);
+        long now = System.nanoTime();
+        entries.computeIfPresent(key, (k, entry) -> {
+            Entry<V> updated = now < entry.expiresAt() ? entry(updater.apply(entry.value()), entry.expiresAt()) : null;
+            totalWeight.addAndGet(weightOf(updated) - entry.weight());
+            return updated;
+        });
+    }
+    
+    /**
+     * 失效单个 key
+     */
+    public void invalidate(K key) {
+        markStale(key);
+        remove(key);
+    }
+    
+    /**
+     * 失效满足条件的条目
+     */
+    public void invalidateIf(Predicate<? super K> condition) {
+        loading.forEach((key, load) -> {
+            if (condition.test(key)) {
+                load.stale = true;
+            }
+        });
+        for (K key : entries.keySet()) {
+            if (condition.test(key)) {
+                remove(key);
+            }
+        }
+    }
+    
+    /**
+     * 失效全部条目
+     */
+    public void invalidateAll() {
+        loading.values().forEach(load -> load.stale = true);
+        entries.keySet().forEach(this::remove);
+    }
+    
+    /**
+     * 该 key 正在进行的加载开始后是否被失效或更新；只在该 key 的 loader 内调用有意义
+     *
+     * 供 loader 在写入二级缓存之后检查：返回 true 时应撤销刚写入的值，
+     * 因为失效方删除二级缓存可能发生在这次写入之前
+     */
+    public boolean isLoadStale(K key) {
+        Load<V> load = loading.get(key);
+        return load != null && load.stale;
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * 当前全部条目的权重之和
+     */
+    public long weight() {
+        return totalWeight.get();
+    }
+    
+    // === 私有方法 ===
+    
+    /**
+     * 先标记加载过时再删除条目，与 store 在 compute 内检查标记的顺序配合
+     */
+    private void markStale(K key) {
+        Load<V> load = loading.get(key);
+        if (load != null) {
+            load.stale = true;
+        }
+    }
+    
+    private void store(K key, V value, Load<V> load) {
+        Entry<V> entry = entry(value, System.nanoTime() + ttlNanos);
+        if (entry.weight() > maxWeight) {
+            return;
+        }
+        boolean full = entries.size() >= maxSize && !entries.containsKey(key);
+        if (full || totalWeight.get() + entry.weight() > maxWeight) {
+            evict(entry.weight());
+        }
+        // 在 compute 内检查标记：加载期间该 key 被失效时不写回，失效后的删除也不会被旧值覆盖
+        entries.compute(key, (k, old) -> {
+            if (load.stale) {
+                return old;
+            }
+            totalWeight.addAndGet(entry.weight() - weightOf(old));
+            return entry;
+        });
+    }
+    
+    /**
+     * 先清理过期条目，仍超出条目数或权重上限时淘汰任意条目，为即将写入的条目腾出空间
+     */
+    private void evict(int incomingWeight) {
+        long now = System.nanoTime();
+        for (K key : entries.keySet()) {
+            entries.computeIfPresent(key, (k, entry) -> {
+                if (now < entry.expiresAt()) {
+                    return entry;
+                }
+                totalWeight.addAndGet(-entry.weight());
+                return null;
+            });
+        }
+        Iterator<K> keys = entries.keySet().iterator();
+        while ((entries.size() >= maxSize || totalWeight.get() + incomingWeight > maxWeight) && keys.hasNext()) {
+            remove(keys.next());
+        }
+    }
+    
+    private void remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight.addAndGet(-removed.weight());
+        }
+    }
+    
+    private Entry<V> entry(V value, long expiresAt) {
+        return new Entry<>(value, expiresAt, weigher.applyAsInt(value));
+    }
+    
+    private static int weightOf(Entry<?> entry) {
+        return entry == null ? 0 : entry.weight();
+    }
+    
+    private V await(CompletableFuture<V> inflight) {
+        try {
+            return inflight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+    
+    private record Entry<V>(V value, long expiresAt, int weight) {
+    }
+    
+    /**
+     * 一次进行中的加载
+     */
+    private static final class Load<V> {
+        
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        
+        /**
+         * 加载期间该 key 被失效或更新
+         */
+        private volatile boolean stale;
+    }
+}
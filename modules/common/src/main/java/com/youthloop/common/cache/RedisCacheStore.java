@@ -0,0 +1,110 @@
+package com.youthloop.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Redis 共享缓存（L2）
+ *
+ * 多个实例共享的字符串缓存，位于各实例的进程内缓存（{@link LocalTtlCache}）之后：
+ * 实例冷启动或 L1 过期时先读 Redis，未命中再查库。key 统一加前缀 {@code cache.redis.key-prefix}。
+ * Redis 未配置或出错时所有操作退化为未命中 / 空操作，调用方直接回源；出错后在退避期内不再访问 Redis，
+ * 避免 Redis 故障时每个请求都等待连接超时。
+ * 未引入 Redis 的应用（game-api）不创建该组件。
+ */
+@Slf4j
+@Component
+@ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+public class RedisCacheStore {
+
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final boolean enabled;
+    private final String keyPrefix;
+    private final long failureBackoffNanos;
+
+    private volatile long suspendedUntil;
+
+    public RedisCacheStore(
+        ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+        @Value("${cache.redis.enabled:true}") boolean enabled,
+        @Value("${cache.redis.key-prefix:youthloop:cache:}") String keyPrefix,
+        @Value("${cache.redis.failure-backoff-ms:30000}") long failureBackoffMs
+    ) {
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.enabled = enabled;
+        this.keyPrefix = keyPrefix;
+        this.failureBackoffNanos = Duration.ofMillis(Math.max(0, failureBackoffMs)).toNanos();
+        this.suspendedUntil = System.nanoTime();
+    }
+
+    /**
+     * 读取缓存值；未命中、未启用或 Redis 出错时返回 null
+     */
+    public String get(String key) {
+        StringRedisTemplate redisTemplate = template();
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            return redisTemplate.opsForValue().get(keyPrefix + key);
+        } catch (Exception e) {
+            onFailure();
+            log.warn("读取 Redis 缓存失败，回源查询: key={}, error={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 写入缓存值（带过期时间）；失败只记录日志
+     */
+    public void put(String key, String value, Duration ttl) {
+        StringRedisTemplate redisTemplate = template();
+        if (redisTemplate == null || value == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(keyPrefix + key, value, ttl);
+        } catch (Exception e) {
+            onFailure();
+            log.warn("写入 Redis 缓存失败: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 删除缓存；失败时其他实例依靠 TTL 过期
+     */
+    public void delete(Collection<String> keys) {
+        StringRedisTemplate redisTemplate = template();
+        if (redisTemplate == null || keys.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> prefixed = keys.stream().map(key -> keyPrefix + key).toList();
+            redisTemplate.delete(prefixed);
+        } catch (Exception e) {
+            onFailure();
+            log.warn("删除 Redis 缓存失败，依靠 TTL 过期: keys={}, error={}", keys, e.getMessage());
+        }
+    }
+
+    // === 私有方法 ===
+
+    private StringRedisTemplate template() {
+        if (!enabled || System.nanoTime() - suspendedUntil < 0) {
+            return null;
+        }
+        return redisTemplateProvider.getIfAvailable();
+    }
+
+    private void onFailure() {
+        suspendedUntil = System.nanoTime() + failureBackoffNanos;
+    }
+}
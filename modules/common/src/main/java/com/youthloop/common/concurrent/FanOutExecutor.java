@@ -0,0 +1,276 @@
+package com.youthloop.common.concurrent;
+
+import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.exception.BizException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 并行扇出执行器
+ * 
+ * 聚合查询中互不依赖的 Mapper 调用在虚拟线程上并发执行，整个扇出共享一个截止时间：
+ * <pre>
+ * try (FanOutExecutor.FanOut fanOut = fanOutExecutor.open("content-detail")) {
+ *     FanOutExecutor.Task&lt;Map&lt;String, Object&gt;&gt; detail = fanOut.fork(() -&gt; mapper.selectDetail(id));
+ *     FanOutExecutor.Task&lt;List&lt;Map&lt;String, Object&gt;&gt;&gt; state = fanOut.fork(() -&gt; mapper.selectState(userId, id));
+ *     return assemble(detail.get(), state.get());
+ * }
+ * </pre>
+ * 
+ * 事务语义：并行任务各自从连接池取连接，以自动提交方式执行，彼此之间不是同一快照，
+ * 因此调用方不应处于事务中；如果调用时已有事务，任务在调用线程内按顺序执行，沿用该事务的连接与快照。
+ * 并发任务数受许可数限制（应小于连接池大小），许可耗尽时新任务同样退化为在调用线程内执行。
+ * 请求线程上的 traceId（MDC）、安全上下文与语言环境会传递到任务线程。
+ */
+@Slf4j
+@Component
+public class FanOutExecutor {
+    
+    private final boolean enabled;
+    private final Duration defaultTimeout;
+    private final Semaphore permits;
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("fan-out-", 0).factory()
+    );
+    
+    public FanOutExecutor(
+        @Value("${query.fan-out.enabled:true}") boolean enabled,
+        @Value("${query.fan-out.timeout-ms:3000}") long timeoutMs,
+        @Value("${query.fan-out.max-concurrency:6}") int maxConcurrency
+    ) {
+        this.enabled = enabled;
+        this.defaultTimeout = Duration.ofMillis(Math.max(1, timeoutMs));
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+    }
+    
+    /**
+     * 打开一个使用默认截止时间的扇出
+     */
+    public FanOut open(String name) {
+        return open(name, defaultTimeout);
+    }
+    
+    /**
+     * 打开一个扇出；必须在 try-with-resources 中使用，关闭时取消尚未开始的任务
+     */
+    public FanOut open(String name, Duration timeout) {
+        boolean parallel = enabled && !TransactionSynchronizationManager.isActualTransactionActive();
+        return new FanOut(name, timeout, parallel);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * 一次扇出：fork 的任务共享同一个截止时间
+     */
+    public final class FanOut implements AutoCloseable {
+        
+        private final String name;
+        private final boolean parallel;
+        private final long startNanos = System.nanoTime();
+        private final long deadlineNanos;
+        private final AtomicLong taskNanos = new AtomicLong();
+        private final List<Future<?>> futures = new ArrayList<>();
+        private int forked;
+        private int inline;
+        
+        private FanOut(String name, Duration timeout, boolean parallel) {
+            this.name = name;
+            this.parallel = parallel;
+            this.deadlineNanos = startNanos + timeout.toNanos();
+        }
+        
+        /**
+         * 提交一个任务；无法并行时立即在调用线程执行
+         */
+        public <T> Task<T> fork(Callable<T> callable) {
+            forked++;
+            if (parallel && permits.tryAcquire()) {
+                Callable<T> task = withCallerContext(callable);
+                PermitTask<T> future = new PermitTask<>(() -> timed(task));
+                try {
+                    executor.execute(future);
+                    futures.add(future);
+                    return new Task<>(this, future);
+                } catch (RejectedExecutionException e) {
+                    // 执行器已关闭（应用停止中），退化为在调用线程执行
+                    permits.release();
+                }
+            }
+            inline++;
+            try {
+                return new Task<>(this, CompletableFuture.completedFuture(timed(callable)));
+            } catch (Exception e) {
+                throw propagate(e);
+            }
+        }
+        
+        @Override
+        public void close() {
+            cancelAll();
+            if (log.isDebugEnabled()) {
+                // wall 为本次扇出耗时，sequential 为各任务耗时之和（即顺序执行时的下限）
+                log.debug("扇出完成: name={}, tasks={}, inline={}, wallMs={}, sequentialMs={}",
+                    name, forked, inline,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                    TimeUnit.NANOSECONDS.toMillis(taskNanos.get()));
+            }
+        }
+        
+        private <T> T await(Future<T> future) {
+            try {
+                return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                cancelAll();
+                log.warn("扇出查询超时: name={}", name);
+                throw new BizException(ErrorCode.SERVICE_UNAVAILABLE, "查询超时，请稍后重试");
+            } catch (ExecutionException e) {
+                cancelAll();
+                throw propagate(e.getCause());
+            } catch (CancellationException e) {
+                throw new BizException(ErrorCode.SERVICE_UNAVAILABLE, "查询已取消");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new BizException(ErrorCode.SERVICE_UNAVAILABLE, "查询被中断");
+            }
+        }
+        
+        /**
+         * 取消尚未开始的任务；已在执行的任务不中断（中断 JDBC 调用会使连接池丢弃并重建连接），
+         * 其结果被丢弃，许可在任务结束时归还
+         */
+        private void cancelAll() {
+            for (Future<?> future : futures) {
+                if (!future.isDone()) {
+                    future.cancel(false);
+                }
+            }
+        }
+        
+        private <T> T timed(Callable<T> callable) throws Exception {
+            long start = System.nanoTime();
+            try {
+                return callable.call();
+            } finally {
+                taskNanos.addAndGet(System.nanoTime() - start);
+            }
+        }
+    }
+    
+    /**
+     * 持有一个并发许可的任务：开始执行的任务在结束时归还许可，开始前被取消的任务在取消时归还，恰好归还一次
+     */
+    private final class PermitTask<T> extends FutureTask<T> {
+        
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        
+        private PermitTask(Callable<T> callable) {
+            super(callable);
+        }
+        
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                // 已被取消
+                return;
+            }
+            try {
+                super.run();
+            } finally {
+                permits.release();
+            }
+        }
+        
+        @Override
+        protected void done() {
+            if (claimed.compareAndSet(false, true)) {
+                // 开始前被取消，run 不会再执行
+                permits.release();
+            }
+        }
+    }
+    
+    /**
+     * 扇出中的一个任务
+     */
+    public static final class Task<T> {
+        
+        private final FanOut fanOut;
+        private final Future<T> future;
+        
+        private Task(FanOut fanOut, Future<T> future) {
+            this.fanOut = fanOut;
+            this.future = future;
+        }
+        
+        /**
+         * 等待结果（不超过扇出的截止时间）；任务失败时取消同一扇出的其他任务并抛出原异常
+         */
+        public T get() {
+            return fanOut.await(future);
+        }
+    }
+    
+    // === 私有方法 ===
+    
+    private static <T> Callable<T> withCallerContext(Callable<T> callable) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        return () -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            SecurityContextHolder.setContext(securityContext);
+            LocaleContextHolder.setLocaleContext(localeContext);
+            try {
+                return callable.call();
+            } finally {
+                LocaleContextHolder.resetLocaleContext();
+                SecurityContextHolder.clearContext();
+                MDC.clear();
+            }
+        };
+    }
+    
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new BizException(ErrorCode.SYSTEM_ERROR, "查询执行失败: " + cause.getMessage());
+    }
+}
@@ -0,0 +1,73 @@
+package com.youthloop.common.mybatis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.postgresql.util.PGobject;
+
+import java.sql.*;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 字符串列表类型处理器
+ * 用于 MyBatis 处理 PostgreSQL 的 JSONB 字符串数组（如 poster_urls），
+ * 直接反序列化为 List&lt;String&gt;，NULL 读为空列表
+ */
+public class JsonStringListTypeHandler extends BaseTypeHandler<List<String>> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader LIST_READER = OBJECT_MAPPER.readerForListOf(String.class);
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, List<String> parameter, JdbcType jdbcType) throws SQLException {
+        try {
+            PGobject jsonObject = new PGobject();
+            jsonObject.setType("jsonb");
+            jsonObject.setValue(OBJECT_MAPPER.writeValueAsString(parameter));
+            ps.setObject(i, jsonObject);
+        } catch (Exception e) {
+            throw new SQLException("Error converting List<String> to JSONB", e);
+        }
+    }
+
+    @Override
+    public List<String> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return toList(rs.getString(columnName));
+    }
+
+    @Override
+    public List<String> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toList(rs.getString(columnIndex));
+    }
+
+    @Override
+    public List<String> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return toList(cs.getString(columnIndex));
+    }
+
+    /**
+     * BaseTypeHandler 在 wasNull 时会把结果置为 null，这里覆盖以保持“NULL 读为空列表”
+     */
+    @Override
+    public List<String> getResult(ResultSet rs, String columnName) throws SQLException {
+        return toList(rs.getString(columnName));
+    }
+
+    @Override
+    public List<String> getResult(ResultSet rs, int columnIndex) throws SQLException {
+        return toList(rs.getString(columnIndex));
+    }
+
+    private List<String> toList(String json) throws SQLException {
+        if (json == null || json.isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            return LIST_READER.readValue(json);
+        } catch (Exception e) {
+            throw new SQLException("Error parsing JSON string to List<String>", e);
+        }
+    }
+}
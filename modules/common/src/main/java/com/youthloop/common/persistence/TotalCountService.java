@@ -0,0 +1,182 @@
+package com.youthloop.common.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youthloop.common.api.TotalCount;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
+import com.youthloop.common.cache.LocalTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 列表总数服务
+ *
+ * 分页列表的 COUNT(*) 往往与取一页数据同样昂贵。总数按 (区域, 范围, 计数语句, 筛选参数) 缓存一个短 TTL，
+ * 写入方经 {@link CacheInvalidationBus} 按区域或区域内的范围（如用户 ID）失效。
+ * 未命中时先取规划器估算（计数语句的 EXPLAIN 行数；无筛选条件的整表计数取 pg_class.reltuples），
+ * 估算达到阈值时直接返回估算值（{@link TotalCount#exact()} 为 false），否则执行精确计数。
+ */
+@Slf4j
+@Component
+public class TotalCountService {
+
+    private static final List<String> REGIONS = List.of(
+        CacheRegions.CONTENT_LIST,
+        CacheRegions.ACTIVITY_LIST,
+        CacheRegions.COMMENT_LIST,
+        CacheRegions.USER_LIST
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlSessionFactory sqlSessionFactory;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long estimateThreshold;
+    private final LocalTtlCache<CountKey, TotalCount> cache;
+
+    public TotalCountService(
+        JdbcTemplate jdbcTemplate,
+        SqlSessionFactory sqlSessionFactory,
+        ObjectMapper objectMapper,
+        ObjectProvider<CacheInvalidationBus> cacheInvalidationBus,
+        @Value("${query.count.enabled:true}") boolean enabled,
+        @Value("${query.count.ttl-seconds:30}") long ttlSeconds,
+        @Value("${query.count.max-entries:2048}") int maxEntries,
+        @Value("${query.count.estimate-threshold:10000}") long estimateThreshold
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.estimateThreshold = estimateThreshold;
+        this.cache = new LocalTtlCache<>(Duration.ofSeconds(Math.max(1, ttlSeconds)), maxEntries);
+        // 未引入 Redis 的应用没有失效总线，只依靠 TTL
+        cacheInvalidationBus.ifAvailable(bus -> REGIONS.forEach(region -> bus.subscribe(region, scope ->
+            cache.invalidateIf(key -> key.region().equals(region) && (scope == null || scope.equals(key.scope())))
+        )));
+    }
+
+    /**
+     * 带筛选条件的列表总数
+     *
+     * @param region 失效区域（{@link CacheRegions}）
+     * @param scope 区域内的失效范围（如用户 ID、targetType:targetId）；全局列表为 null
+     * @param statementId 计数语句的全限定 ID（Mapper 接口名 + "." + 方法名），用于 EXPLAIN 估算
+     * @param params 计数语句参数，名称与 Mapper 方法的 @Param 一致（见 {@link #params(Object...)}）
+     * @param exact 精确计数
+     */
+    public TotalCount count(String region, String scope, String statementId, Map<String, Object> params,
+                            Supplier<Long> exact) {
+        Map<String, Object> frozen = Collections.unmodifiableMap(new HashMap<>(params));
+        return resolve(new CountKey(region, scope, statementId, frozen), exact,
+            () -> explainRows(statementId, frozen));
+    }
+
+    /**
+     * 无筛选条件的整表总数
+     *
+     * @param table 带 schema 的表名，如 social.content
+     */
+    public TotalCount countTable(String region, String table, Supplier<Long> exact) {
+        return resolve(new CountKey(region, null, table, Map.of()), exact, () -> tableRows(table));
+    }
+
+    /**
+     * 构建计数语句参数：params("userId", userId, "status", status)，值可以为 null
+     */
+    public static Map<String, Object> params(Object... namesAndValues) {
+        if (namesAndValues.length % 2 != 0) {
+            throw new IllegalArgumentException("参数名与参数值必须成对出现");
+        }
+        Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            params.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return params;
+    }
+
+    // === 私有方法 ===
+
+    private TotalCount resolve(CountKey key, Supplier<Long> exact, LongSupplier estimate) {
+        if (!enabled) {
+            return TotalCount.exact(Objects.requireNonNullElse(exact.get(), 0L));
+        }
+        return cache.get(key, k -> {
+            if (estimateThreshold > 0) {
+                long estimated = estimate.getAsLong();
+                if (estimated >= estimateThreshold) {
+                    return TotalCount.estimated(estimated);
+                }
+            }
+            return TotalCount.exact(Objects.requireNonNullElse(exact.get(), 0L));
+        });
+    }
+
+    /**
+     * 对计数语句执行 EXPLAIN，取聚合节点输入的估算行数；失败时返回 -1
+     */
+    private long explainRows(String statementId, Map<String, Object> params) {
+        try {
+            Configuration configuration = sqlSessionFactory.getConfiguration();
+            MappedStatement statement = configuration.getMappedStatement(statementId);
+            BoundSql boundSql = statement.getBoundSql(params);
+            ParameterHandler parameterHandler = configuration.newParameterHandler(statement, params, boundSql);
+            String plan = jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + boundSql.getSql());
+                parameterHandler.setParameters(ps);
+                return ps;
+            }, rs -> rs.next() ? rs.getString(1) : null);
+            if (plan == null) {
+                return -1;
+            }
+            JsonNode node = objectMapper.readTree(plan).path(0).path("Plan");
+            // SELECT COUNT(*) 的顶层是 Aggregate（估算 1 行），向下取被聚合的扫描节点
+            while ("Aggregate".equals(node.path("Node Type").asText()) && node.path("Plans").size() > 0) {
+                node = node.path("Plans").path(0);
+            }
+            return node.path("Plan Rows").asLong(-1);
+        } catch (Exception e) {
+            log.debug("计数语句估算失败，执行精确计数: statement={}, error={}", statementId, e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 表的估算行数（ANALYZE / autovacuum 维护）；从未统计过时为 -1
+     */
+    private long tableRows(String table) {
+        try {
+            Long rows = jdbcTemplate.query(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)",
+                rs -> rs.next() ? rs.getLong(1) : null,
+                table
+            );
+            return rows == null ? -1 : rows;
+        } catch (Exception e) {
+            log.debug("读取表估算行数失败，执行精确计数: table={}, error={}", table, e.getMessage());
+            return -1;
+        }
+    }
+
+    private record CountKey(String region, String scope, String statement, Map<String, Object> params) {
+    }
+}
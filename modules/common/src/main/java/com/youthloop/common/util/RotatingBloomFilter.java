@@ -0,0 +1,130 @@
+package com.youthloop.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 两代轮换的并发 Bloom 过滤器
+ * 
+ * 键由调用方折叠为两个 long（例如 UUID 的高低位与附加维度的哈希）。
+ * 查询同时检查当前代与上一代；当前代写满预期容量或调用方主动 {@link #rotate()}（如按时间窗口）时，
+ * 当前代成为上一代、旧的上一代被丢弃，因此内存与误判率都有上界，记录最多保留两代。
+ */
+public class RotatingBloomFilter {
+    
+    private final int bitCount;
+    private final int hashCount;
+    private final long generationCapacity;
+    
+    private volatile Generation current;
+    private volatile Generation previous;
+    
+    /**
+     * @param expectedInsertions 每代预期插入数
+     * @param falsePositiveRate 每代目标误判率
+     */
+    public RotatingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1000, expectedInsertions);
+        double p = Math.min(0.5, Math.max(1e-6, falsePositiveRate));
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63L, Math.max(64, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.generationCapacity = n;
+        this.current = new Generation(bitCount);
+        this.previous = new Generation(bitCount);
+    }
+    
+    /**
+     * 可能包含（false 表示一定没有记录过）
+     */
+    public boolean mightContain(long key1, long key2) {
+        long h1 = mix(key1);
+        long h2 = mix(key2 + 0x9E3779B97F4A7C15L) | 1L;
+        return current.contains(h1, h2) || previous.contains(h1, h2);
+    }
+    
+    /**
+     * 记录键
+     * 
+     * @return true 表示此前一定没有记录过（当前代有新置位且上一代未命中）
+     */
+    public boolean put(long key1, long key2) {
+        long h1 = mix(key1);
+        // 第二个哈希为奇数，保证双重哈希遍历不同位置
+        long h2 = mix(key2 + 0x9E3779B97F4A7C15L) | 1L;
+        Generation target = current;
+        boolean changed = target.put(h1, h2);
+        if (changed && target.insertions.incrementAndGet() >= generationCapacity) {
+            rotate(target);
+        }
+        return changed && !previous.contains(h1, h2);
+    }
+    
+    /**
+     * 主动轮换一代
+     */
+    public void rotate() {
+        rotate(current);
+    }
+    
+    // === 私有方法 ===
+    
+    private synchronized void rotate(Generation full) {
+        if (current != full) {
+            return;
+        }
+        previous = full;
+        current = new Generation(bitCount);
+    }
+    
+    /**
+     * SplitMix64 终结函数
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    private final class Generation {
+        
+        private final AtomicLongArray words;
+        private final AtomicLong insertions = new AtomicLong();
+        
+        private Generation(int bits) {
+            this.words = new AtomicLongArray((bits + 63) >>> 6);
+        }
+        
+        private boolean contains(long h1, long h2) {
+            for (int i = 0; i < hashCount; i++) {
+                int bit = index(h1 + i * h2);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        private boolean put(long h1, long h2) {
+            boolean changed = false;
+            for (int i = 0; i < hashCount; i++) {
+                int bit = index(h1 + i * h2);
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                long old;
+                do {
+                    old = words.get(word);
+                    if ((old & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(word, old, old | mask));
+                changed |= (old & mask) == 0;
+            }
+            return changed;
+        }
+        
+        private int index(long hash) {
+            return (int) Long.remainderUnsigned(hash, bitCount);
+        }
+    }
+}
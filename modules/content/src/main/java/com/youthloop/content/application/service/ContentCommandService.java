@@ -1,6 +1,8 @@
 package com.youthloop.content.application.service;
 
 import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.common.exception.BizException;
 import com.youthloop.content.api.dto.CreateContentRequest;
 import com.youthloop.content.application.dto.UpdateContentRequest;
@@ -32,6 +34,7 @@ public class ContentCommandService {
     private final ContentMapper contentMapper;
     private final ContentStatsMapper contentStatsMapper;
     private final OutboxEventService outboxEventService;
+    private final CacheInvalidationBus cacheInvalidationBus;
     
     /**
      * 创建内容
@@ -102,6 +105,10 @@ public class ContentCommandService {
         eventPayload.put("title", entity.getTitle());
         eventPayload.put("status", entity.getStatus());
         outboxEventService.publishEvent("CONTENT_CREATED", eventPayload);
+        cacheInvalidationBus.publish(CacheRegions.CONTENT_LIST);
+        if (Integer.valueOf(1).equals(entity.getStatus())) {
+            cacheInvalidationBus.publish(CacheRegions.HOME);
+        }
         
         log.info("内容创建成功: id={}", entity.getId());
         return entity.getId();
@@ -173,6 +180,9 @@ public class ContentCommandService {
             eventPayload.put("status", request.getStatus());
         }
         outboxEventService.publishEvent("CONTENT_UPDATED", eventPayload);
+        cacheInvalidationBus.publish(CacheRegions.CONTENT_DETAIL, contentId.toString());
+        cacheInvalidationBus.publish(CacheRegions.HOME);
+        cacheInvalidationBus.publish(CacheRegions.CONTENT_LIST);
         
         log.info("内容更新成功: id={}", contentId);
     }
@@ -203,6 +213,9 @@ public class ContentCommandService {
         if (rows == 0) {
             throw new BizException(ErrorCode.SYSTEM_ERROR, "发布内容失败");
         }
+        cacheInvalidationBus.publish(CacheRegions.CONTENT_DETAIL, contentId.toString());
+        cacheInvalidationBus.publish(CacheRegions.HOME);
+        cacheInvalidationBus.publish(CacheRegions.CONTENT_LIST);
         
         log.info("内容发布成功: id={}", contentId);
     }
@@ -224,6 +237,9 @@ public class ContentCommandService {
         if (rows == 0) {
             throw new BizException(ErrorCode.SYSTEM_ERROR, "删除内容失败");
         }
+        cacheInvalidationBus.publish(CacheRegions.CONTENT_DETAIL, contentId.toString());
+        cacheInvalidationBus.publish(CacheRegions.HOME);
+        cacheInvalidationBus.publish(CacheRegions.CONTENT_LIST);
         
         log.info("内容删除成功: id={}", contentId);
     }
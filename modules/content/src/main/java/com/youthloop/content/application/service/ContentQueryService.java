@@ -2,7 +2,10 @@ package com.youthloop.content.application.service;
 
 import com.youthloop.common.api.ErrorCode;
 import com.youthloop.common.api.PageResponse;
+import com.youthloop.common.api.TotalCount;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.common.exception.BizException;
+import com.youthloop.common.persistence.TotalCountService;
 import com.youthloop.content.api.dto.ContentDTO;
 import com.youthloop.content.api.dto.ContentListDTO;
 import com.youthloop.content.api.dto.ContentQueryRequest;
@@ -26,9 +29,11 @@ import java.util.stream.Collectors;
 public class ContentQueryService {
 
     private static final int MAX_KEYWORD_LENGTH = 100;
+    private static final String COUNT_LIST = ContentMapper.class.getName() + ".countList";
     
     private final ContentMapper contentMapper;
     private final ContentStatsMapper contentStatsMapper;
+    private final TotalCountService totalCountService;
     
     /**
      * 分页查询内容列表
@@ -48,7 +53,7 @@ public class ContentQueryService {
         // 查询总数
         String keyword = normalizeKeyword(request.getKeyword());
 
-        Long total = contentMapper.countList(request.getType(), status, keyword);
+        TotalCount total = countList(request.getType(), status, keyword);
         
         // 查询列表
         List<ContentEntity> entities = contentMapper.selectList(
@@ -115,6 +120,23 @@ public class ContentQueryService {
         }
         return keyword;
     }
+
+    /**
+     * 列表总数：无筛选条件（后台查看全部状态）时取表的估算行数，否则对计数语句做规划器估算
+     */
+    private TotalCount countList(Integer type, Integer status, String keyword) {
+        if (type == null && status == null && keyword == null) {
+            return totalCountService.countTable(CacheRegions.CONTENT_LIST, "social.content",
+                () -> contentMapper.countList(null, null, null));
+        }
+        return totalCountService.count(
+            CacheRegions.CONTENT_LIST,
+            null,
+            COUNT_LIST,
+            TotalCountService.params("type", type, "status", status, "keyword", keyword),
+            () -> contentMapper.countList(type, status, keyword)
+        );
+    }
     
     /**
      * 根据 ID 查询内容详情
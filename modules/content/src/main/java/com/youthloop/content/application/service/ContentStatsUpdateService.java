@@ -13,6 +13,8 @@ import java.util.UUID;
 /**
  * 内容统计更新服务
  * 由 Worker 异步调用，更新统计表
+ * 所有计数变更都是一条 {@code INSERT ... ON CONFLICT DO UPDATE SET x = GREATEST(0, x + delta) RETURNING}，
+ * 并发下不丢更新，也不需要先查询
  */
 @Slf4j
 @Service
@@ -26,10 +28,7 @@ public class ContentStatsUpdateService {
      */
     @Transactional
     public void incrementLikeCount(UUID contentId) {
-        ContentStatsEntity stats = getOrCreateStats(contentId);
-        stats.setLikeCount(stats.getLikeCount() + 1);
-        stats.setUpdatedAt(LocalDateTime.now());
-        contentStatsMapper.update(stats);
+        ContentStatsEntity stats = applyDelta(contentId, 1, 0, 0, 0, 0);
         log.info("内容点赞数+1: contentId={}, newCount={}", contentId, stats.getLikeCount());
     }
     
@@ -38,10 +37,7 @@ public class ContentStatsUpdateService {
      */
     @Transactional
     public void decrementLikeCount(UUID contentId) {
-        ContentStatsEntity stats = getOrCreateStats(contentId);
-        stats.setLikeCount(Math.max(0, stats.getLikeCount() - 1));
-        stats.setUpdatedAt(LocalDateTime.now());
-        contentStatsMapper.update(stats);
+        ContentStatsEntity stats = applyDelta(contentId, -1, 0, 0, 0, 0);
         log.info("内容点赞数-1: contentId={}, newCount={}", contentId, stats.getLikeCount());
     }
     
@@ -50,10 +46,7 @@ public class ContentStatsUpdateService {
      */
     @Transactional
     public void incrementFavCount(UUID contentId) {
-        ContentStatsEntity stats = getOrCreateStats(contentId);
-        stats.setFavCount(stats.getFavCount() + 1);
-        stats.setUpdatedAt(LocalDateTime.now());
-        contentStatsMapper.update(stats);
+        ContentStatsEntity stats = applyDelta(contentId, 0, 1, 0, 0, 0);
         log.info("内容收藏数+1: contentId={}, newCount={}", contentId, stats.getFavCount());
     }
     
@@ -62,10 +55,7 @@ public class ContentStatsUpdateService {
      */
     @Transactional
     public void decrementFavCount(UUID contentId) {
-        ContentStatsEntity stats = getOrCreateStats(contentId);
-        stats.setFavCount(Math.max(0, stats.getFavCount() - 1));
-        stats.setUpdatedAt(LocalDateTime.now());
-        contentStatsMapper.update(stats);
+        ContentStatsEntity stats = applyDelta(contentId, 0, -1, 0, 0, 0);
         log.info("内容收藏数-1: contentId={}, newCount={}", contentId, stats.getFavCount());
     }
     
@@ -74,10 +64,7 @@ public class ContentStatsUpdateService {
      */
     @Transactional
     public void incrementDownCount(UUID contentId) {
-        ContentStatsEntity stats = getOrCreateStats(contentId);
-        stats.setDownCount(stats.getDownCount() + 1);
-        stats.setUpdatedAt(LocalDateTime.now());
-        contentStatsMapper.update(stats);
+        ContentStatsEntity stats = applyDelta(contentId, 0, 0, 1, 0, 0);
         log.info("内容踩数+1: contentId={}, newCount={}", contentId, stats.getDownCount());
     }
     
@@ -86,10 +73,7 @@ public class ContentStatsUpdateService {
      */
     @Transactional
     public void decrementDownCount(UUID contentId) {
-        ContentStatsEntity stats = getOrCreateStats(contentId);
-        stats.setDownCount(Math.max(0, stats.getDownCount() - 1));
-        stats.setUpdatedAt(LocalDateTime.now());
-        contentStatsMapper.update(stats);
+        ContentStatsEntity stats = applyDelta(contentId, 0, 0, -1, 0, 0);
         log.info("内容踩数-1: contentId={}, newCount={}", contentId, stats.getDownCount());
     }
     
@@ -98,10 +82,7 @@ public class ContentStatsUpdateService {
      */
     @Transactional
     public void incrementCommentCount(UUID contentId) {
-        ContentStatsEntity stats = getOrCreateStats(contentId);
-        stats.setCommentCount(stats.getCommentCount() + 1);
-        stats.setUpdatedAt(LocalDateTime.now());
-        contentStatsMapper.update(stats);
+        ContentStatsEntity stats = applyDelta(contentId, 0, 0, 0, 1, 0);
         log.info("内容评论数+1: contentId={}, newCount={}", contentId, stats.getCommentCount());
     }
     
@@ -110,10 +91,7 @@ public class ContentStatsUpdateService {
      */
     @Transactional
     public void decrementCommentCount(UUID contentId) {
-        ContentStatsEntity stats = getOrCreateStats(contentId);
-        stats.setCommentCount(Math.max(0, stats.getCommentCount() - 1));
-        stats.setUpdatedAt(LocalDateTime.now());
-        contentStatsMapper.update(stats);
+        ContentStatsEntity stats = applyDelta(contentId, 0, 0, 0, -1, 0);
         log.info("内容评论数-1: contentId={}, newCount={}", contentId, stats.getCommentCount());
     }
 
@@ -122,36 +100,27 @@ public class ContentStatsUpdateService {
      */
     @Transactional
     public void incrementViewCount(UUID contentId) {
-        ContentStatsEntity stats = getOrCreateStats(contentId);
-        long current = stats.getViewCount() != null ? stats.getViewCount() : 0L;
-        stats.setViewCount(current + 1);
-        stats.setUpdatedAt(LocalDateTime.now());
-        contentStatsMapper.update(stats);
+        applyDelta(contentId, 0, 0, 0, 0, 1);
     }
 
+    /**
+     * 按净增量批量更新计数（Worker 合并同一批事件后调用，一条 SQL 完成）
+     */
+    @Transactional
+    public void applyCounterDeltas(UUID contentId, int likeDelta, int favDelta, int downDelta, int commentDelta) {
+        applyDelta(contentId, likeDelta, favDelta, downDelta, commentDelta, 0);
+        log.info("内容计数增量已应用: contentId={}, like={}, fav={}, down={}, comment={}",
+            contentId, likeDelta, favDelta, downDelta, commentDelta);
+    }
+    
     // === 私有方法 ===
     
     /**
-     * 获取或创建统计记录
+     * 单条 upsert 原子累加计数并返回更新后的计数（记录不存在时按增量创建，计数不低于 0）
      */
-    private ContentStatsEntity getOrCreateStats(UUID contentId) {
-        ContentStatsEntity stats = contentStatsMapper.selectByContentId(contentId);
-        
-        if (stats == null) {
-            // 如果不存在，创建新记录
-            stats = new ContentStatsEntity();
-            stats.setContentId(contentId);
-            stats.setLikeCount(0);
-            stats.setFavCount(0);
-            stats.setDownCount(0);
-            stats.setCommentCount(0);
-            stats.setViewCount(0L);
-            stats.setHotScore(0L);
-            stats.setUpdatedAt(LocalDateTime.now());
-            contentStatsMapper.insert(stats);
-            log.info("创建内容统计记录: contentId={}", contentId);
-        }
-        
-        return stats;
+    private ContentStatsEntity applyDelta(UUID contentId, int like, int fav, int down, int comment, int view) {
+        return contentStatsMapper.applyCounterDeltas(
+            contentId, like, fav, down, comment, view, LocalDateTime.now()
+        );
     }
 }
@@ -0,0 +1,164 @@
+package com.youthloop.content.application.service;
+
+import com.youthloop.common.util.RotatingBloomFilter;
+import com.youthloop.content.persistence.mapper.ContentStatsMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 内容浏览计数缓冲
+ * 
+ * 详情接口只在进程内按内容 ID 累加（LongAdder，无 I/O），后台定时把累计的增量用一条批量 upsert 写入
+ * content_stats.view_count，进程停止时再刷一次。写库失败的增量放回缓冲，下一轮重试。
+ * 刷新时先把计数器从表中摘下再求和；已取到旧计数器、尚未累加的浏览会在下一轮从旧计数器上补回。
+ * 可选的观看者去重：同一观看者在去重窗口内重复打开同一内容只计一次（两代 Bloom 过滤器，按窗口轮换，
+ * 实际去重时长在 1～2 个窗口之间；误判只会少计极少量浏览）。
+ */
+@Slf4j
+@Service
+public class ContentViewCounter implements SmartLifecycle {
+    
+    private final ContentStatsMapper contentStatsMapper;
+    private final long flushIntervalMs;
+    private final long dedupWindowSeconds;
+    private final RotatingBloomFilter recentViewers;
+    
+    private final ConcurrentHashMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+    
+    /**
+     * 上一轮摘下的计数器及已计入的值（仅在 flush 内访问）
+     */
+    private final List<RetiredAdder> retired = new ArrayList<>();
+    private volatile ScheduledExecutorService scheduler;
+    
+    public ContentViewCounter(
+        ContentStatsMapper contentStatsMapper,
+        @Value("${content.view-count.flush-interval-ms:5000}") long flushIntervalMs,
+        @Value("${content.view-count.dedup-window-seconds:300}") long dedupWindowSeconds,
+        @Value("${content.view-count.dedup-expected-viewers:200000}") long dedupExpectedViewers
+    ) {
+        this.contentStatsMapper = contentStatsMapper;
+        this.flushIntervalMs = Math.max(200, flushIntervalMs);
+        this.dedupWindowSeconds = dedupWindowSeconds;
+        this.recentViewers = dedupWindowSeconds > 0 ? new RotatingBloomFilter(dedupExpectedViewers, 0.001) : null;
+    }
+    
+    /**
+     * 记录一次浏览（仅内存操作）
+     * 
+     * @param viewerKey 观看者标识（登录用户 ID 或匿名客户端指纹），为空时不去重
+     */
+    public void recordView(UUID contentId, String viewerKey) {
+        if (recentViewers != null && viewerKey != null) {
+            long viewerHash = viewerKey.hashCode();
+            boolean firstView = recentViewers.put(
+                contentId.getMostSignificantBits() ^ viewerHash,
+                contentId.getLeastSignificantBits() + 31L * viewerHash
+            );
+            if (!firstView) {
+                return;
+            }
+        }
+        pending.computeIfAbsent(contentId, key -> new LongAdder()).increment();
+    }
+    
+    /**
+     * 把累计的浏览增量写入数据库
+     * 
+     * @return 写入的内容数
+     */
+    public synchronized int flush() {
+        Map<UUID, Long> totals = new HashMap<>();
+        // 上一轮摘下的计数器上迟到的增量
+        for (RetiredAdder previous : retired) {
+            long late = previous.adder().sum() - previous.counted();
+            if (late > 0) {
+                totals.merge(previous.contentId(), late, Long::sum);
+            }
+        }
+        retired.clear();
+        // 先从表中摘下计数器再求和：之后的浏览落到新计数器上，不会与求和竞争
+        for (UUID contentId : pending.keySet()) {
+            LongAdder adder = pending.remove(contentId);
+            if (adder == null) {
+                continue;
+            }
+            long count = adder.sum();
+            retired.add(new RetiredAdder(contentId, adder, count));
+            if (count > 0) {
+                totals.merge(contentId, count, Long::sum);
+            }
+        }
+        List<Map.Entry<UUID, Long>> deltas = new ArrayList<>(totals.size());
+        for (Map.Entry<UUID, Long> total : totals.entrySet()) {
+            // 公开的 Entry 实现，MyBatis 通过反射读取 key / value
+            deltas.add(new AbstractMap.SimpleImmutableEntry<>(total.getKey(), total.getValue()));
+        }
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        
+        // 按 ID 排序，多个 API 实例并发刷新时加锁顺序一致
+        deltas.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+        try {
+            contentStatsMapper.addViewCounts(deltas, LocalDateTime.now());
+            log.debug("浏览计数已刷新: contents={}", deltas.size());
+        } catch (Exception e) {
+            for (Map.Entry<UUID, Long> delta : deltas) {
+                pending.computeIfAbsent(delta.getKey(), key -> new LongAdder()).add(delta.getValue());
+            }
+            log.warn("浏览计数刷新失败，下一轮重试: contents={}, error={}", deltas.size(), e.getMessage());
+        }
+        return deltas.size();
+    }
+    
+    @Override
+    public void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("content-view-flusher").daemon().factory()
+        );
+        executor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (recentViewers != null) {
+            executor.scheduleAtFixedRate(recentViewers::rotate, dedupWindowSeconds, dedupWindowSeconds, TimeUnit.SECONDS);
+        }
+        scheduler = executor;
+    }
+    
+    @Override
+    public void stop() {
+        ScheduledExecutorService executor = scheduler;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        scheduler = null;
+        int flushed = flush();
+        if (flushed > 0) {
+            log.info("停止前已刷新浏览计数: contents={}", flushed);
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+    
+    private record RetiredAdder(UUID contentId, LongAdder adder, long counted) {
+    }
+}
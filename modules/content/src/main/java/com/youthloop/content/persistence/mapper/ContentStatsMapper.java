@@ -4,7 +4,9 @@ import com.youthloop.content.persistence.entity.ContentStatsEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -32,4 +34,29 @@ public interface ContentStatsMapper {
      * 更新统计
      */
     int update(ContentStatsEntity stats);
+    
+    /**
+     * 按增量原子更新计数（记录不存在时插入），计数不低于 0
+     * 
+     * @return 更新后的统计
+     */
+    ContentStatsEntity applyCounterDeltas(
+        @Param("contentId") UUID contentId,
+        @Param("likeDelta") int likeDelta,
+        @Param("favDelta") int favDelta,
+        @Param("downDelta") int downDelta,
+        @Param("commentDelta") int commentDelta,
+        @Param("viewDelta") int viewDelta,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+    
+    /**
+     * 批量累加浏览数（一条语句；已删除的内容被忽略）
+     * 
+     * @param deltas 内容 ID -> 浏览增量，调用方按 ID 排序以保证多实例并发时加锁顺序一致
+     */
+    int addViewCounts(
+        @Param("deltas") List<Map.Entry<UUID, Long>> deltas,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
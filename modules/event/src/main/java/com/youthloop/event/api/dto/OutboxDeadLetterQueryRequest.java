@@ -0,0 +1,32 @@
+package com.youthloop.event.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 死信事件查询条件（keyset 分页，按 created_at、id 倒序）
+ */
+@Data
+@Schema(description = "Dead-letter outbox event query")
+public class OutboxDeadLetterQueryRequest {
+
+    @Schema(description = "Event type filter", example = "COMMENT_CREATED")
+    private String eventType;
+
+    @Schema(description = "Case-insensitive substring of last_error", example = "timeout")
+    private String errorContains;
+
+    @Schema(description = "Created at or after (inclusive)")
+    private LocalDateTime from;
+
+    @Schema(description = "Created before (exclusive)")
+    private LocalDateTime to;
+
+    @Schema(description = "Opaque cursor returned by the previous page")
+    private String cursor;
+
+    @Schema(description = "Page size, max 200", example = "50")
+    private Integer size = 50;
+}
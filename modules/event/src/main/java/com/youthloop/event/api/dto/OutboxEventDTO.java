@@ -1,6 +1,8 @@
 package com.youthloop.event.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -26,6 +28,15 @@ public class OutboxEventDTO {
      */
     private String payload;
     
+    /**
+     * 事件负载原始字节（UTF-8 JSON，仅进程内使用）
+     * 
+     * 从消息代理接收的事件直接携带消息体，反序列化时优先使用，省去一次 String 解码；为空时使用 {@link #payload}
+     */
+    @JsonIgnore
+    @ToString.Exclude
+    private byte[] payloadBytes;
+    
     /**
      * 状态：1=pending 2=processing 3=done 4=dead
      */
@@ -46,6 +57,16 @@ public class OutboxEventDTO {
      */
     private String lastError;
     
+    /**
+     * 持有租约的 Worker 标识
+     */
+    private String lockedBy;
+    
+    /**
+     * 租约到期时间
+     */
+    private LocalDateTime lockedUntil;
+    
     /**
      * 创建时间
      */
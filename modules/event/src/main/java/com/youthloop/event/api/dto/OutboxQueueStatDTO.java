@@ -0,0 +1,30 @@
+package com.youthloop.event.api.dto;
+
+import lombok.Data;
+
+/**
+ * Outbox 队列统计（按事件类型 + 状态分组）
+ */
+@Data
+public class OutboxQueueStatDTO {
+    
+    /**
+     * 事件类型
+     */
+    private String eventType;
+    
+    /**
+     * 状态：1=pending 2=processing 4=dead（已完成事件不统计）
+     */
+    private Integer status;
+    
+    /**
+     * 事件数
+     */
+    private Long eventCount;
+    
+    /**
+     * 最早一条事件距今的秒数（数据库时钟）
+     */
+    private Long oldestAgeSeconds;
+}
@@ -0,0 +1,37 @@
+package com.youthloop.event.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 死信批量重放请求
+ *
+ * 匹配的死信重新置为 pending，并按 ratePerSecond 错开 next_retry_at，由 Worker 的正常认领流程逐步消费
+ */
+@Data
+@Schema(description = "Bulk re-queue dead-letter outbox events")
+public class OutboxReplayRequest {
+
+    @Schema(description = "Event type filter", example = "COMMENT_CREATED")
+    private String eventType;
+
+    @Schema(description = "Case-insensitive substring of last_error", example = "timeout")
+    private String errorContains;
+
+    @Schema(description = "Created at or after (inclusive)")
+    private LocalDateTime from;
+
+    @Schema(description = "Created before (exclusive)")
+    private LocalDateTime to;
+
+    @Schema(description = "Max events to re-queue in this call, max 10000", example = "1000")
+    private Integer limit = 1000;
+
+    @Schema(description = "Events released to the worker per second", example = "50")
+    private Integer ratePerSecond = 50;
+
+    @Schema(description = "Only count matching events without changing them", example = "true")
+    private Boolean dryRun = true;
+}
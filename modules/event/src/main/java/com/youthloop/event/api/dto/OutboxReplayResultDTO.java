@@ -0,0 +1,28 @@
+package com.youthloop.event.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 死信批量重放结果
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Dead-letter replay result")
+public class OutboxReplayResultDTO {
+
+    @Schema(description = "Dead events matching the filter (capped by limit)")
+    private Long matched;
+
+    @Schema(description = "Events re-queued, 0 for dry runs")
+    private Long requeued;
+
+    @Schema(description = "Whether this was a dry run")
+    private Boolean dryRun;
+
+    @Schema(description = "Seconds until the last re-queued event becomes eligible for claiming")
+    private Long releaseWindowSeconds;
+}
@@ -0,0 +1,23 @@
+package com.youthloop.event.api.facade;
+
+import com.youthloop.common.api.PageResponse;
+import com.youthloop.event.api.dto.OutboxDeadLetterQueryRequest;
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import com.youthloop.event.api.dto.OutboxReplayRequest;
+import com.youthloop.event.api.dto.OutboxReplayResultDTO;
+
+/**
+ * Outbox 死信管理门面（供管理端调用）
+ */
+public interface OutboxDeadLetterFacade {
+    
+    /**
+     * 按事件类型、错误信息、时间范围查询死信（游标分页，最新在前）
+     */
+    PageResponse<OutboxEventDTO> listDeadLetters(OutboxDeadLetterQueryRequest query);
+    
+    /**
+     * 批量重放死信（按速率错开，dryRun 时只统计数量）
+     */
+    OutboxReplayResultDTO replay(OutboxReplayRequest request);
+}
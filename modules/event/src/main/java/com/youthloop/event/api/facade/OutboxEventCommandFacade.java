@@ -1,5 +1,11 @@
 package com.youthloop.event.api.facade;
 
+import com.youthloop.event.api.dto.OutboxEventDTO;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -8,22 +14,84 @@ import java.util.UUID;
 public interface OutboxEventCommandFacade {
     
     /**
-     * 标记事件为处理中
+     * 新事件提交后 pg_notify 使用的频道，Worker 在专用连接上 LISTEN 该频道
+     */
+    String NOTIFY_CHANNEL = "outbox_event";
+    
+    /**
+     * 原子认领一批待处理事件（置为 processing 并加租约），多 Worker 并发认领互不重复
+     * 
+     * @param workerId 当前 Worker 标识
+     * @param limit 认领数量上限
+     * @param lease 租约时长
+     * @return 已认领事件（按创建时间排序）
+     */
+    List<OutboxEventDTO> claimEvents(String workerId, int limit, Duration lease);
+    
+    /**
+     * 回收租约过期的事件
+     * 
+     * @return 回收数量
      */
-    void markProcessing(UUID eventId);
+    int releaseExpiredLeases(int maxRetryCount);
     
     /**
      * 标记事件为完成
+     * 
+     * @return false 表示租约已不属于该 Worker（已被回收），结果被丢弃
      */
-    void markDone(UUID eventId);
+    boolean markDone(UUID eventId, String workerId);
+    
+    /**
+     * 批量标记事件为完成；调用方在外层事务内调用时，可与业务写入原子提交
+     * 
+     * @return 实际完成的事件 ID（租约已失效的事件不在其中）
+     */
+    List<UUID> markDoneBatch(List<UUID> eventIds, String workerId);
     
     /**
      * 标记事件为失败（等待重试）
      */
-    void markFailed(UUID eventId, int retryCount, String errorMessage);
+    boolean markFailed(UUID eventId, String workerId, int retryCount, String errorMessage);
     
     /**
      * 标记事件为死信
      */
-    void markDead(UUID eventId, String errorMessage);
+    boolean markDead(UUID eventId, String workerId, String errorMessage);
+    
+    /**
+     * 维护 outbox 日分区：预建未来分区，删除超过保留期且只剩已完成事件的分区（有死信的分区保留）
+     * 
+     * @param premakeDays 预建今天之后的天数
+     * @param retentionDays 保留天数
+     * @param archiveDone 是否归档已完成事件（否则直接丢弃）
+     * @return 删除的分区数
+     */
+    int maintainPartitions(int premakeDays, int retentionDays, boolean archiveDone);
+    
+    /**
+     * 在调用方事务内记录事件已被某消费者处理（与 Handler 写入原子提交）
+     * 
+     * @return true 表示首次处理；false 表示已处理过，调用方应跳过 Handler
+     */
+    boolean recordProcessed(UUID eventId, String consumer);
+    
+    /**
+     * 在调用方事务内批量记录事件已被某消费者处理
+     * 
+     * @return 首次处理的事件 ID；其余事件已处理过，调用方应跳过
+     */
+    Set<UUID> recordProcessedBatch(List<UUID> eventIds, String consumer);
+    
+    /**
+     * 事件是否已被某消费者处理
+     */
+    boolean isProcessed(UUID eventId, String consumer);
+    
+    /**
+     * 清理早于指定时间的已处理事件账本
+     * 
+     * @return 删除数量
+     */
+    int purgeProcessed(LocalDateTime before);
 }
@@ -1,6 +1,7 @@
 package com.youthloop.event.api.facade;
 
 import com.youthloop.event.api.dto.OutboxEventDTO;
+import com.youthloop.event.api.dto.OutboxQueueStatDTO;
 
 import java.util.List;
 
@@ -16,4 +17,9 @@ public interface OutboxEventQueryFacade {
      * @return 待处理事件列表
      */
     List<OutboxEventDTO> getPendingEvents(int limit);
+    
+    /**
+     * 按事件类型与状态统计未完成事件（pending / processing / dead）
+     */
+    List<OutboxQueueStatDTO> getQueueStats();
 }
@@ -0,0 +1,31 @@
+package com.youthloop.event.application.facade;
+
+import com.youthloop.common.api.PageResponse;
+import com.youthloop.event.api.dto.OutboxDeadLetterQueryRequest;
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import com.youthloop.event.api.dto.OutboxReplayRequest;
+import com.youthloop.event.api.dto.OutboxReplayResultDTO;
+import com.youthloop.event.api.facade.OutboxDeadLetterFacade;
+import com.youthloop.event.application.service.OutboxDeadLetterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Outbox 死信管理门面实现
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxDeadLetterFacadeImpl implements OutboxDeadLetterFacade {
+    
+    private final OutboxDeadLetterService outboxDeadLetterService;
+    
+    @Override
+    public PageResponse<OutboxEventDTO> listDeadLetters(OutboxDeadLetterQueryRequest query) {
+        return outboxDeadLetterService.listDeadLetters(query, OutboxEventQueryFacadeImpl::toDTO);
+    }
+    
+    @Override
+    public OutboxReplayResultDTO replay(OutboxReplayRequest request) {
+        return outboxDeadLetterService.replay(request);
+    }
+}
@@ -1,10 +1,17 @@
 package com.youthloop.event.application.facade;
 
+import com.youthloop.event.api.dto.OutboxEventDTO;
 import com.youthloop.event.api.facade.OutboxEventCommandFacade;
 import com.youthloop.event.application.service.OutboxEventService;
+import com.youthloop.event.application.service.OutboxPartitionService;
+import com.youthloop.event.application.service.ProcessedEventLedgerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -15,24 +22,63 @@ import java.util.UUID;
 public class OutboxEventCommandFacadeImpl implements OutboxEventCommandFacade {
     
     private final OutboxEventService outboxEventService;
+    private final OutboxPartitionService outboxPartitionService;
+    private final ProcessedEventLedgerService processedEventLedgerService;
     
     @Override
-    public void markProcessing(UUID eventId) {
-        outboxEventService.markProcessing(eventId);
+    public List<OutboxEventDTO> claimEvents(String workerId, int limit, Duration lease) {
+        return outboxEventService.claimEvents(workerId, limit, lease).stream()
+                .map(OutboxEventQueryFacadeImpl::toDTO)
+                .toList();
     }
     
     @Override
-    public void markDone(UUID eventId) {
-        outboxEventService.markDone(eventId);
+    public int releaseExpiredLeases(int maxRetryCount) {
+        return outboxEventService.releaseExpiredLeases(maxRetryCount);
     }
     
     @Override
-    public void markFailed(UUID eventId, int retryCount, String errorMessage) {
-        outboxEventService.markFailed(eventId, retryCount, errorMessage);
+    public boolean markDone(UUID eventId, String workerId) {
+        return outboxEventService.markDone(eventId, workerId);
     }
     
     @Override
-    public void markDead(UUID eventId, String errorMessage) {
-        outboxEventService.markDead(eventId, errorMessage);
+    public List<UUID> markDoneBatch(List<UUID> eventIds, String workerId) {
+        return outboxEventService.markDoneBatch(eventIds, workerId);
+    }
+    
+    @Override
+    public boolean markFailed(UUID eventId, String workerId, int retryCount, String errorMessage) {
+        return outboxEventService.markFailed(eventId, workerId, retryCount, errorMessage);
+    }
+    
+    @Override
+    public boolean markDead(UUID eventId, String workerId, String errorMessage) {
+        return outboxEventService.markDead(eventId, workerId, errorMessage);
+    }
+    
+    @Override
+    public int maintainPartitions(int premakeDays, int retentionDays, boolean archiveDone) {
+        return outboxPartitionService.maintainPartitions(premakeDays, retentionDays, archiveDone);
+    }
+    
+    @Override
+    public boolean recordProcessed(UUID eventId, String consumer) {
+        return processedEventLedgerService.tryRecord(eventId, consumer);
+    }
+    
+    @Override
+    public Set<UUID> recordProcessedBatch(List<UUID> eventIds, String consumer) {
+        return processedEventLedgerService.tryRecordBatch(eventIds, consumer);
+    }
+    
+    @Override
+    public boolean isProcessed(UUID eventId, String consumer) {
+        return processedEventLedgerService.isProcessed(eventId, consumer);
+    }
+    
+    @Override
+    public int purgeProcessed(LocalDateTime before) {
+        return processedEventLedgerService.purgeBefore(before);
     }
 }
@@ -1,6 +1,7 @@
 package com.youthloop.event.application.facade;
 
 import com.youthloop.event.api.dto.OutboxEventDTO;
+import com.youthloop.event.api.dto.OutboxQueueStatDTO;
 import com.youthloop.event.api.facade.OutboxEventQueryFacade;
 import com.youthloop.event.application.service.OutboxEventService;
 import com.youthloop.event.persistence.entity.OutboxEventEntity;
@@ -23,11 +24,16 @@ public class OutboxEventQueryFacadeImpl implements OutboxEventQueryFacade {
     public List<OutboxEventDTO> getPendingEvents(int limit) {
         List<OutboxEventEntity> entities = outboxEventService.getPendingEvents(limit);
         return entities.stream()
-                .map(this::toDTO)
+                .map(OutboxEventQueryFacadeImpl::toDTO)
                 .collect(Collectors.toList());
     }
     
-    private OutboxEventDTO toDTO(OutboxEventEntity entity) {
+    @Override
+    public List<OutboxQueueStatDTO> getQueueStats() {
+        return outboxEventService.getQueueStats();
+    }
+    
+    static OutboxEventDTO toDTO(OutboxEventEntity entity) {
         OutboxEventDTO dto = new OutboxEventDTO();
         dto.setId(entity.getId());
         dto.setEventType(entity.getEventType());
@@ -36,6 +42,8 @@ public class OutboxEventQueryFacadeImpl implements OutboxEventQueryFacade {
         dto.setRetryCount(entity.getRetryCount());
         dto.setNextRetryAt(entity.getNextRetryAt());
         dto.setLastError(entity.getLastError());
+        dto.setLockedBy(entity.getLockedBy());
+        dto.setLockedUntil(entity.getLockedUntil());
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
         return dto;
@@ -0,0 +1,109 @@
+package com.youthloop.event.application.service;
+
+import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.api.PageCursor;
+import com.youthloop.common.api.PageResponse;
+import com.youthloop.common.exception.BizException;
+import com.youthloop.event.api.dto.OutboxDeadLetterQueryRequest;
+import com.youthloop.event.api.dto.OutboxEventDTO;
+import com.youthloop.event.api.dto.OutboxReplayRequest;
+import com.youthloop.event.api.dto.OutboxReplayResultDTO;
+import com.youthloop.event.persistence.entity.OutboxEventEntity;
+import com.youthloop.event.persistence.mapper.OutboxEventMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Outbox 死信管理服务
+ *
+ * 查询使用 keyset 分页（游标为上一页最后一条的 created_at + id），深翻页不退化；
+ * 重放只把死信改回 pending 并错开 next_retry_at，实际处理仍走 Worker 的认领 / 分通道流程。
+ * 死信始终留在在线表中（分区保留只归档已完成事件），查询与重放覆盖全部死信。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxDeadLetterService {
+
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_REPLAY_LIMIT = 10000;
+    private static final int MAX_REPLAY_RATE = 1000;
+
+    /**
+     * 游标的排序名
+     */
+    private static final String CURSOR_SORT = "dead";
+
+    private final OutboxEventMapper outboxEventMapper;
+
+    /**
+     * 查询死信
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<OutboxEventDTO> listDeadLetters(OutboxDeadLetterQueryRequest query,
+                                                        Function<OutboxEventEntity, OutboxEventDTO> toDTO) {
+        int size = clamp(query.getSize(), 50, 1, MAX_PAGE_SIZE);
+        validateRange(query.getFrom(), query.getTo());
+        PageCursor cursor = PageCursor.decode(query.getCursor(), CURSOR_SORT);
+
+        // 多取一条判断是否还有下一页
+        List<OutboxEventEntity> rows = outboxEventMapper.selectDeadLetters(
+            query.getEventType(), query.getErrorContains(), query.getFrom(), query.getTo(),
+            cursor != null ? cursor.getTime() : null, cursor != null ? cursor.getId() : null, size + 1
+        );
+        return PageResponse.ofCursor(rows, size, toDTO,
+            last -> PageCursor.ofTime(CURSOR_SORT, last.getCreatedAt(), last.getId()));
+    }
+
+    /**
+     * 批量重放死信；dryRun 时只统计
+     */
+    @Transactional
+    public OutboxReplayResultDTO replay(OutboxReplayRequest request) {
+        int limit = clamp(request.getLimit(), 1000, 1, MAX_REPLAY_LIMIT);
+        int rate = clamp(request.getRatePerSecond(), 50, 1, MAX_REPLAY_RATE);
+        boolean dryRun = !Boolean.FALSE.equals(request.getDryRun());
+        validateRange(request.getFrom(), request.getTo());
+
+        if (dryRun) {
+            long matched = outboxEventMapper.countDeadLetters(
+                request.getEventType(), request.getErrorContains(), request.getFrom(), request.getTo(), limit
+            );
+            return new OutboxReplayResultDTO(matched, 0L, true, releaseWindowSeconds(matched, rate));
+        }
+
+        int requeued = outboxEventMapper.requeueDeadLetters(
+            request.getEventType(), request.getErrorContains(), request.getFrom(), request.getTo(),
+            limit, rate
+        );
+        log.warn("死信已重放: eventType={}, errorContains={}, from={}, to={}, requeued={}, ratePerSecond={}",
+            request.getEventType(), request.getErrorContains(), request.getFrom(), request.getTo(), requeued, rate);
+        return new OutboxReplayResultDTO((long) requeued, (long) requeued, false, releaseWindowSeconds(requeued, rate));
+    }
+
+    // === 私有方法 ===
+
+    private long releaseWindowSeconds(long count, int rate) {
+        return count == 0 ? 0 : (count - 1) / rate;
+    }
+
+    private int clamp(Integer value, int defaultValue, int min, int max) {
+        int resolved = value == null ? defaultValue : value;
+        if (resolved < min || resolved > max) {
+            throw new BizException(ErrorCode.INVALID_PARAMETER, "参数超出范围: " + min + "-" + max);
+        }
+        return resolved;
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BizException(ErrorCode.INVALID_PARAMETER, "时间范围无效: from 必须早于 to");
+        }
+    }
+}
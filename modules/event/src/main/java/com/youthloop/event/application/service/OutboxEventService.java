@@ -4,6 +4,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.youthloop.common.api.ErrorCode;
 import com.youthloop.common.exception.BizException;
+import com.youthloop.event.api.dto.OutboxQueueStatDTO;
+import com.youthloop.event.api.facade.OutboxEventCommandFacade;
 import com.youthloop.event.persistence.entity.OutboxEventEntity;
 import com.youthloop.event.persistence.mapper.OutboxEventMapper;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +14,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
@@ -54,14 +58,12 @@ public class OutboxEventService {
         event.setStatus(1); // pending
         event.setRetryCount(0);
         
-        LocalDateTime now = LocalDateTime.now();
-        event.setCreatedAt(now);
-        event.setUpdatedAt(now);
-        
         int rows = outboxEventMapper.insert(event);
         if (rows == 0) {
             throw new BizException(ErrorCode.SYSTEM_ERROR, "写入 Outbox 事件失败");
         }
+        // NOTIFY 在事务提交时才投递，Worker 收到后立即认领
+        outboxEventMapper.notifyChannel(OutboxEventCommandFacade.NOTIFY_CHANNEL);
         
         log.info("Outbox 事件已发布: id={}, type={}", event.getId(), eventType);
         return event.getId();
@@ -72,70 +74,104 @@ public class OutboxEventService {
      */
     @Transactional(readOnly = true)
     public List<OutboxEventEntity> getPendingEvents(int limit) {
-        return outboxEventMapper.selectPendingEvents(limit, LocalDateTime.now());
+        return outboxEventMapper.selectPendingEvents(limit);
     }
     
     /**
-     * 标记事件为处理中
+     * 按事件类型与状态统计未完成事件（监控用）
+     */
+    @Transactional(readOnly = true)
+    public List<OutboxQueueStatDTO> getQueueStats() {
+        return outboxEventMapper.selectQueueStats();
+    }
+    
+    /**
+     * 原子认领一批待处理事件并加租约（Worker 调用）
+     * 
+     * 认领在独立短事务内提交，处理过程中不持有行锁；租约到期未完成的事件由 {@link #releaseExpiredLeases} 回收。
+     * 租约截止与回收判定都用数据库时钟，各 Worker 的本机时钟偏差不会让租约提前过期
      */
     @Transactional
-    public void markProcessing(UUID eventId) {
-        outboxEventMapper.updateStatus(
-            eventId, 
-            2, // processing
-            null, 
-            null, 
-            null, 
-            LocalDateTime.now()
+    public List<OutboxEventEntity> claimEvents(String workerId, int limit, Duration lease) {
+        List<OutboxEventEntity> claimed = new ArrayList<>(
+            outboxEventMapper.claimPendingEvents(workerId, limit, Math.max(1, lease.toSeconds()))
         );
+        // RETURNING 不保证顺序，按创建时间恢复 FIFO
+        claimed.sort(Comparator.comparing(OutboxEventEntity::getCreatedAt));
+        return claimed;
+    }
+    
+    /**
+     * 回收租约过期的事件（Worker 崩溃或处理超时）
+     */
+    @Transactional
+    public int releaseExpiredLeases(int maxRetryCount) {
+        return outboxEventMapper.releaseExpiredLeases(maxRetryCount);
     }
     
     /**
      * 标记事件为完成
+     * 
+     * @return 租约仍由 workerId 持有并更新成功时为 true
      */
     @Transactional
-    public void markDone(UUID eventId) {
-        outboxEventMapper.updateStatus(
+    public boolean markDone(UUID eventId, String workerId) {
+        return outboxEventMapper.updateStatus(
             eventId, 
+            workerId,
             3, // done
             null, 
             null, 
-            null, 
-            LocalDateTime.now()
-        );
+            null
+        ) > 0;
+    }
+    
+    /**
+     * 批量标记事件为完成（一条 UPDATE ... WHERE id = ANY(?)；合并处理的事件在同一事务内与业务写入一起提交）
+     * 
+     * @return 租约仍由 workerId 持有、实际完成的事件 ID
+     */
+    @Transactional
+    public List<UUID> markDoneBatch(List<UUID> eventIds, String workerId) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        String[] ids = eventIds.stream().map(UUID::toString).toArray(String[]::new);
+        return outboxEventMapper.markDoneBatch(ids, workerId).stream()
+            .map(OutboxEventEntity::getId)
+            .toList();
     }
     
     /**
      * 标记事件为失败（需要重试）
      */
     @Transactional
-    public void markFailed(UUID eventId, int retryCount, String errorMessage) {
-        // 指数退避：1分钟、2分钟、4分钟...
-        int delayMinutes = (int) Math.pow(2, retryCount);
-        LocalDateTime nextRetry = LocalDateTime.now().plusMinutes(delayMinutes);
+    public boolean markFailed(UUID eventId, String workerId, int retryCount, String errorMessage) {
+        // 指数退避：1分钟、2分钟、4分钟...（按数据库时钟计算 next_retry_at）
+        long delaySeconds = 60L * (long) Math.pow(2, retryCount);
         
-        outboxEventMapper.updateStatus(
+        return outboxEventMapper.updateStatus(
             eventId, 
+            workerId,
             1, // 回到 pending
             retryCount, 
-            nextRetry, 
-            errorMessage, 
-            LocalDateTime.now()
-        );
+            delaySeconds, 
+            errorMessage
+        ) > 0;
     }
     
     /**
      * 标记事件为死信（超过最大重试次数）
      */
     @Transactional
-    public void markDead(UUID eventId, String errorMessage) {
-        outboxEventMapper.updateStatus(
+    public boolean markDead(UUID eventId, String workerId, String errorMessage) {
+        return outboxEventMapper.updateStatus(
             eventId, 
+            workerId,
             4, // dead
             null, 
             null, 
-            errorMessage, 
-            LocalDateTime.now()
-        );
+            errorMessage
+        ) > 0;
     }
 }
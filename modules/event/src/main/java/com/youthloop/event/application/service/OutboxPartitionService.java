@@ -0,0 +1,175 @@
+package com.youthloop.event.application.service;
+
+import com.youthloop.event.persistence.mapper.OutboxEventMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Outbox 分区维护服务
+ *
+ * outbox_event 按 created_at 以 UTC 自然日分区（outbox_event_pYYYYMMDD），另有一个默认分区兜底。
+ * 维护内容：预建未来的日分区；超过保留期的分区在只剩已完成事件时整表删除（归档模式下先复制到
+ * outbox_event_archive）。未完成事件与死信都会阻止删除，死信留在在线表中等待人工重放或丢弃。
+ * 每个分区的创建 / 删除各在一个独立的短事务中执行，各自获取咨询锁，避免一轮维护长时间持有 DDL 锁。
+ */
+@Slf4j
+@Service
+public class OutboxPartitionService {
+
+    private static final String LOCK_KEY = "social.outbox_event.partition_maintenance";
+    private static final String DEFAULT_PARTITION = "outbox_event_default";
+    private static final Pattern DAILY_PARTITION = Pattern.compile("outbox_event_p(\\d{8})");
+    private static final DateTimeFormatter PARTITION_DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final OutboxEventMapper outboxEventMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxPartitionService(OutboxEventMapper outboxEventMapper, PlatformTransactionManager transactionManager) {
+        this.outboxEventMapper = outboxEventMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 执行一轮分区维护（多个 Worker 同时调用时只有拿到咨询锁的一个执行，拿不到锁的步骤直接结束本轮）
+     *
+     * @param premakeDays 预建今天之后的天数
+     * @param retentionDays 保留天数，早于 今天 - retentionDays 的分区被清理
+     * @param archiveDone 是否把已完成事件复制到归档表
+     * @return 删除的分区数
+     */
+    public int maintainPartitions(int premakeDays, int retentionDays, boolean archiveDone) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        List<String> existing = outboxEventMapper.selectPartitionNames();
+
+        for (int i = 0; i <= Math.max(0, premakeDays); i++) {
+            LocalDate day = today.plusDays(i);
+            if (!existing.contains(partitionName(day)) && locked(() -> createPartition(day)) == null) {
+                return 0;
+            }
+        }
+
+        LocalDate cutoffDay = today.minusDays(Math.max(1, retentionDays));
+        int dropped = 0;
+        for (String name : existing) {
+            LocalDate day = partitionDay(name);
+            // 分区上界 <= cutoff 零点才整体过期
+            if (day == null || day.plusDays(1).isAfter(cutoffDay)) {
+                continue;
+            }
+            Boolean result = locked(() -> dropPartition(name, archiveDone));
+            if (result == null) {
+                return dropped;
+            }
+            if (result) {
+                dropped++;
+            }
+        }
+
+        // 默认分区无法整表删除，按行清理过期的已完成事件
+        if (existing.contains(DEFAULT_PARTITION)) {
+            LocalDateTime cutoff = cutoffDay.atStartOfDay(ZoneOffset.UTC)
+                .withZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDateTime();
+            locked(() -> purgeDefaultPartition(cutoff, archiveDone));
+        }
+        return dropped;
+    }
+
+    // === 私有方法 ===
+
+    /**
+     * 在新事务中持咨询锁执行一步维护
+     *
+     * @return 该步骤的结果；锁被其他 Worker 持有、未执行时为 null
+     */
+    private Boolean locked(Supplier<Boolean> step) {
+        return transactionTemplate.execute(status -> {
+            if (!Boolean.TRUE.equals(outboxEventMapper.tryMaintenanceLock(LOCK_KEY))) {
+                log.debug("Outbox 分区维护由其他 Worker 执行中，跳过");
+                return null;
+            }
+            return step.get();
+        });
+    }
+
+    /**
+     * 创建日分区；默认分区中已有该范围的事件（Worker 落后时写入）时，
+     * 先分离默认分区，建好日分区后把这些事件移入，再挂回默认分区
+     */
+    private boolean createPartition(LocalDate day) {
+        String name = partitionName(day);
+        String from = utcMidnight(day);
+        String to = utcMidnight(day.plusDays(1));
+        if (!Boolean.TRUE.equals(outboxEventMapper.existsInDefaultPartition(from, to))) {
+            outboxEventMapper.createPartition(name, from, to);
+            log.info("创建 Outbox 分区: {}", name);
+            return true;
+        }
+        outboxEventMapper.detachDefaultPartition();
+        outboxEventMapper.createPartition(name, from, to);
+        int moved = outboxEventMapper.moveFromDefaultPartition(from, to);
+        outboxEventMapper.attachDefaultPartition();
+        log.info("创建 Outbox 分区并迁入默认分区中的事件: partition={}, moved={}", name, moved);
+        return true;
+    }
+
+    /**
+     * @return 是否已删除
+     */
+    private boolean dropPartition(String name, boolean archiveDone) {
+        int retained = outboxEventMapper.countRetained(name);
+        if (retained > 0) {
+            log.warn("Outbox 分区已过保留期但仍有未完成事件或死信，暂不删除: partition={}, retained={}",
+                name, retained);
+            return false;
+        }
+        int archived = archiveDone ? outboxEventMapper.archiveDone(name, null) : 0;
+        outboxEventMapper.dropPartition(name);
+        log.info("删除过期 Outbox 分区: partition={}, archived={}", name, archived);
+        return true;
+    }
+
+    private boolean purgeDefaultPartition(LocalDateTime cutoff, boolean archiveDone) {
+        if (archiveDone) {
+            outboxEventMapper.archiveDone(DEFAULT_PARTITION, cutoff);
+        }
+        int purged = outboxEventMapper.deleteDone(DEFAULT_PARTITION, cutoff);
+        if (purged > 0) {
+            log.info("清理 Outbox 默认分区过期事件: count={}", purged);
+        }
+        return true;
+    }
+
+    private String partitionName(LocalDate day) {
+        return "outbox_event_p" + day.format(PARTITION_DAY);
+    }
+
+    /**
+     * 从分区名解析日期；不符合命名规则的表（含默认分区）返回 null
+     */
+    private LocalDate partitionDay(String name) {
+        Matcher matcher = DAILY_PARTITION.matcher(name);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return LocalDate.parse(matcher.group(1), PARTITION_DAY);
+    }
+
+    private String utcMidnight(LocalDate day) {
+        return day + " 00:00:00+00";
+    }
+}
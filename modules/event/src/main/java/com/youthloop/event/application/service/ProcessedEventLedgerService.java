@@ -0,0 +1,74 @@
+package com.youthloop.event.application.service;
+
+import com.youthloop.event.persistence.mapper.ProcessedEventMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox 已处理事件账本服务
+ * 
+ * 注意：记录必须与 Handler 的业务写入在同一事务内（MANDATORY 传播），
+ * 事务回滚时记录一并撤销，事件可被重新处理；提交后重复投递会被识别并跳过
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProcessedEventLedgerService {
+    
+    private final ProcessedEventMapper processedEventMapper;
+    
+    /**
+     * 尝试记录事件已被某消费者处理（必须在事务内调用）
+     * 
+     * @return true 表示首次处理，调用方应继续执行 Handler；false 表示已处理过
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryRecord(UUID eventId, String consumer) {
+        return processedEventMapper.insertIfAbsent(eventId, consumer, LocalDateTime.now()) > 0;
+    }
+    
+    /**
+     * 批量记录事件已被某消费者处理（必须在事务内调用）
+     * 
+     * @return 首次处理的事件 ID；不在其中的事件已处理过，调用方应跳过
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Set<UUID> tryRecordBatch(List<UUID> eventIds, String consumer) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        return processedEventMapper.insertBatchIfAbsent(eventIds, consumer, LocalDateTime.now()).stream()
+            .map(UUID::fromString)
+            .collect(Collectors.toSet());
+    }
+    
+    /**
+     * 是否已被某消费者处理
+     */
+    public boolean isProcessed(UUID eventId, String consumer) {
+        return Boolean.TRUE.equals(processedEventMapper.exists(eventId, consumer));
+    }
+    
+    /**
+     * 清理早于指定时间的账本记录
+     * 
+     * @return 删除数量
+     */
+    @Transactional
+    public int purgeBefore(LocalDateTime before) {
+        int purged = processedEventMapper.deleteBefore(before);
+        if (purged > 0) {
+            log.info("清理 Outbox 已处理事件账本: count={}, before={}", purged, before);
+        }
+        return purged;
+    }
+}
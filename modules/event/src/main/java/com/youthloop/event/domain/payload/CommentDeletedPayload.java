@@ -0,0 +1,36 @@
+package com.youthloop.event.domain.payload;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 评论删除事件 Payload
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentDeletedPayload {
+    
+    /**
+     * 评论 ID
+     */
+    private UUID commentId;
+    
+    /**
+     * 目标类型：1=内容 2=活动
+     */
+    private Integer targetType;
+    
+    /**
+     * 目标 ID
+     */
+    private UUID targetId;
+    
+    /**
+     * 删除操作的用户 ID
+     */
+    private UUID userId;
+}
@@ -48,4 +48,14 @@ public class OutboxEventEntity extends BaseEntity {
      * 最后错误信息
      */
     private String lastError;
+    
+    /**
+     * 持有租约的 Worker 标识（status=2 时有效）
+     */
+    private String lockedBy;
+    
+    /**
+     * 租约到期时间，过期后由回收任务放回 pending
+     */
+    private LocalDateTime lockedUntil;
 }
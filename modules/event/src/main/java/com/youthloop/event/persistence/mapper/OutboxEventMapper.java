@@ -1,5 +1,6 @@
 package com.youthloop.event.persistence.mapper;
 
+import com.youthloop.event.api.dto.OutboxQueueStatDTO;
 import com.youthloop.event.persistence.entity.OutboxEventEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -19,6 +20,11 @@ public interface OutboxEventMapper {
      */
     int insert(OutboxEventEntity event);
     
+    /**
+     * 发送 pg_notify 唤醒监听中的 Worker（随事务提交才投递，回滚则丢弃；同一事务内重复通知会被合并）
+     */
+    Integer notifyChannel(@Param("channel") String channel);
+    
     /**
      * 根据 ID 查询事件
      */
@@ -27,20 +33,174 @@ public interface OutboxEventMapper {
     /**
      * 查询待处理的事件（用于 Worker 消费）
      */
-    List<OutboxEventEntity> selectPendingEvents(
+    List<OutboxEventEntity> selectPendingEvents(@Param("limit") Integer limit);
+    
+    /**
+     * 原子认领一批待处理事件（FOR UPDATE SKIP LOCKED），置为 processing 并写入租约
+     * 
+     * 多个 Worker 并发调用时各自拿到互不重叠的事件；租约截止时间为数据库当前时间加 leaseSeconds
+     */
+    List<OutboxEventEntity> claimPendingEvents(
+        @Param("workerId") String workerId,
         @Param("limit") Integer limit,
-        @Param("now") LocalDateTime now
+        @Param("leaseSeconds") Long leaseSeconds
     );
     
     /**
-     * 更新事件状态
+     * 回收租约已过期的 processing 事件：重试次数 +1，未超上限的回到 pending，否则转为死信
+     * 
+     * @return 回收的事件数
+     */
+    int releaseExpiredLeases(@Param("maxRetryCount") Integer maxRetryCount);
+    
+    /**
+     * 更新事件状态，并清除租约
+     * 
+     * lockedBy 不为空时仅当租约仍由该 Worker 持有才更新（租约被回收后旧 Worker 的结果作废）
+     * 
+     * @param retryDelaySeconds 不为空时 next_retry_at 为数据库当前时间加该秒数，否则清空
      */
     int updateStatus(
         @Param("id") UUID id,
+        @Param("lockedBy") String lockedBy,
         @Param("status") Integer status,
         @Param("retryCount") Integer retryCount,
-        @Param("nextRetryAt") LocalDateTime nextRetryAt,
-        @Param("lastError") String lastError,
-        @Param("updatedAt") LocalDateTime updatedAt
+        @Param("retryDelaySeconds") Long retryDelaySeconds,
+        @Param("lastError") String lastError
     );
+    
+    /**
+     * 批量标记完成：仅更新租约仍由该 Worker 持有的事件
+     * 
+     * @return 实际完成的事件（仅含 id），调用方据此只提交这些事件的处理结果
+     */
+    List<OutboxEventEntity> markDoneBatch(
+        @Param("ids") String[] ids,
+        @Param("lockedBy") String lockedBy
+    );
+    
+    /**
+     * 按事件类型与状态统计未完成事件（pending / processing / dead）
+     */
+    List<OutboxQueueStatDTO> selectQueueStats();
+    
+    // === 死信管理 ===
+    
+    /**
+     * 按条件查询死信（keyset 分页，created_at、id 倒序）
+     * 
+     * @param cursorCreatedAt / cursorId 上一页最后一条的位置，首页为 null
+     */
+    List<OutboxEventEntity> selectDeadLetters(
+        @Param("eventType") String eventType,
+        @Param("errorContains") String errorContains,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") UUID cursorId,
+        @Param("limit") Integer limit
+    );
+    
+    /**
+     * 统计符合条件的死信数（最多统计 limit 条）
+     */
+    long countDeadLetters(
+        @Param("eventType") String eventType,
+        @Param("errorContains") String errorContains,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("limit") Integer limit
+    );
+    
+    /**
+     * 将符合条件的死信重新置为 pending（最早的优先，最多 limit 条），
+     * next_retry_at 按 ratePerSecond 逐秒错开，Worker 认领时自然限速
+     * 
+     * @return 重放的事件数
+     */
+    int requeueDeadLetters(
+        @Param("eventType") String eventType,
+        @Param("errorContains") String errorContains,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("limit") Integer limit,
+        @Param("ratePerSecond") Integer ratePerSecond
+    );
+    
+    // === 分区维护（表名由服务层按 outbox_event_pYYYYMMDD 生成并校验） ===
+    
+    /**
+     * 事务级咨询锁，多个 Worker 同时维护分区时只有一个执行
+     */
+    Boolean tryMaintenanceLock(@Param("lockKey") String lockKey);
+    
+    /**
+     * 查询 outbox_event 的全部分区表名
+     */
+    List<String> selectPartitionNames();
+    
+    /**
+     * 创建按天分区（边界为 UTC 零点）
+     */
+    void createPartition(
+        @Param("name") String name,
+        @Param("fromInclusive") String fromInclusive,
+        @Param("toExclusive") String toExclusive
+    );
+    
+    /**
+     * 默认分区中是否有落在该范围内的事件（有则无法直接创建该范围的分区）
+     */
+    Boolean existsInDefaultPartition(
+        @Param("fromInclusive") String fromInclusive,
+        @Param("toExclusive") String toExclusive
+    );
+    
+    /**
+     * 分离默认分区
+     */
+    void detachDefaultPartition();
+    
+    /**
+     * 重新挂载默认分区
+     */
+    void attachDefaultPartition();
+    
+    /**
+     * 把已分离的默认分区中落在该范围内的事件移回父表
+     * 
+     * @return 移动的事件数
+     */
+    int moveFromDefaultPartition(
+        @Param("fromInclusive") String fromInclusive,
+        @Param("toExclusive") String toExclusive
+    );
+    
+    /**
+     * 统计表中需要保留在线的事件数（pending / processing / 死信）
+     */
+    int countRetained(@Param("table") String table);
+    
+    /**
+     * 将已完成事件复制到归档表
+     * 
+     * @param before 不为空时只处理此时间之前创建的事件
+     */
+    int archiveDone(
+        @Param("table") String table,
+        @Param("before") LocalDateTime before
+    );
+    
+    /**
+     * 删除已完成事件（用于默认分区）
+     */
+    int deleteDone(
+        @Param("table") String table,
+        @Param("before") LocalDateTime before
+    );
+    
+    /**
+     * 删除分区表
+     */
+    void dropPartition(@Param("name") String name);
 }
@@ -0,0 +1,47 @@
+package com.youthloop.event.persistence.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox 已处理事件账本 Mapper
+ */
+@Mapper
+public interface ProcessedEventMapper {
+    
+    /**
+     * 记录已处理（主键冲突时不写入）
+     * 
+     * @return 1 表示首次记录，0 表示已处理过
+     */
+    int insertIfAbsent(
+        @Param("eventId") UUID eventId,
+        @Param("consumer") String consumer,
+        @Param("processedAt") LocalDateTime processedAt
+    );
+    
+    /**
+     * 批量记录已处理（已存在的跳过）
+     * 
+     * @return 本次首次记录的事件 ID（文本）
+     */
+    List<String> insertBatchIfAbsent(
+        @Param("eventIds") List<UUID> eventIds,
+        @Param("consumer") String consumer,
+        @Param("processedAt") LocalDateTime processedAt
+    );
+    
+    /**
+     * 是否已处理
+     */
+    Boolean exists(@Param("eventId") UUID eventId, @Param("consumer") String consumer);
+    
+    /**
+     * 删除早于指定时间的记录
+     */
+    int deleteBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,21 @@
+package com.youthloop.game.api.dto;
+
+import com.youthloop.game.persistence.entity.GameCardTagMapEntity;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Admin bulk import payload for a whole card deck.
+ * Cards are upserted by card id; when cardTags is present it replaces the tags of the imported cards.
+ */
+@Data
+public class AdminImportGameCardsRequest {
+    @NotEmpty
+    @Valid
+    private List<AdminCreateGameCardRequest> cards;
+
+    private List<GameCardTagMapEntity> cardTags;
+}
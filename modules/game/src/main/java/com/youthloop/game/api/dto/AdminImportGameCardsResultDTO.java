@@ -0,0 +1,37 @@
+package com.youthloop.game.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result of a bulk card import, also used as the dry-run diff.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminImportGameCardsResultDTO {
+    private Boolean dryRun;
+    private List<String> createdCardIds;
+    private List<CardDiff> updatedCards;
+    private List<String> unchangedCardIds;
+    private Integer upgradeRequirementCount;
+    private Integer cardTagCount;
+    /**
+     * Catalog version after the reload; null for dry runs.
+     */
+    private Long catalogVersion;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CardDiff {
+        private String cardId;
+        private List<String> changedFields;
+    }
+}
@@ -0,0 +1,51 @@
+package com.youthloop.game.api.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Move hints for the current turn, ranked by the score after a one-turn look-ahead.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameHintDTO {
+    private UUID sessionId;
+    private Integer turn;
+    /**
+     * Low-carbon score after simply ending the turn; option deltas are relative to this.
+     */
+    private Integer baselineScore;
+    private Integer candidateCount;
+    private Integer evaluatedCount;
+    /**
+     * True when the deadline expired before every candidate was evaluated.
+     */
+    private Boolean partial;
+    private List<Option> options;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Option {
+        private Integer actionType;
+        /**
+         * Ready-to-send actionData for the action endpoint.
+         */
+        private JsonNode actionData;
+        private Integer expectedScore;
+        private Integer expectedScoreDelta;
+        private Integer expectedCarbonDelta;
+        private Integer expectedGreenDelta;
+        private Integer expectedSatisfactionDelta;
+        private Integer expectedPoints;
+    }
+}
@@ -2,6 +2,8 @@ package com.youthloop.game.api.facade;
 
 import com.youthloop.common.api.PageResponse;
 import com.youthloop.game.api.dto.AdminCreateGameCardRequest;
+import com.youthloop.game.api.dto.AdminImportGameCardsRequest;
+import com.youthloop.game.api.dto.AdminImportGameCardsResultDTO;
 import com.youthloop.game.api.dto.AdminUpdateGameCardRequest;
 import com.youthloop.game.api.dto.GameCardMetaDTO;
 
@@ -19,4 +21,6 @@ public interface GameCardAdminFacade {
     void updateCard(String cardId, AdminUpdateGameCardRequest request);
 
     void deleteCard(String cardId);
+
+    AdminImportGameCardsResultDTO importCards(AdminImportGameCardsRequest request, boolean dryRun);
 }
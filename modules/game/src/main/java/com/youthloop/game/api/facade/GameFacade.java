@@ -5,6 +5,7 @@ import com.youthloop.game.api.dto.GameActionRequest;
 import com.youthloop.game.api.dto.GameActionResponse;
 import com.youthloop.game.api.dto.GameActionLogDTO;
 import com.youthloop.game.api.dto.GameCardMetaDTO;
+import com.youthloop.game.api.dto.GameHintDTO;
 import com.youthloop.game.api.dto.GameSessionDTO;
 
 import java.util.List;
@@ -28,4 +29,6 @@ public interface GameFacade {
     GameActionResponse endSession(UUID sessionId);
 
     PageResponse<GameActionLogDTO> listActions(UUID sessionId, int page, int size);
+
+    GameHintDTO getHints(UUID sessionId);
 }
@@ -2,6 +2,8 @@ package com.youthloop.game.application.facade;
 
 import com.youthloop.common.api.PageResponse;
 import com.youthloop.game.api.dto.AdminCreateGameCardRequest;
+import com.youthloop.game.api.dto.AdminImportGameCardsRequest;
+import com.youthloop.game.api.dto.AdminImportGameCardsResultDTO;
 import com.youthloop.game.api.dto.AdminUpdateGameCardRequest;
 import com.youthloop.game.api.dto.GameCardMetaDTO;
 import com.youthloop.game.api.facade.GameCardAdminFacade;
@@ -42,4 +44,9 @@ public class GameCardAdminFacadeImpl implements GameCardAdminFacade {
     public void deleteCard(String cardId) {
         gameCardAdminService.deleteCard(cardId);
     }
+
+    @Override
+    public AdminImportGameCardsResultDTO importCards(AdminImportGameCardsRequest request, boolean dryRun) {
+        return gameCardAdminService.importCards(request, dryRun);
+    }
 }
@@ -5,8 +5,10 @@ import com.youthloop.game.api.dto.GameActionRequest;
 import com.youthloop.game.api.dto.GameActionResponse;
 import com.youthloop.game.api.dto.GameActionLogDTO;
 import com.youthloop.game.api.dto.GameCardMetaDTO;
+import com.youthloop.game.api.dto.GameHintDTO;
 import com.youthloop.game.api.dto.GameSessionDTO;
 import com.youthloop.game.api.facade.GameFacade;
+import com.youthloop.game.application.service.GameHintService;
 import com.youthloop.game.application.service.GameService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,7 @@ import java.util.UUID;
 public class GameFacadeImpl implements GameFacade {
 
     private final GameService gameService;
+    private final GameHintService gameHintService;
 
     @Override
     public GameSessionDTO startSession() {
@@ -57,4 +60,9 @@ public class GameFacadeImpl implements GameFacade {
     public PageResponse<GameActionLogDTO> listActions(UUID sessionId, int page, int size) {
         return gameService.listActions(sessionId, page, size);
     }
+
+    @Override
+    public GameHintDTO getHints(UUID sessionId) {
+        return gameHintService.getHints(sessionId);
+    }
 }
@@ -31,6 +31,7 @@ public class CardCatalogService {
 
     private volatile List<GameCardMetaDTO> cards = List.of();
     private volatile Map<String, GameCardMetaDTO> cardMap = Map.of();
+    private volatile long version;
 
     @PostConstruct
     void init() {
@@ -60,6 +61,7 @@ public class CardCatalogService {
                     LinkedHashMap::new
                 ))
             );
+            this.version = version + 1;
         } catch (Exception e) {
             throw new BizException(
                 ErrorCode.SYSTEM_ERROR,
@@ -68,6 +70,13 @@ public class CardCatalogService {
         }
     }
 
+    /**
+     * Monotonic counter bumped on every successful reload.
+     */
+    public long version() {
+        return version;
+    }
+
     public List<GameCardMetaDTO> listCards(boolean includePolicy) {
         if (includePolicy) {
             return cards;
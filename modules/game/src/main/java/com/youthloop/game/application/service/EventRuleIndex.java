@@ -0,0 +1,170 @@
+package com.youthloop.game.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Immutable index over the enabled negative event rules.
+ * <p>
+ * Each metric gate is pre-sorted by threshold, so the set of rules whose gate passes for a given metric value
+ * is one binary search plus a precomputed bit mask. The candidate set for a turn is the AND of those masks,
+ * and weighted selection runs over a primitive weight array. Rebuilt whenever the rule map instance changes.
+ */
+final class EventRuleIndex {
+
+    /**
+     * Candidate sets are single-word bit masks.
+     */
+    static final int MAX_RULES = Long.SIZE;
+
+    private final Map<String, GameRuleConfigService.EventRuleConfig> source;
+    private final GameRuleConfigService.EventRuleConfig[] rules;
+    private final int[] weights;
+    private final long evenTurnOnlyMask;
+    private final ThresholdGate greenCeiling;
+    private final ThresholdGate carbonFloor;
+    private final ThresholdGate satisfactionCeiling;
+    private final ThresholdGate populationFloor;
+
+    private EventRuleIndex(Map<String, GameRuleConfigService.EventRuleConfig> source) {
+        this.source = source;
+        this.rules = source.values().toArray(new GameRuleConfigService.EventRuleConfig[0]);
+        this.weights = new int[rules.length];
+        long evenTurnOnly = 0L;
+        for (int i = 0; i < rules.length; i++) {
+            weights[i] = Math.max(1, rules[i].weight());
+            if (rules[i].requireEvenTurn()) {
+                evenTurnOnly |= 1L << i;
+            }
+        }
+        this.evenTurnOnlyMask = evenTurnOnly;
+        // minGreen is an upper bound on green despite its name, see isEventRuleMatched
+        this.greenCeiling = ThresholdGate.atMost(rules, GameRuleConfigService.EventRuleConfig::minGreen);
+        this.carbonFloor = ThresholdGate.atLeast(rules, GameRuleConfigService.EventRuleConfig::minCarbon);
+        this.satisfactionCeiling = ThresholdGate.atMost(rules, GameRuleConfigService.EventRuleConfig::maxSatisfaction);
+        this.populationFloor = ThresholdGate.atLeast(rules, GameRuleConfigService.EventRuleConfig::minPopulation);
+    }
+
+    /**
+     * Returns null when the rule set is too large for single-word masks; callers fall back to a linear scan.
+     */
+    static EventRuleIndex of(Map<String, GameRuleConfigService.EventRuleConfig> source) {
+        if (source == null || source.size() > MAX_RULES) {
+            return null;
+        }
+        return new EventRuleIndex(source);
+    }
+
+    boolean isBuiltFrom(Map<String, GameRuleConfigService.EventRuleConfig> candidateSource) {
+        return source == candidateSource;
+    }
+
+    long candidateMask(int green, int carbon, int satisfaction, int population, int turn) {
+        long mask = greenCeiling.passing(green);
+        if (mask == 0L) {
+            return 0L;
+        }
+        mask &= carbonFloor.passing(carbon);
+        mask &= satisfactionCeiling.passing(satisfaction);
+        mask &= populationFloor.passing(population);
+        if (turn % 2 != 0) {
+            mask &= ~evenTurnOnlyMask;
+        }
+        return mask;
+    }
+
+    /**
+     * Weighted pick among the rules in a non-empty candidate mask.
+     */
+    GameRuleConfigService.EventRuleConfig pick(long candidates, RandomGenerator random) {
+        int total = 0;
+        for (long bits = candidates; bits != 0L; bits &= bits - 1) {
+            total += weights[Long.numberOfTrailingZeros(bits)];
+        }
+        int roll = random.nextInt(total);
+        for (long bits = candidates; bits != 0L; bits &= bits - 1) {
+            int i = Long.numberOfTrailingZeros(bits);
+            roll -= weights[i];
+            if (roll < 0) {
+                return rules[i];
+            }
+        }
+        return rules[Long.numberOfTrailingZeros(candidates)];
+    }
+
+    /**
+     * One metric gate: rules without the gate always pass; the others pass depending on which side of their
+     * threshold the value falls. {@code masks[k]} is the pass mask when exactly k sorted thresholds are passed.
+     */
+    private record ThresholdGate(int[] thresholds, long[] masks, boolean floor) {
+
+        static ThresholdGate atLeast(
+            GameRuleConfigService.EventRuleConfig[] rules,
+            Function<GameRuleConfigService.EventRuleConfig, Integer> threshold
+        ) {
+            return build(rules, threshold, true);
+        }
+
+        static ThresholdGate atMost(
+            GameRuleConfigService.EventRuleConfig[] rules,
+            Function<GameRuleConfigService.EventRuleConfig, Integer> threshold
+        ) {
+            return build(rules, threshold, false);
+        }
+
+        private static ThresholdGate build(
+            GameRuleConfigService.EventRuleConfig[] rules,
+            Function<GameRuleConfigService.EventRuleConfig, Integer> threshold,
+            boolean floor
+        ) {
+            long ungated = 0L;
+            List<int[]> gated = new ArrayList<>();
+            for (int i = 0; i < rules.length; i++) {
+                Integer value = threshold.apply(rules[i]);
+                if (value == null) {
+                    ungated |= 1L << i;
+                } else {
+                    gated.add(new int[] {value, i});
+                }
+            }
+            // floor gates: value >= threshold, passed in ascending order;
+            // ceiling gates: value <= threshold, passed in descending order
+            Comparator<int[]> order = Comparator.comparingInt(entry -> entry[0]);
+            gated.sort(floor ? order : order.reversed());
+            int[] thresholds = new int[gated.size()];
+            long[] masks = new long[gated.size() + 1];
+            masks[0] = ungated;
+            for (int k = 0; k < gated.size(); k++) {
+                thresholds[k] = gated.get(k)[0];
+                masks[k + 1] = masks[k] | (1L << gated.get(k)[1]);
+            }
+            return new ThresholdGate(thresholds, masks, floor);
+        }
+
+        long passing(int value) {
+            return masks[passedCount(value)];
+        }
+
+        /**
+         * Thresholds are sorted so that passing ones form a prefix; binary search for its length.
+         */
+        private int passedCount(int value) {
+            int low = 0;
+            int high = thresholds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                boolean passed = floor ? thresholds[mid] <= value : thresholds[mid] >= value;
+                if (passed) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -1,23 +1,37 @@
 package com.youthloop.game.application.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.youthloop.common.api.ErrorCode;
 import com.youthloop.common.exception.BizException;
 import com.youthloop.game.api.dto.AdminCreateGameCardRequest;
+import com.youthloop.game.api.dto.AdminImportGameCardsRequest;
+import com.youthloop.game.api.dto.AdminImportGameCardsResultDTO;
 import com.youthloop.game.api.dto.AdminUpdateGameCardRequest;
 import com.youthloop.game.api.dto.GameCardMetaDTO;
 import com.youthloop.game.persistence.entity.GameCardEntity;
+import com.youthloop.game.persistence.entity.GameCardTagMapEntity;
 import com.youthloop.game.persistence.entity.GameCardUpgradeRequirementEntity;
 import com.youthloop.game.persistence.mapper.GameCardMapper;
 import com.youthloop.game.persistence.mapper.GameCardUpgradeRequirementMapper;
+import com.youthloop.game.persistence.mapper.GameRuleConfigMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.youthloop.common.api.PageResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Admin service for game card CRUD.
@@ -26,9 +40,26 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class GameCardAdminService {
 
+    /**
+     * Rows per multi-row upsert; game_card has ~130 bind parameters per row.
+     */
+    private static final int IMPORT_BATCH_SIZE = 200;
+    private static final int MAX_REPORTED_IMPORT_ERRORS = 20;
+    private static final Set<String> CARD_TYPES = Set.of("core", "policy");
+    private static final Set<String> CARD_DOMAINS = Set.of("industry", "ecology", "science", "society", "policy");
+    private static final Set<String> PHASE_BUCKETS = Set.of("early", "mid", "late", "policy");
+    private static final Set<String> UPGRADE_DOMAINS = Set.of("industry", "ecology", "science", "society");
+    /**
+     * Condition tags resolved by GameService without a game_card_tag_map entry.
+     */
+    private static final Set<String> BUILT_IN_CONDITION_TAGS = Set.of("ecology_card", "shenzhen_featured_ecology", "flood_processed");
+    private static final ObjectMapper DIFF_MAPPER = new ObjectMapper();
+
     private final GameCardMapper gameCardMapper;
     private final GameCardUpgradeRequirementMapper gameCardUpgradeRequirementMapper;
     private final CardCatalogService cardCatalogService;
+    private final GameRuleConfigMapper gameRuleConfigMapper;
+    private final GameRuleConfigService gameRuleConfigService;
 
     @Transactional(readOnly = true)
     public PageResponse<GameCardMetaDTO> listCards(int page, int size) {
@@ -54,6 +85,17 @@ public class GameCardAdminService {
         if (gameCardMapper.selectByCardId(request.getCardId()) != null) {
             throw new BizException(ErrorCode.OPERATION_NOT_ALLOWED, "Card already exists: " + request.getCardId());
         }
+        GameCardEntity entity = toEntity(request);
+        gameCardMapper.insert(entity);
+        GameCardUpgradeRequirementEntity requirement = toUpgradeRequirement(request, entity);
+        if (requirement != null) {
+            gameCardUpgradeRequirementMapper.upsert(requirement);
+        }
+        cardCatalogService.reloadFromDatabase();
+        return entity.getCardId();
+    }
+
+    private GameCardEntity toEntity(AdminCreateGameCardRequest request) {
         GameCardEntity entity = new GameCardEntity();
         entity.setCardId(request.getCardId());
         entity.setCardNo(request.getCardNo());
@@ -181,10 +223,7 @@ public class GameCardAdminService {
         entity.setUpgradeDeltaUpgradeCostPct(defaultInt(request.getUpgradeDeltaUpgradeCostPct()));
         entity.setUpgradeExt(defaultJson(request.getUpgradeExt()));
         entity.setIsEnabled(request.getIsEnabled() == null || request.getIsEnabled());
-        gameCardMapper.insert(entity);
-        upsertUpgradeRequirementOnCreate(request, entity);
-        cardCatalogService.reloadFromDatabase();
-        return entity.getCardId();
+        return entity;
     }
 
     @Transactional
@@ -199,6 +238,7 @@ public class GameCardAdminService {
         if (request.getEnglishName() != null) entity.setNameEn(request.getEnglishName());
         if (request.getCardType() != null) entity.setCardType(request.getCardType());
         if (request.getDomain() != null) entity.setDomain(request.getDomain());
+        boolean starChanged = request.getStar() != null && !request.getStar().equals(entity.getStar());
         if (request.getStar() != null) entity.setStar(request.getStar());
         if (request.getPhaseBucket() != null) entity.setPhaseBucket(request.getPhaseBucket());
         if (request.getUnlockCostIndustry() != null) entity.setUnlockCostIndustry(request.getUnlockCostIndustry());
@@ -389,7 +429,7 @@ public class GameCardAdminService {
         if (request.getIsEnabled() != null) entity.setIsEnabled(request.getIsEnabled());
 
         gameCardMapper.update(entity);
-        upsertUpgradeRequirementOnUpdate(request, entity);
+        upsertUpgradeRequirementOnUpdate(request, entity, starChanged);
         cardCatalogService.reloadFromDatabase();
     }
 
@@ -403,6 +443,330 @@ public class GameCardAdminService {
         cardCatalogService.reloadFromDatabase();
     }
 
+    /**
+     * Imports a whole deck: validates cards, upgrade requirements, tags and combo references in memory,
+     * writes them with multi-row upserts in one transaction and reloads the catalog exactly once.
+     * With dryRun nothing is written and the result is the diff against the current tables.
+     */
+    @Transactional
+    public AdminImportGameCardsResultDTO importCards(AdminImportGameCardsRequest request, boolean dryRun) {
+        if (request == null || request.getCards() == null || request.getCards().isEmpty()) {
+            throw new BizException(ErrorCode.INVALID_PARAMETER, "Import payload requires at least one card");
+        }
+        List<String> errors = new ArrayList<>();
+        LinkedHashMap<String, GameCardEntity> importedCards = new LinkedHashMap<>();
+        Map<String, GameCardUpgradeRequirementEntity> importedRequirements = new HashMap<>();
+        Map<Integer, String> importedCardNos = new HashMap<>();
+        for (AdminCreateGameCardRequest cardRequest : request.getCards()) {
+            if (cardRequest == null || isBlank(cardRequest.getCardId())) {
+                errors.add("cardId is required");
+                continue;
+            }
+            GameCardEntity entity = toEntity(cardRequest);
+            if (importedCards.putIfAbsent(entity.getCardId(), entity) != null) {
+                errors.add(entity.getCardId() + ": duplicated cardId");
+                continue;
+            }
+            validateImportedCard(entity, importedCardNos, errors);
+            GameCardUpgradeRequirementEntity requirement = toUpgradeRequirement(cardRequest, entity);
+            if (requirement != null) {
+                validateImportedRequirement(requirement, errors);
+                importedRequirements.put(entity.getCardId(), requirement);
+            }
+        }
+        List<GameCardTagMapEntity> importedTags = normalizeImportedTags(request.getCardTags(), importedCards.keySet(), errors);
+        if (importedCards.isEmpty()) {
+            throw new BizException(ErrorCode.INVALID_PARAMETER, "Invalid card import: " + String.join("; ", errors));
+        }
+
+        Map<String, GameCardEntity> existingCards = new HashMap<>();
+        for (GameCardEntity existing : gameCardMapper.selectByCardIds(importedCards.keySet())) {
+            existingCards.put(existing.getCardId(), existing);
+        }
+        if (!importedCardNos.isEmpty()) {
+            for (GameCardEntity owner : gameCardMapper.selectByCardNos(importedCardNos.keySet())) {
+                String importedCardId = importedCardNos.get(owner.getCardNo());
+                if (!owner.getCardId().equals(importedCardId)) {
+                    errors.add(importedCardId + ": cardNo " + owner.getCardNo() + " is already used by " + owner.getCardId());
+                }
+            }
+        }
+        validateConditionTags(importedCards.values(), importedTags, errors);
+        validateComboReferences(importedCards, errors);
+        if (!errors.isEmpty()) {
+            List<String> reported = errors.size() > MAX_REPORTED_IMPORT_ERRORS ? errors.subList(0, MAX_REPORTED_IMPORT_ERRORS) : errors;
+            throw new BizException(
+                ErrorCode.INVALID_PARAMETER,
+                "Invalid card import (" + errors.size() + " errors): " + String.join("; ", reported)
+            );
+        }
+
+        Map<String, List<GameCardUpgradeRequirementEntity>> existingRequirements = new HashMap<>();
+        if (!existingCards.isEmpty()) {
+            for (GameCardUpgradeRequirementEntity requirement : gameCardUpgradeRequirementMapper.selectEnabledByCardIds(existingCards.keySet())) {
+                existingRequirements.computeIfAbsent(requirement.getCardId(), k -> new ArrayList<>()).add(requirement);
+            }
+        }
+        AdminImportGameCardsResultDTO result = diffImport(
+            importedCards, importedRequirements, existingRequirements, importedTags, existingCards
+        );
+        result.setDryRun(dryRun);
+        result.setUpgradeRequirementCount(importedRequirements.size());
+        result.setCardTagCount(importedTags == null ? 0 : importedTags.size());
+        if (dryRun) {
+            return result;
+        }
+
+        List<GameCardEntity> cards = new ArrayList<>(importedCards.values());
+        for (int from = 0; from < cards.size(); from += IMPORT_BATCH_SIZE) {
+            gameCardMapper.batchUpsert(cards.subList(from, Math.min(cards.size(), from + IMPORT_BATCH_SIZE)));
+        }
+        // Requirements are keyed by star pair: rows for a pair the import no longer has would stay enabled
+        List<GameCardUpgradeRequirementEntity> stale = staleRequirements(existingRequirements, importedRequirements);
+        for (int from = 0; from < stale.size(); from += IMPORT_BATCH_SIZE) {
+            gameCardUpgradeRequirementMapper.batchDisable(stale.subList(from, Math.min(stale.size(), from + IMPORT_BATCH_SIZE)));
+        }
+        List<GameCardUpgradeRequirementEntity> requirements = new ArrayList<>(importedRequirements.values());
+        for (int from = 0; from < requirements.size(); from += IMPORT_BATCH_SIZE) {
+            gameCardUpgradeRequirementMapper.batchUpsert(requirements.subList(from, Math.min(requirements.size(), from + IMPORT_BATCH_SIZE)));
+        }
+        if (importedTags != null) {
+            gameRuleConfigMapper.disableCardTagsByCardIds(importedCards.keySet());
+            for (int from = 0; from < importedTags.size(); from += IMPORT_BATCH_SIZE) {
+                gameRuleConfigMapper.batchUpsertCardTags(importedTags.subList(from, Math.min(importedTags.size(), from + IMPORT_BATCH_SIZE)));
+            }
+        }
+        cardCatalogService.reloadFromDatabase();
+        if (importedTags != null) {
+            gameRuleConfigService.reloadFromDatabase();
+        }
+        result.setCatalogVersion(cardCatalogService.version());
+        return result;
+    }
+
+    private void validateImportedCard(GameCardEntity entity, Map<Integer, String> importedCardNos, List<String> errors) {
+        String cardId = entity.getCardId();
+        if (entity.getCardNo() == null || entity.getCardNo() < 1) {
+            errors.add(cardId + ": cardNo must be >= 1");
+        } else {
+            String previous = importedCardNos.putIfAbsent(entity.getCardNo(), cardId);
+            if (previous != null) {
+                errors.add(cardId + ": cardNo " + entity.getCardNo() + " duplicates " + previous);
+            }
+        }
+        if (isBlank(entity.getNameZh()) || isBlank(entity.getNameEn())) {
+            errors.add(cardId + ": chineseName and englishName are required");
+        }
+        if (!CARD_TYPES.contains(entity.getCardType())) {
+            errors.add(cardId + ": unknown cardType " + entity.getCardType());
+        }
+        if (!CARD_DOMAINS.contains(entity.getDomain())) {
+            errors.add(cardId + ": unknown domain " + entity.getDomain());
+        }
+        if (!PHASE_BUCKETS.contains(entity.getPhaseBucket())) {
+            errors.add(cardId + ": unknown phaseBucket " + entity.getPhaseBucket());
+        }
+        if (entity.getStar() == null || entity.getStar() < 1) {
+            errors.add(cardId + ": star must be >= 1");
+        }
+        if (isNegative(entity.getUnlockCostIndustry()) || isNegative(entity.getUnlockCostTech())
+            || isNegative(entity.getUnlockCostPopulation()) || isNegative(entity.getUnlockCostGreen())) {
+            errors.add(cardId + ": unlock costs must be non-negative");
+        }
+    }
+
+    private void validateImportedRequirement(GameCardUpgradeRequirementEntity requirement, List<String> errors) {
+        if (requirement.getFromStar() < 1) {
+            errors.add(requirement.getCardId() + ": upgradeReqFromStar must be >= 1");
+        }
+        if (requirement.getReqDomain1() != null && !UPGRADE_DOMAINS.contains(requirement.getReqDomain1())) {
+            errors.add(requirement.getCardId() + ": unknown upgradeReqDomain1 " + requirement.getReqDomain1());
+        }
+        if (requirement.getReqDomain2() != null && !UPGRADE_DOMAINS.contains(requirement.getReqDomain2())) {
+            errors.add(requirement.getCardId() + ": unknown upgradeReqDomain2 " + requirement.getReqDomain2());
+        }
+    }
+
+    private List<GameCardTagMapEntity> normalizeImportedTags(
+        List<GameCardTagMapEntity> tags,
+        Set<String> importedCardIds,
+        List<String> errors
+    ) {
+        if (tags == null) {
+            return null;
+        }
+        LinkedHashMap<String, GameCardTagMapEntity> unique = new LinkedHashMap<>();
+        for (GameCardTagMapEntity tag : tags) {
+            if (tag == null || isBlank(tag.getCardId()) || isBlank(tag.getTagCode())) {
+                errors.add("cardTags entries require cardId and tagCode");
+                continue;
+            }
+            if (!importedCardIds.contains(tag.getCardId())) {
+                errors.add(tag.getCardId() + ": tag " + tag.getTagCode() + " references a card outside the import");
+                continue;
+            }
+            GameCardTagMapEntity normalized = new GameCardTagMapEntity();
+            normalized.setCardId(tag.getCardId());
+            normalized.setTagCode(tag.getTagCode().trim());
+            normalized.setIsEnabled(true);
+            unique.putIfAbsent(normalized.getCardId() + "|" + normalized.getTagCode(), normalized);
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    /**
+     * Core card condition tags must resolve after the import, otherwise the card can never be placed.
+     */
+    private void validateConditionTags(
+        Iterable<GameCardEntity> cards,
+        List<GameCardTagMapEntity> importedTags,
+        List<String> errors
+    ) {
+        Set<String> knownTags = new HashSet<>(BUILT_IN_CONDITION_TAGS);
+        knownTags.addAll(gameRuleConfigService.cardTagMap().keySet());
+        if (importedTags != null) {
+            importedTags.forEach(tag -> knownTags.add(tag.getTagCode()));
+        }
+        for (GameCardEntity card : cards) {
+            String requiredTag = card.getCoreConditionRequiredTag();
+            if (!isBlank(requiredTag) && !knownTags.contains(requiredTag)) {
+                errors.add(card.getCardId() + ": coreConditionRequiredTag " + requiredTag + " is not defined by any card");
+            }
+        }
+    }
+
+    /**
+     * Combo and policy unlock rules reference policy cards by id; an import must not turn them into
+     * core cards or disable them.
+     */
+    private void validateComboReferences(Map<String, GameCardEntity> importedCards, List<String> errors) {
+        Set<String> referencedPolicies = new LinkedHashSet<>();
+        for (GameRuleConfigService.ComboRuleConfig combo : gameRuleConfigService.listComboRules()) {
+            if (!isBlank(combo.requiredPolicyId())) {
+                referencedPolicies.add(combo.requiredPolicyId());
+            }
+        }
+        for (GameRuleConfigService.PolicyUnlockRuleConfig rule : gameRuleConfigService.listPolicyUnlockRules()) {
+            referencedPolicies.add(rule.policyId());
+        }
+        for (String policyId : referencedPolicies) {
+            GameCardEntity card = importedCards.get(policyId);
+            if (card == null) {
+                continue;
+            }
+            if (!"policy".equals(card.getCardType()) || !Boolean.TRUE.equals(card.getIsEnabled())) {
+                errors.add(policyId + ": referenced by combo or policy unlock rules and must stay an enabled policy card");
+            }
+        }
+    }
+
+    /**
+     * Enabled requirements of existing cards whose star pair differs from the imported one,
+     * or all of them when the import has no requirement for the card.
+     */
+    private List<GameCardUpgradeRequirementEntity> staleRequirements(
+        Map<String, List<GameCardUpgradeRequirementEntity>> existingRequirements,
+        Map<String, GameCardUpgradeRequirementEntity> importedRequirements
+    ) {
+        List<GameCardUpgradeRequirementEntity> stale = new ArrayList<>();
+        for (Map.Entry<String, List<GameCardUpgradeRequirementEntity>> entry : existingRequirements.entrySet()) {
+            GameCardUpgradeRequirementEntity imported = importedRequirements.get(entry.getKey());
+            for (GameCardUpgradeRequirementEntity existing : entry.getValue()) {
+                if (imported == null
+                    || !Objects.equals(existing.getFromStar(), imported.getFromStar())
+                    || !Objects.equals(existing.getToStar(), imported.getToStar())) {
+                    stale.add(existing);
+                }
+            }
+        }
+        return stale;
+    }
+
+    private AdminImportGameCardsResultDTO diffImport(
+        Map<String, GameCardEntity> importedCards,
+        Map<String, GameCardUpgradeRequirementEntity> importedRequirements,
+        Map<String, List<GameCardUpgradeRequirementEntity>> existingRequirements,
+        List<GameCardTagMapEntity> importedTags,
+        Map<String, GameCardEntity> existingCards
+    ) {
+        Map<String, Set<String>> existingTags = new HashMap<>();
+        Map<String, Set<String>> newTags = new HashMap<>();
+        if (importedTags != null) {
+            for (Map.Entry<String, List<String>> entry : gameRuleConfigService.cardTagMap().entrySet()) {
+                for (String cardId : entry.getValue()) {
+                    existingTags.computeIfAbsent(cardId, k -> new HashSet<>()).add(entry.getKey());
+                }
+            }
+            for (GameCardTagMapEntity tag : importedTags) {
+                newTags.computeIfAbsent(tag.getCardId(), k -> new HashSet<>()).add(tag.getTagCode());
+            }
+        }
+
+        List<String> created = new ArrayList<>();
+        List<AdminImportGameCardsResultDTO.CardDiff> updated = new ArrayList<>();
+        List<String> unchanged = new ArrayList<>();
+        for (GameCardEntity card : importedCards.values()) {
+            GameCardEntity existing = existingCards.get(card.getCardId());
+            if (existing == null) {
+                created.add(card.getCardId());
+                continue;
+            }
+            List<String> changedFields = diffCardFields(existing, card);
+            GameCardUpgradeRequirementEntity requirement = importedRequirements.get(card.getCardId());
+            List<GameCardUpgradeRequirementEntity> currentRequirements = existingRequirements.getOrDefault(card.getCardId(), List.of());
+            if (requirement != null
+                ? !currentRequirements.equals(List.of(requirement))
+                : !currentRequirements.isEmpty()) {
+                changedFields.add("upgradeRequirement");
+            }
+            if (importedTags != null
+                && !existingTags.getOrDefault(card.getCardId(), Set.of()).equals(newTags.getOrDefault(card.getCardId(), Set.of()))) {
+                changedFields.add("cardTags");
+            }
+            if (changedFields.isEmpty()) {
+                unchanged.add(card.getCardId());
+            } else {
+                updated.add(AdminImportGameCardsResultDTO.CardDiff.builder()
+                    .cardId(card.getCardId())
+                    .changedFields(changedFields)
+                    .build());
+            }
+        }
+        return AdminImportGameCardsResultDTO.builder()
+            .createdCardIds(created)
+            .updatedCards(updated)
+            .unchangedCardIds(unchanged)
+            .build();
+    }
+
+    /**
+     * Field-level diff of two card rows, ignoring the *Effect columns that the database derives.
+     */
+    private List<String> diffCardFields(GameCardEntity existing, GameCardEntity incoming) {
+        ObjectNode before = DIFF_MAPPER.valueToTree(existing);
+        ObjectNode after = DIFF_MAPPER.valueToTree(incoming);
+        List<String> changed = new ArrayList<>();
+        Iterator<String> fieldNames = after.fieldNames();
+        while (fieldNames.hasNext()) {
+            String field = fieldNames.next();
+            if (field.endsWith("Effect")) {
+                continue;
+            }
+            if (!Objects.equals(before.get(field), after.get(field))) {
+                changed.add(field);
+            }
+        }
+        return changed;
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private boolean isNegative(Integer value) {
+        return value != null && value < 0;
+    }
+
     private GameCardMetaDTO toDTO(GameCardEntity entity) {
         GameCardUpgradeRequirementEntity requirement = gameCardUpgradeRequirementMapper.selectEnabledByCardId(entity.getCardId());
         return GameCardMetaDTO.builder()
@@ -570,9 +934,9 @@ public class GameCardAdminService {
         return Objects.requireNonNullElse(value, "");
     }
 
-    private void upsertUpgradeRequirementOnCreate(AdminCreateGameCardRequest request, GameCardEntity entity) {
+    private GameCardUpgradeRequirementEntity toUpgradeRequirement(AdminCreateGameCardRequest request, GameCardEntity entity) {
         if (!hasUpgradeRequirementInput(request)) {
-            return;
+            return null;
         }
         int fromStar = request.getUpgradeReqFromStar() != null ? request.getUpgradeReqFromStar() : Math.max(1, defaultInt(entity.getStar()));
         int toStar = request.getUpgradeReqToStar() != null ? request.getUpgradeReqToStar() : fromStar + 1;
@@ -595,20 +959,28 @@ public class GameCardAdminService {
         requirement.setCostJson(defaultJson(request.getUpgradeReqCostJson()));
         requirement.setConfigSnapshot(defaultJson(request.getUpgradeReqConfigSnapshot()));
         requirement.setIsEnabled(request.getUpgradeReqEnabled() == null || request.getUpgradeReqEnabled());
-        gameCardUpgradeRequirementMapper.upsert(requirement);
+        return requirement;
     }
 
-    private void upsertUpgradeRequirementOnUpdate(AdminUpdateGameCardRequest request, GameCardEntity entity) {
-        if (!hasUpgradeRequirementInput(request)) {
+    /**
+     * Upserts the card's upgrade requirement. When the star pair changes (explicitly, or because the card's star
+     * changed), the requirement is re-keyed and the previous star's row is disabled in the same transaction.
+     */
+    private void upsertUpgradeRequirementOnUpdate(AdminUpdateGameCardRequest request, GameCardEntity entity, boolean starChanged) {
+        boolean hasInput = hasUpgradeRequirementInput(request);
+        if (!hasInput && !starChanged) {
             return;
         }
         GameCardUpgradeRequirementEntity existing = gameCardUpgradeRequirementMapper.selectEnabledByCardId(entity.getCardId());
+        if (!hasInput && existing == null) {
+            return;
+        }
         int fromStar = request.getUpgradeReqFromStar() != null
             ? request.getUpgradeReqFromStar()
-            : (existing != null ? defaultInt(existing.getFromStar()) : Math.max(1, defaultInt(entity.getStar())));
+            : (existing != null && !starChanged ? defaultInt(existing.getFromStar()) : Math.max(1, defaultInt(entity.getStar())));
         int toStar = request.getUpgradeReqToStar() != null
             ? request.getUpgradeReqToStar()
-            : (existing != null ? defaultInt(existing.getToStar()) : fromStar + 1);
+            : (existing != null && defaultInt(existing.getFromStar()) == fromStar ? defaultInt(existing.getToStar()) : fromStar + 1);
         if (toStar <= fromStar) {
             toStar = fromStar + 1;
         }
@@ -653,6 +1025,10 @@ public class GameCardAdminService {
             ? request.getUpgradeReqEnabled()
             : (existing == null || Boolean.TRUE.equals(existing.getIsEnabled())));
         gameCardUpgradeRequirementMapper.upsert(requirement);
+        if (existing != null
+            && (defaultInt(existing.getFromStar()) != fromStar || defaultInt(existing.getToStar()) != toStar)) {
+            gameCardUpgradeRequirementMapper.disable(entity.getCardId(), existing.getFromStar(), existing.getToStar());
+        }
     }
 
     private boolean hasUpgradeRequirementInput(AdminCreateGameCardRequest request) {
@@ -0,0 +1,153 @@
+package com.youthloop.game.application.service;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.exception.BizException;
+import com.youthloop.game.api.dto.GameHintDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Move hints: evaluates every legal placement / policy play with a one-turn look-ahead on a cloned state,
+ * in parallel on a bounded pool, and answers within a fixed deadline with whatever finished in time.
+ */
+@Slf4j
+@Service
+public class GameHintService {
+
+    private final GameService gameService;
+    private final long deadlineMs;
+    private final int maxOptions;
+    private final ThreadPoolExecutor executor;
+
+    public GameHintService(
+        GameService gameService,
+        @Value("${game.hint.pool-size:4}") int poolSize,
+        @Value("${game.hint.queue-capacity:1024}") int queueCapacity,
+        @Value("${game.hint.deadline-ms:300}") long deadlineMs,
+        @Value("${game.hint.max-options:5}") int maxOptions
+    ) {
+        this.gameService = gameService;
+        this.deadlineMs = Math.max(1, deadlineMs);
+        this.maxOptions = Math.max(1, maxOptions);
+        int threads = Math.max(1, poolSize);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            runnable -> {
+                Thread thread = new Thread(runnable, "game-hint-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public GameHintDTO getHints(UUID sessionId) {
+        ObjectNode state = gameService.loadHintState(sessionId);
+        List<GameService.HintCandidate> candidates = gameService.enumerateHintCandidates(state);
+        GameService.HintOutcome baseline = gameService.simulateHintCandidate(state, null);
+
+        List<Callable<GameService.HintOutcome>> tasks = candidates.stream()
+            .<Callable<GameService.HintOutcome>>map(candidate -> () -> gameService.simulateHintCandidate(state, candidate))
+            .toList();
+        List<Future<GameService.HintOutcome>> futures = invokeWithinDeadline(tasks);
+
+        List<GameHintDTO.Option> options = new ArrayList<>();
+        int evaluated = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            if (futures.get(i).isCancelled()) {
+                continue;
+            }
+            evaluated++;
+            GameService.HintOutcome outcome = completedOutcome(futures.get(i));
+            if (outcome != null) {
+                options.add(toOption(candidates.get(i), outcome, baseline));
+            }
+        }
+        options.sort(Comparator.comparing(GameHintDTO.Option::getExpectedScore).reversed()
+            .thenComparing(GameHintDTO.Option::getExpectedCarbonDelta)
+            .thenComparing(Comparator.comparing(GameHintDTO.Option::getExpectedPoints).reversed()));
+
+        boolean partial = evaluated < candidates.size();
+        if (partial) {
+            log.debug("Hint deadline hit: sessionId={}, evaluated={}/{}", sessionId, evaluated, candidates.size());
+        }
+        return GameHintDTO.builder()
+            .sessionId(sessionId)
+            .turn(state.path("turn").asInt(1))
+            .baselineScore(baseline.lowCarbonScore())
+            .candidateCount(candidates.size())
+            .evaluatedCount(evaluated)
+            .partial(partial)
+            .options(options.size() > maxOptions ? new ArrayList<>(options.subList(0, maxOptions)) : options)
+            .build();
+    }
+
+    private List<Future<GameService.HintOutcome>> invokeWithinDeadline(List<Callable<GameService.HintOutcome>> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return executor.invokeAll(tasks, deadlineMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            throw new BizException(ErrorCode.SERVICE_UNAVAILABLE, "Hint engine is busy, please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BizException(ErrorCode.SYSTEM_ERROR, "Hint evaluation interrupted");
+        }
+    }
+
+    private GameService.HintOutcome completedOutcome(Future<GameService.HintOutcome> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.warn("Hint candidate evaluation failed", e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private GameHintDTO.Option toOption(
+        GameService.HintCandidate candidate,
+        GameService.HintOutcome outcome,
+        GameService.HintOutcome baseline
+    ) {
+        return GameHintDTO.Option.builder()
+            .actionType(candidate.actionType())
+            .actionData(candidate.actionData())
+            .expectedScore(outcome.lowCarbonScore())
+            .expectedScoreDelta(outcome.lowCarbonScore() - baseline.lowCarbonScore())
+            .expectedCarbonDelta(outcome.carbon() - baseline.carbon())
+            .expectedGreenDelta(outcome.green() - baseline.green())
+            .expectedSatisfactionDelta(outcome.satisfaction() - baseline.satisfaction())
+            .expectedPoints(outcome.points())
+            .build();
+    }
+}
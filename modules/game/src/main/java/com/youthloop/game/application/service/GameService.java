@@ -98,6 +98,7 @@ public class GameService {
     private final GameRuleConfigService gameRuleConfigService;
     private final ObjectMapper objectMapper;
     private final Map<UUID, GameSessionEntity> guestSessions = new ConcurrentHashMap<>();
+    private volatile EventRuleIndex eventRuleIndex;
 
     @Transactional
     public GameSessionDTO startSession() {
@@ -363,6 +364,127 @@ public class GameService {
             .build();
     }
 
+    /**
+     * Detached, normalized copy of an active session's state for hint evaluation. Nothing is persisted
+     * and the cached guest session is left untouched.
+     */
+    ObjectNode loadHintState(UUID sessionId) {
+        if (sessionId == null) {
+            throw new BizException(ErrorCode.INVALID_PARAMETER, "sessionId is required");
+        }
+        UUID userId = resolveCurrentUserIdOptional();
+        GameSessionEntity session;
+        if (userId != null) {
+            session = gameSessionMapper.selectById(sessionId);
+            if (session == null || !userId.equals(session.getUserId())) {
+                throw new BizException(ErrorCode.GAME_SESSION_INVALID);
+            }
+        } else {
+            session = resolveGuestSession(sessionId);
+            if (session == null) {
+                throw new BizException(ErrorCode.GAME_SESSION_INVALID);
+            }
+        }
+        if (session.getStatus() != SESSION_ACTIVE) {
+            throw new BizException(ErrorCode.GAME_SESSION_NOT_ACTIVE);
+        }
+
+        ObjectNode state = ensureStateObject(session.getPondState()).deepCopy();
+        normalizeNegativeEvents(state);
+        syncRuntimeConfigForSession(state);
+        processPendingDiscardTimeout(state);
+        processTradeWindowTimeout(state);
+        return state;
+    }
+
+    /**
+     * Legal single moves for the current turn: every distinct core card in hand on every placeable tile,
+     * plus every unlocked policy card in hand. Affordability is left to the simulation.
+     */
+    List<HintCandidate> enumerateHintCandidates(ObjectNode state) {
+        List<HintCandidate> candidates = new ArrayList<>();
+        if (state.path("sessionEnded").asBoolean(false)
+            || state.path("pendingDiscard").path("active").asBoolean(false)) {
+            return candidates;
+        }
+
+        if (!state.path("corePlacedThisTurn").asBoolean(false)) {
+            List<int[]> tiles = new ArrayList<>();
+            int rows = boardRows(state);
+            int cols = boardCols(state);
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    try {
+                        validateBoardPlacement(state, row, col);
+                        tiles.add(new int[] {row, col});
+                    } catch (BizException ignored) {
+                        // tile is not placeable this turn
+                    }
+                }
+            }
+            Set<String> seenCards = new HashSet<>();
+            for (JsonNode node : state.withArray("handCore")) {
+                String cardId = node.asText();
+                if (!seenCards.add(cardId)) {
+                    continue;
+                }
+                for (int[] tile : tiles) {
+                    ObjectNode actionData = objectMapper.createObjectNode();
+                    actionData.put("cardId", cardId);
+                    actionData.put("row", tile[0]);
+                    actionData.put("col", tile[1]);
+                    candidates.add(new HintCandidate(ACTION_PLACE_CORE_CARD, actionData));
+                }
+            }
+        }
+
+        if (!state.path("policyUsedThisTurn").asBoolean(false)) {
+            ArrayNode unlocked = state.withArray("policyUnlocked");
+            Set<String> seenPolicies = new HashSet<>();
+            for (JsonNode node : state.withArray("handPolicy")) {
+                String policyId = node.asText();
+                if (indexOf(unlocked, policyId) < 0 || !seenPolicies.add(policyId)) {
+                    continue;
+                }
+                ObjectNode actionData = objectMapper.createObjectNode();
+                actionData.put("cardId", policyId);
+                candidates.add(new HintCandidate(ACTION_USE_POLICY_CARD, actionData));
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Applies the candidate (or nothing, for the end-turn baseline) to a clone of the state and settles
+     * the turn in evaluation mode. Returns null when the move is rejected by the rules.
+     */
+    HintOutcome simulateHintCandidate(ObjectNode state, HintCandidate candidate) {
+        ObjectNode copy = state.deepCopy();
+        int actionPoints = 0;
+        try {
+            if (candidate != null) {
+                if (candidate.actionType() == ACTION_PLACE_CORE_CARD) {
+                    actionPoints = handlePlaceCoreCard(copy, candidate.actionData());
+                } else if (candidate.actionType() == ACTION_USE_POLICY_CARD) {
+                    actionPoints = handleUsePolicyCard(copy, candidate.actionData());
+                } else {
+                    throw new BizException(ErrorCode.INVALID_PARAMETER, "Unsupported hint actionType: " + candidate.actionType());
+                }
+            }
+        } catch (BizException e) {
+            return null;
+        }
+        int turnPoints = handleEndTurn(copy, true);
+        ObjectNode metrics = copy.with("metrics");
+        return new HintOutcome(
+            metrics.path("lowCarbonScore").asInt(0),
+            metrics.path("carbon").asInt(0),
+            metrics.path("green").asInt(0),
+            metrics.path("satisfaction").asInt(0),
+            actionPoints + turnPoints
+        );
+    }
+
     private ObjectNode buildInitialState(boolean guestSession) {
         GameRuleConfigService.BalanceRuleConfig balance = balanceRule();
         ObjectNode root = objectMapper.createObjectNode();
@@ -642,6 +764,14 @@ public class GameService {
     }
 
     private int handleEndTurn(ObjectNode state) {
+        return handleEndTurn(state, false);
+    }
+
+    /**
+     * In evaluation mode (hint look-ahead) random event rolls, the trade window and the next-turn draw
+     * are skipped so the settlement is deterministic for a given state.
+     */
+    private int handleEndTurn(ObjectNode state, boolean evaluation) {
         settlePendingTradeWindowAsSkip(state);
 
         DomainCounts counts = countPlacedDomains(state);
@@ -741,12 +871,14 @@ public class GameService {
 
         tickActivePositiveEvents(state);
         tickActiveNegativeEvents(state);
-        applyEventCheck(state);
-        processCarbonTradeWindow(state);
+        if (!evaluation) {
+            applyEventCheck(state);
+            processCarbonTradeWindow(state);
+        }
         updateFailureStreak(state);
         applyEndingEvaluationByDocument(state, counts, lowCarbonScore);
 
-        if (!state.path("sessionEnded").asBoolean(false)) {
+        if (!evaluation && !state.path("sessionEnded").asBoolean(false)) {
             state.put("turn", state.path("turn").asInt() + 1);
             prepareNextTurn(state);
         }
@@ -2208,8 +2340,10 @@ public class GameService {
         GameRuleConfigService.BalanceRuleConfig balance = balanceRule();
         int cooldown = state.path("eventCooldown").asInt();
         if (cooldown <= 0) {
-            maybeTriggerPositiveEvent(state);
-            boolean triggeredSpecialNegative = maybeTriggerDocumentSpecialNegativeEvent(state);
+            DomainCounts counts = countPlacedDomains(state);
+            int baseProbability = resolveSpecialEventBaseProbability(state, counts);
+            maybeTriggerPositiveEvent(state, counts, baseProbability);
+            boolean triggeredSpecialNegative = maybeTriggerDocumentSpecialNegativeEvent(state, counts, baseProbability);
             if (!triggeredSpecialNegative) {
                 maybeTriggerNegativeEvent(state);
             }
@@ -2248,12 +2382,9 @@ public class GameService {
         }
     }
 
-    private void maybeTriggerPositiveEvent(ObjectNode state) {
+    private void maybeTriggerPositiveEvent(ObjectNode state, DomainCounts counts, int baseProbability) {
         ObjectNode metrics = state.with("metrics");
         ObjectNode resources = state.with("resources");
-        DomainCounts counts = countPlacedDomains(state);
-        int lowCarbonIndustryCount = countPlacedTaggedCardsByTagAndDomain(state, "industry", TAG_LOW_CARBON_CORE);
-        int baseProbability = resolveSpecialEventBaseProbability(state, counts);
 
         List<SpecialPositiveEvent> candidates = new ArrayList<>();
         if (counts.science >= 8 && resources.path("tech").asInt(0) >= 80) {
@@ -2290,7 +2421,8 @@ public class GameService {
                 "绿建度+15，低碳总分+10，持续1回合"
             ));
         }
-        if (lowCarbonIndustryCount >= 5 && resources.path("industry").asInt(0) >= 70) {
+        if (resources.path("industry").asInt(0) >= 70
+            && countPlacedTaggedCardsByTagAndDomain(state, "industry", TAG_LOW_CARBON_CORE) >= 5) {
             candidates.add(new SpecialPositiveEvent(
                 "positive_low_carbon_industry_support",
                 "低碳产业扶持",
@@ -2346,11 +2478,9 @@ public class GameService {
         }
     }
 
-    private boolean maybeTriggerDocumentSpecialNegativeEvent(ObjectNode state) {
+    private boolean maybeTriggerDocumentSpecialNegativeEvent(ObjectNode state, DomainCounts counts, int baseProbability) {
         ObjectNode metrics = state.with("metrics");
         ObjectNode resources = state.with("resources");
-        DomainCounts counts = countPlacedDomains(state);
-        int baseProbability = resolveSpecialEventBaseProbability(state, counts);
         List<SpecialNegativeEvent> candidates = new ArrayList<>();
         boolean legacySpecialEventsEnabled = false;
 
@@ -2555,22 +2685,11 @@ public class GameService {
 
         ObjectNode metrics = state.with("metrics");
         int turn = state.path("turn").asInt();
-        ArrayNode candidates = objectMapper.createArrayNode();
-        Map<String, GameRuleConfigService.EventRuleConfig> eventRuleMap = gameRuleConfigService.eventRuleMap();
-        for (GameRuleConfigService.EventRuleConfig rule : eventRuleMap.values()) {
-            if (isEventRuleMatched(state, metrics, turn, rule)) {
-                candidates.add(rule.eventType());
-            }
-        }
-        if (candidates.isEmpty()) {
-            return;
-        }
-
-        String selected = weightedPick(candidates);
-        GameRuleConfigService.EventRuleConfig config = eventRuleMap.get(selected);
+        GameRuleConfigService.EventRuleConfig config = pickNegativeEventRule(state, metrics, turn);
         if (config == null) {
             return;
         }
+        String selected = config.eventType();
         if ("flood".equals(selected) && isFloodEventResisted(state)) {
             ObjectNode resisted = objectMapper.createObjectNode();
             resisted.put("turn", state.path("turn").asInt());
@@ -2657,6 +2776,38 @@ public class GameService {
         enforcePolicyHandLimit(state);
     }
 
+    private GameRuleConfigService.EventRuleConfig pickNegativeEventRule(ObjectNode state, ObjectNode metrics, int turn) {
+        EventRuleIndex index = eventRuleIndex();
+        if (index == null) {
+            ArrayNode candidates = objectMapper.createArrayNode();
+            Map<String, GameRuleConfigService.EventRuleConfig> eventRuleMap = gameRuleConfigService.eventRuleMap();
+            for (GameRuleConfigService.EventRuleConfig rule : eventRuleMap.values()) {
+                if (isEventRuleMatched(state, metrics, turn, rule)) {
+                    candidates.add(rule.eventType());
+                }
+            }
+            return candidates.isEmpty() ? null : eventRuleMap.get(weightedPick(candidates));
+        }
+        long candidates = index.candidateMask(
+            metrics.path("green").asInt(),
+            metrics.path("carbon").asInt(),
+            metrics.path("satisfaction").asInt(),
+            state.with("resources").path("population").asInt(),
+            turn
+        );
+        return candidates == 0L ? null : index.pick(candidates, ThreadLocalRandom.current());
+    }
+
+    private EventRuleIndex eventRuleIndex() {
+        Map<String, GameRuleConfigService.EventRuleConfig> eventRuleMap = gameRuleConfigService.eventRuleMap();
+        EventRuleIndex index = eventRuleIndex;
+        if (index == null || !index.isBuiltFrom(eventRuleMap)) {
+            index = EventRuleIndex.of(eventRuleMap);
+            eventRuleIndex = index;
+        }
+        return index;
+    }
+
     private String weightedPick(ArrayNode candidates) {
         Map<String, GameRuleConfigService.EventRuleConfig> eventRuleMap = gameRuleConfigService.eventRuleMap();
         int total = 0;
@@ -3557,6 +3708,12 @@ public class GameService {
         return (int) (score / 100) + 1;
     }
 
+    record HintCandidate(int actionType, ObjectNode actionData) {
+    }
+
+    record HintOutcome(int lowCarbonScore, int carbon, int green, int satisfaction, int points) {
+    }
+
     private record PolicyImmediateEffect(
         int industryDelta,
         int techDelta,
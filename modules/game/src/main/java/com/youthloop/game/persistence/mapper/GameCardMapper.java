@@ -4,6 +4,7 @@ import com.youthloop.game.persistence.entity.GameCardEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -24,9 +25,18 @@ public interface GameCardMapper {
 
     GameCardEntity selectEnabledByCardId(@Param("cardId") String cardId);
 
+    List<GameCardEntity> selectByCardIds(@Param("cardIds") Collection<String> cardIds);
+
+    List<GameCardEntity> selectByCardNos(@Param("cardNos") Collection<Integer> cardNos);
+
     int insert(GameCardEntity entity);
 
     int update(GameCardEntity entity);
 
+    /**
+     * Multi-row insert-or-update in a single statement, used by bulk deck import.
+     */
+    int batchUpsert(@Param("items") List<GameCardEntity> items);
+
     int deleteByCardId(@Param("cardId") String cardId);
 }
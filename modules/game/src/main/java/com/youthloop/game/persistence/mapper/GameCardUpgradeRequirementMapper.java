@@ -4,6 +4,7 @@ import com.youthloop.game.persistence.entity.GameCardUpgradeRequirementEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,7 +17,15 @@ public interface GameCardUpgradeRequirementMapper {
 
     GameCardUpgradeRequirementEntity selectEnabledByCardId(@Param("cardId") String cardId);
 
+    List<GameCardUpgradeRequirementEntity> selectEnabledByCardIds(@Param("cardIds") Collection<String> cardIds);
+
     int upsert(GameCardUpgradeRequirementEntity entity);
 
+    int batchUpsert(@Param("items") List<GameCardUpgradeRequirementEntity> items);
+
+    int disable(@Param("cardId") String cardId, @Param("fromStar") Integer fromStar, @Param("toStar") Integer toStar);
+
+    int batchDisable(@Param("items") List<GameCardUpgradeRequirementEntity> items);
+
     int deleteByCardId(@Param("cardId") String cardId);
 }
@@ -8,7 +8,9 @@ import com.youthloop.game.persistence.entity.GameEndingContentConfigEntity;
 import com.youthloop.game.persistence.entity.GamePolicyUnlockRuleConfigEntity;
 import com.youthloop.game.persistence.entity.GameRuntimeParamConfigEntity;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -51,6 +53,10 @@ public interface GameRuleConfigMapper {
 
     int upsertCardTag(GameCardTagMapEntity entity);
 
+    int disableCardTagsByCardIds(@Param("cardIds") Collection<String> cardIds);
+
+    int batchUpsertCardTags(@Param("items") List<GameCardTagMapEntity> items);
+
     int disableAllEndingContents();
 
     int upsertEndingContent(GameEndingContentConfigEntity entity);
@@ -1,11 +1,16 @@
 package com.youthloop.game.application.service;
 
+import com.youthloop.common.exception.BizException;
 import com.youthloop.game.api.dto.AdminCreateGameCardRequest;
+import com.youthloop.game.api.dto.AdminImportGameCardsRequest;
+import com.youthloop.game.api.dto.AdminImportGameCardsResultDTO;
 import com.youthloop.game.api.dto.AdminUpdateGameCardRequest;
 import com.youthloop.game.persistence.entity.GameCardEntity;
+import com.youthloop.game.persistence.entity.GameCardTagMapEntity;
 import com.youthloop.game.persistence.entity.GameCardUpgradeRequirementEntity;
 import com.youthloop.game.persistence.mapper.GameCardMapper;
 import com.youthloop.game.persistence.mapper.GameCardUpgradeRequirementMapper;
+import com.youthloop.game.persistence.mapper.GameRuleConfigMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -13,8 +18,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +43,12 @@ class GameCardAdminServiceTest {
     @Mock
     private CardCatalogService cardCatalogService;
 
+    @Mock
+    private GameRuleConfigMapper gameRuleConfigMapper;
+
+    @Mock
+    private GameRuleConfigService gameRuleConfigService;
+
     @InjectMocks
     private GameCardAdminService gameCardAdminService;
 
@@ -166,6 +185,201 @@ class GameCardAdminServiceTest {
         assertEquals("ecology", updatedRequirement.getReqDomain1());
         assertEquals(50, updatedRequirement.getReqDomain1MinPct());
         assertEquals(8, updatedRequirement.getCostGreen());
+        verify(gameCardUpgradeRequirementMapper, never()).disable(any(), any(), any());
         verify(cardCatalogService).reloadFromDatabase();
     }
+
+    @Test
+    void updateCardShouldDisablePreviousRequirementWhenStarPairChanges() {
+        when(gameCardMapper.selectByCardId("card902")).thenReturn(existingCard("card902", 1));
+        when(gameCardUpgradeRequirementMapper.selectEnabledByCardId("card902"))
+            .thenReturn(existingRequirement("card902", 1, 2));
+
+        AdminUpdateGameCardRequest request = new AdminUpdateGameCardRequest();
+        request.setUpgradeReqFromStar(2);
+        request.setUpgradeReqToStar(3);
+
+        gameCardAdminService.updateCard("card902", request);
+
+        ArgumentCaptor<GameCardUpgradeRequirementEntity> requirementCaptor = ArgumentCaptor.forClass(GameCardUpgradeRequirementEntity.class);
+        verify(gameCardUpgradeRequirementMapper).upsert(requirementCaptor.capture());
+        assertEquals(2, requirementCaptor.getValue().getFromStar());
+        assertEquals(3, requirementCaptor.getValue().getToStar());
+        assertEquals(7, requirementCaptor.getValue().getCostGreen());
+        verify(gameCardUpgradeRequirementMapper).disable("card902", 1, 2);
+    }
+
+    @Test
+    void updateCardShouldMoveRequirementToNewCardStar() {
+        when(gameCardMapper.selectByCardId("card903")).thenReturn(existingCard("card903", 1));
+        when(gameCardUpgradeRequirementMapper.selectEnabledByCardId("card903"))
+            .thenReturn(existingRequirement("card903", 1, 2));
+
+        AdminUpdateGameCardRequest request = new AdminUpdateGameCardRequest();
+        request.setStar(2);
+
+        gameCardAdminService.updateCard("card903", request);
+
+        ArgumentCaptor<GameCardUpgradeRequirementEntity> requirementCaptor = ArgumentCaptor.forClass(GameCardUpgradeRequirementEntity.class);
+        verify(gameCardUpgradeRequirementMapper).upsert(requirementCaptor.capture());
+        assertEquals(2, requirementCaptor.getValue().getFromStar());
+        assertEquals(3, requirementCaptor.getValue().getToStar());
+        assertEquals("ecology", requirementCaptor.getValue().getReqDomain1());
+        verify(gameCardUpgradeRequirementMapper).disable("card903", 1, 2);
+    }
+
+    @Test
+    void updateCardShouldNotTouchRequirementsWhenStarIsUnchanged() {
+        when(gameCardMapper.selectByCardId("card904")).thenReturn(existingCard("card904", 2));
+
+        AdminUpdateGameCardRequest request = new AdminUpdateGameCardRequest();
+        request.setStar(2);
+        request.setUnlockCostTech(3);
+
+        gameCardAdminService.updateCard("card904", request);
+
+        verify(gameCardUpgradeRequirementMapper, never()).selectEnabledByCardId(any());
+        verify(gameCardUpgradeRequirementMapper, never()).upsert(any());
+        verify(gameCardUpgradeRequirementMapper, never()).disable(any(), any(), any());
+    }
+
+    @Test
+    void importCardsShouldBatchWriteAndReloadCatalogOnce() {
+        AdminImportGameCardsRequest request = new AdminImportGameCardsRequest();
+        request.setCards(List.of(importCard("card910", 910), importCard("card911", 911)));
+        GameCardTagMapEntity tag = new GameCardTagMapEntity();
+        tag.setCardId("card910");
+        tag.setTagCode("traditional_industry");
+        request.setCardTags(List.of(tag));
+
+        when(gameCardMapper.selectByCardIds(any())).thenReturn(List.of());
+        when(gameCardMapper.selectByCardNos(any())).thenReturn(List.of());
+        when(gameRuleConfigService.cardTagMap()).thenReturn(Map.of());
+        when(gameRuleConfigService.listComboRules()).thenReturn(List.of());
+        when(gameRuleConfigService.listPolicyUnlockRules()).thenReturn(List.of());
+        when(cardCatalogService.version()).thenReturn(7L);
+
+        AdminImportGameCardsResultDTO result = gameCardAdminService.importCards(request, false);
+
+        assertEquals(List.of("card910", "card911"), result.getCreatedCardIds());
+        assertEquals(1, result.getCardTagCount());
+        assertEquals(7L, result.getCatalogVersion());
+        ArgumentCaptor<List<GameCardEntity>> cardsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(gameCardMapper, times(1)).batchUpsert(cardsCaptor.capture());
+        assertEquals(2, cardsCaptor.getValue().size());
+        verify(gameCardMapper, never()).insert(any());
+        verify(gameRuleConfigMapper).disableCardTagsByCardIds(any());
+        verify(gameRuleConfigMapper).batchUpsertCardTags(anyList());
+        verify(cardCatalogService, times(1)).reloadFromDatabase();
+        verify(gameRuleConfigService, times(1)).reloadFromDatabase();
+    }
+
+    @Test
+    void importCardsDryRunShouldReportDiffWithoutWriting() {
+        AdminCreateGameCardRequest changed = importCard("card920", 920);
+        changed.setUnlockCostTech(9);
+        AdminImportGameCardsRequest request = new AdminImportGameCardsRequest();
+        request.setCards(List.of(changed));
+
+        GameCardEntity existing = new GameCardEntity();
+        existing.setCardId("card920");
+        existing.setCardNo(920);
+        when(gameCardMapper.selectByCardIds(any())).thenReturn(List.of(existing));
+        when(gameCardMapper.selectByCardNos(any())).thenReturn(List.of(existing));
+        when(gameCardUpgradeRequirementMapper.selectEnabledByCardIds(any())).thenReturn(List.of());
+        when(gameRuleConfigService.cardTagMap()).thenReturn(Map.of());
+        when(gameRuleConfigService.listComboRules()).thenReturn(List.of());
+        when(gameRuleConfigService.listPolicyUnlockRules()).thenReturn(List.of());
+
+        AdminImportGameCardsResultDTO result = gameCardAdminService.importCards(request, true);
+
+        assertTrue(result.getDryRun());
+        assertEquals(1, result.getUpdatedCards().size());
+        assertTrue(result.getUpdatedCards().get(0).getChangedFields().contains("unlockCostTech"));
+        verify(gameCardMapper, never()).batchUpsert(anyList());
+        verify(cardCatalogService, never()).reloadFromDatabase();
+    }
+
+    @Test
+    void importCardsShouldDisablePreviousRequirementWhenStarChanges() {
+        AdminCreateGameCardRequest changed = importCard("card940", 940);
+        changed.setStar(2);
+        changed.setUpgradeReqDomain1("ecology");
+        changed.setUpgradeReqDomain1MinPct(20);
+        changed.setUpgradeReqCostGreen(7);
+        AdminImportGameCardsRequest request = new AdminImportGameCardsRequest();
+        request.setCards(List.of(changed));
+
+        GameCardEntity existing = existingCard("card940", 1);
+        existing.setCardNo(940);
+        when(gameCardMapper.selectByCardIds(any())).thenReturn(List.of(existing));
+        when(gameCardMapper.selectByCardNos(any())).thenReturn(List.of(existing));
+        when(gameCardUpgradeRequirementMapper.selectEnabledByCardIds(any()))
+            .thenReturn(List.of(existingRequirement("card940", 1, 2)));
+        when(gameRuleConfigService.cardTagMap()).thenReturn(Map.of());
+        when(gameRuleConfigService.listComboRules()).thenReturn(List.of());
+        when(gameRuleConfigService.listPolicyUnlockRules()).thenReturn(List.of());
+
+        AdminImportGameCardsResultDTO result = gameCardAdminService.importCards(request, false);
+
+        assertTrue(result.getUpdatedCards().get(0).getChangedFields().contains("upgradeRequirement"));
+        ArgumentCaptor<List<GameCardUpgradeRequirementEntity>> disabledCaptor = ArgumentCaptor.forClass(List.class);
+        verify(gameCardUpgradeRequirementMapper).batchDisable(disabledCaptor.capture());
+        assertEquals(1, disabledCaptor.getValue().size());
+        assertEquals(1, disabledCaptor.getValue().get(0).getFromStar());
+        assertEquals(2, disabledCaptor.getValue().get(0).getToStar());
+        ArgumentCaptor<List<GameCardUpgradeRequirementEntity>> upsertCaptor = ArgumentCaptor.forClass(List.class);
+        verify(gameCardUpgradeRequirementMapper).batchUpsert(upsertCaptor.capture());
+        assertEquals(2, upsertCaptor.getValue().get(0).getFromStar());
+        assertEquals(3, upsertCaptor.getValue().get(0).getToStar());
+    }
+
+    @Test
+    void importCardsShouldRejectDuplicateCardNosBeforeWriting() {
+        AdminImportGameCardsRequest request = new AdminImportGameCardsRequest();
+        request.setCards(List.of(importCard("card930", 930), importCard("card931", 930)));
+
+        BizException error = assertThrows(BizException.class, () -> gameCardAdminService.importCards(request, false));
+
+        assertTrue(error.getMessage().contains("duplicates card930"));
+        verify(gameCardMapper, never()).batchUpsert(anyList());
+        verify(cardCatalogService, never()).reloadFromDatabase();
+    }
+
+    private GameCardEntity existingCard(String cardId, int star) {
+        GameCardEntity card = new GameCardEntity();
+        card.setCardId(cardId);
+        card.setStar(star);
+        card.setIsEnabled(true);
+        return card;
+    }
+
+    private GameCardUpgradeRequirementEntity existingRequirement(String cardId, int fromStar, int toStar) {
+        GameCardUpgradeRequirementEntity requirement = new GameCardUpgradeRequirementEntity();
+        requirement.setCardId(cardId);
+        requirement.setFromStar(fromStar);
+        requirement.setToStar(toStar);
+        requirement.setReqDomain1("ecology");
+        requirement.setReqDomain1MinPct(20);
+        requirement.setCostGreen(7);
+        requirement.setIsEnabled(true);
+        return requirement;
+    }
+
+    private AdminCreateGameCardRequest importCard(String cardId, int cardNo) {
+        AdminCreateGameCardRequest request = new AdminCreateGameCardRequest();
+        request.setCardId(cardId);
+        request.setCardNo(cardNo);
+        request.setChineseName(cardId);
+        request.setEnglishName(cardId);
+        request.setCardType("core");
+        request.setDomain("industry");
+        request.setStar(1);
+        request.setPhaseBucket("early");
+        request.setUnlockCostIndustry(1);
+        request.setUnlockCostTech(0);
+        request.setUnlockCostPopulation(0);
+        request.setUnlockCostGreen(0);
+        return request;
+    }
 }
@@ -8,6 +8,7 @@ import com.youthloop.game.api.dto.GameActionLogDTO;
 import com.youthloop.game.api.dto.GameActionRequest;
 import com.youthloop.game.api.dto.GameActionResponse;
 import com.youthloop.game.api.dto.GameCardMetaDTO;
+import com.youthloop.game.api.dto.GameHintDTO;
 import com.youthloop.game.api.dto.GameSessionDTO;
 import com.youthloop.common.api.PageResponse;
 import com.youthloop.game.persistence.entity.GameActionEntity;
@@ -45,6 +46,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class GameServicePhase3Test {
@@ -398,6 +400,40 @@ class GameServicePhase3Test {
         assertTrue(indexOf(next.withArray("comboTriggeredThisTurn"), "intra_science_boost") >= 0);
     }
 
+    @Test
+    void hintsShouldEvaluateLegalMovesOnClonedStateWithoutPersisting() {
+        ObjectNode state = baseState();
+        state.put("eventCooldown", 2);
+        state.withArray("handCore").add("card001");
+        state.withArray("placedCore").add("card002");
+        state.with("boardOccupied").put("0,0", "card002");
+        state.withArray("policyUnlocked").add("card061");
+        state.withArray("handPolicy").add("card061");
+
+        GameSessionEntity session = activeSession(state);
+        when(gameSessionMapper.selectById(eq(sessionId))).thenReturn(session);
+        when(cardCatalogService.getRequiredCard("card001")).thenReturn(coreCard("card001", "industry"));
+        when(cardCatalogService.getRequiredCard("card002")).thenReturn(coreCard("card002", "ecology"));
+        when(cardCatalogService.getRequiredCard("card061")).thenReturn(policyCard("card061"));
+
+        GameHintService hintService = new GameHintService(gameService, 2, 128, 5000, 3);
+        try {
+            GameHintDTO hints = hintService.getHints(sessionId);
+
+            // free placement: every empty tile for card001 plus the unlocked policy card
+            assertTrue(hints.getCandidateCount() > 2);
+            assertEquals(hints.getCandidateCount(), hints.getEvaluatedCount());
+            assertEquals(false, hints.getPartial());
+            assertEquals(3, hints.getOptions().size());
+            assertTrue(hints.getOptions().get(0).getExpectedScore() >= hints.getOptions().get(2).getExpectedScore());
+            assertEquals(1, session.getPondState().withArray("handCore").size());
+            assertEquals(1, session.getPondState().path("turn").asInt());
+            verify(gameSessionMapper, never()).update(any());
+        } finally {
+            hintService.shutdown();
+        }
+    }
+
     @Test
     void performActionShouldHideLowCarbonScoreInReturnedState() {
         ObjectNode state = baseState();
@@ -1572,6 +1608,37 @@ class GameServicePhase3Test {
         assertTrue(protestRatio > 0.20D && protestRatio < 0.30D);
     }
 
+    @Test
+    void eventRuleIndexShouldMatchLinearRuleScan() throws Exception {
+        Method matched = GameService.class.getDeclaredMethod(
+            "isEventRuleMatched", ObjectNode.class, ObjectNode.class, int.class, GameRuleConfigService.EventRuleConfig.class
+        );
+        matched.setAccessible(true);
+        Map<String, GameRuleConfigService.EventRuleConfig> rules = gameRuleConfigService.eventRuleMap();
+        EventRuleIndex index = EventRuleIndex.of(rules);
+        List<GameRuleConfigService.EventRuleConfig> ordered = List.copyOf(rules.values());
+
+        int[] values = {0, 60, 69, 70, 71, 94, 95, 96, 99, 100, 101, 150};
+        for (int turn = 1; turn <= 2; turn++) {
+            for (int carbon : values) {
+                for (int satisfaction : values) {
+                    for (int population : values) {
+                        ObjectNode state = baseState();
+                        state.with("metrics").put("carbon", carbon).put("satisfaction", satisfaction);
+                        state.with("resources").put("population", population);
+                        long expected = 0L;
+                        for (int i = 0; i < ordered.size(); i++) {
+                            if ((boolean) matched.invoke(gameService, state, state.with("metrics"), turn, ordered.get(i))) {
+                                expected |= 1L << i;
+                            }
+                        }
+                        assertEquals(expected, index.candidateMask(50, carbon, satisfaction, population, turn));
+                    }
+                }
+            }
+        }
+    }
+
     @Test
     void maybeTriggerNegativeEventShouldApproximateThirtyPercentProbability() throws Exception {
         Method maybeTrigger = GameService.class.getDeclaredMethod("maybeTriggerNegativeEvent", ObjectNode.class);
@@ -1,6 +1,8 @@
 package com.youthloop.ingestion.application.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.ingestion.api.dto.CarbonMarketManualSyncResultDTO;
 import com.youthloop.ingestion.infrastructure.client.CarbonMarketSourceClient;
 import com.youthloop.ingestion.persistence.entity.CarbonMarketDailyKlineEntity;
@@ -50,6 +52,7 @@ public class CarbonMarketSyncService {
     private final CarbonMarketRealtimeSnapshotMapper realtimeSnapshotMapper;
     private final CarbonMarketDailyKlineMapper dailyKlineMapper;
     private final CarbonMarketSyncStateService carbonMarketSyncStateService;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     public boolean shouldSyncNow() {
         ZonedDateTime now = ZonedDateTime.now(ASIA_SHANGHAI);
@@ -342,6 +345,8 @@ public class CarbonMarketSyncService {
             latestSnapshot.getTradeDate(),
             latestSnapshot.getQuoteTime()
         );
+        // 提交后各实例丢弃内存与 Redis 中的行情快照并重新加载一次；首页聚合每次读取时附带最新快照，无需失效
+        cacheInvalidationBus.publish(CacheRegions.CARBON_MARKET);
     }
 
     private CarbonMarketRealtimeSnapshotEntity buildRealtimeSnapshotFromDailyArticle(
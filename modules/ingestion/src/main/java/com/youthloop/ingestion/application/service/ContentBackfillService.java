@@ -1,5 +1,7 @@
 package com.youthloop.ingestion.application.service;
 
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.content.persistence.entity.ContentEntity;
 import com.youthloop.content.persistence.mapper.ContentMapper;
 import com.youthloop.ingestion.api.dto.BackfillContentRequest;
@@ -31,6 +33,7 @@ public class ContentBackfillService {
     private final ContentMapper contentMapper;
     private final ContentI18nMapper contentI18nMapper;
     private final AiContentCleanerService aiContentCleanerService;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     @Transactional
     public BackfillContentSummary backfill(BackfillContentRequest request) {
@@ -95,6 +98,8 @@ public class ContentBackfillService {
                 }
 
                 localized += persistLocalizedContent(entity.getId(), localizedArticle);
+                // 提交后失效详情缓存（正文或译文可能已变化）
+                cacheInvalidationBus.publish(CacheRegions.CONTENT_DETAIL, entity.getId().toString());
             } catch (Exception e) {
                 failed++;
                 log.error("Backfill failed for contentId={}", entity.getId(), e);
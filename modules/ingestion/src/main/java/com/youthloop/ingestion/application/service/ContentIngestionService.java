@@ -3,6 +3,8 @@ package com.youthloop.ingestion.application.service;
 import com.youthloop.content.api.dto.CreateContentRequest;
 import com.youthloop.content.api.facade.ContentCommandFacade;
 import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.common.exception.BizException;
 import com.youthloop.ingestion.api.dto.DailyIngestionSummary;
 import com.youthloop.ingestion.api.dto.IngestionSettingsDTO;
@@ -39,6 +41,7 @@ public class ContentIngestionService {
     private final List<ContentSourceClient> contentSourceClients;
     private final AiContentCleanerService aiContentCleanerService;
     private final ContentI18nMapper contentI18nMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
 
     public DailyIngestionSummary ingestDaily() {
         IngestionSettingsDTO settings = ingestionSettingsFacade.getSettings();
@@ -148,6 +151,7 @@ public class ContentIngestionService {
                     UUID existingContentId = contentCommandFacade.findContentIdBySourceUrl(localizedArticle.getSourceUrl());
                     if (existingContentId != null) {
                         persistLocalizedContent(existingContentId, localizedArticle);
+                        cacheInvalidationBus.publish(CacheRegions.CONTENT_DETAIL, existingContentId.toString());
                     } else {
                         log.warn("Skip localization backfill because existing content is not found by sourceUrl={}",
                             localizedArticle.getSourceUrl());
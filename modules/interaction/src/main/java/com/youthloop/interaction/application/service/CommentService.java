@@ -1,5 +1,7 @@
 package com.youthloop.interaction.application.service;
 
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.common.exception.BizException;
 import com.youthloop.common.util.SecurityUtil;
 import com.youthloop.event.application.service.OutboxEventService;
@@ -7,6 +9,7 @@ import com.youthloop.event.domain.payload.CommentCreatedPayload;
 import com.youthloop.interaction.api.dto.CreateCommentRequest;
 import com.youthloop.interaction.persistence.entity.CommentEntity;
 import com.youthloop.interaction.persistence.mapper.CommentMapper;
+import com.youthloop.interaction.persistence.mapper.CommentStatsMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,7 +29,9 @@ import java.util.UUID;
 public class CommentService {
     
     private final CommentMapper commentMapper;
+    private final CommentStatsMapper commentStatsMapper;
     private final OutboxEventService outboxEventService;
+    private final CacheInvalidationBus cacheInvalidationBus;
     
     private static final int MAX_DEPTH = 3; // 最大评论深度
     
@@ -79,6 +84,12 @@ public class CommentService {
             throw new BizException(50022, "评论失败");
         }
         
+        // 每条评论都有统计行（热度重算与评论树排序依赖）；回复计入根评论的回复数
+        commentStatsMapper.applyCounterDeltas(entity.getId(), 0, 0, 0, entity.getCreatedAt());
+        if (entity.getRootId() != null) {
+            commentStatsMapper.applyCounterDeltas(entity.getRootId(), 0, 0, 1, entity.getCreatedAt());
+        }
+        
         log.info("评论创建成功: commentId={}, targetType={}, targetId={}, userId={}", 
             entity.getId(), request.getTargetType(), request.getTargetId(), currentUserId);
         
@@ -95,6 +106,8 @@ public class CommentService {
         );
         
         outboxEventService.publishEvent("COMMENT_CREATED", eventPayload);
+        cacheInvalidationBus.publish(CacheRegions.COMMENT_LIST,
+            CacheRegions.targetKey(request.getTargetType(), request.getTargetId()));
         
         return entity.getId();
     }
@@ -116,12 +129,27 @@ public class CommentService {
             throw new BizException(50032, "无权删除该评论");
         }
         
-        // 软删除（更新状态为已删除）
-        int rows = commentMapper.updateStatus(commentId, 3);
+        // 已删除：重复删除直接返回，不再扣减计数或发布事件
+        if (Integer.valueOf(3).equals(comment.getStatus())) {
+            return;
+        }
+        
+        // 软删除（更新状态为已删除），以读到的状态为条件，并发删除只有一个成功
+        int rows = commentMapper.updateStatus(commentId, comment.getStatus(), 3);
         if (rows == 0) {
+            // 状态已被并发请求改动：已被删除则与重复删除一样直接返回，否则才报错
+            CommentEntity current = commentMapper.selectById(commentId);
+            if (current != null && Integer.valueOf(3).equals(current.getStatus())) {
+                return;
+            }
             throw new BizException(50022, "删除评论失败");
         }
         
+        // 可见回复被删除时从根评论的回复数中扣除
+        if (comment.getRootId() != null && Integer.valueOf(1).equals(comment.getStatus())) {
+            commentStatsMapper.applyCounterDeltas(comment.getRootId(), 0, 0, -1, LocalDateTime.now());
+        }
+        
         log.info("评论删除成功: commentId={}, userId={}", commentId, currentUserId);
         
         // 发布 outbox 事件（COMMENT_DELETED），用于更新统计
@@ -132,5 +160,7 @@ public class CommentService {
         eventPayload.put("userId", currentUserId.toString());
         
         outboxEventService.publishEvent("COMMENT_DELETED", eventPayload);
+        cacheInvalidationBus.publish(CacheRegions.COMMENT_LIST,
+            CacheRegions.targetKey(comment.getTargetType(), comment.getTargetId()));
     }
 }
@@ -1,6 +1,8 @@
 package com.youthloop.interaction.application.service;
 
 import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.common.exception.BizException;
 import com.youthloop.common.util.SecurityUtil;
 import com.youthloop.event.application.service.OutboxEventService;
@@ -27,6 +29,7 @@ public class ReactionService {
     
     private final ReactionMapper reactionMapper;
     private final OutboxEventService outboxEventService;
+    private final CacheInvalidationBus cacheInvalidationBus;
     
     /**
      * 创建反应（幂等）
@@ -80,6 +83,9 @@ public class ReactionService {
         );
         
         outboxEventService.publishEvent(EventType.REACTION_CHANGED, eventPayload);
+        cacheInvalidationBus.publish(CacheRegions.USER_LIST, userId.toString());
+        cacheInvalidationBus.publish(CacheRegions.USER_INTERACTION, CacheRegions.reactionChangeKey(
+            userId, request.getTargetType(), request.getTargetId(), request.getReactionType(), true));
     }
     
     /**
@@ -125,5 +131,8 @@ public class ReactionService {
         );
         
         outboxEventService.publishEvent(EventType.REACTION_CHANGED, eventPayload);
+        cacheInvalidationBus.publish(CacheRegions.USER_LIST, userId.toString());
+        cacheInvalidationBus.publish(CacheRegions.USER_INTERACTION, CacheRegions.reactionChangeKey(
+            userId, request.getTargetType(), request.getTargetId(), request.getReactionType(), false));
     }
 }
@@ -51,10 +51,13 @@ public interface CommentMapper {
     );
     
     /**
-     * 更新评论状态
+     * 更新评论状态（仅当当前状态为 expectedStatus 时）
+     * 
+     * @return 更新行数；0 表示状态已被并发修改
      */
     int updateStatus(
         @Param("id") UUID id,
+        @Param("expectedStatus") Integer expectedStatus,
         @Param("status") Integer status
     );
 }
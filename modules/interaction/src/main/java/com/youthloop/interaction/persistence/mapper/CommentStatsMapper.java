@@ -4,6 +4,7 @@ import com.youthloop.interaction.persistence.entity.CommentStatsEntity;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -46,4 +47,17 @@ public interface CommentStatsMapper {
      * 增加回复数
      */
     int incrementReplyCount(@Param("commentId") UUID commentId);
+    
+    /**
+     * 按增量原子更新计数（记录不存在时插入），计数不低于 0
+     * 
+     * @return 更新后的统计
+     */
+    CommentStatsEntity applyCounterDeltas(
+        @Param("commentId") UUID commentId,
+        @Param("likeDelta") int likeDelta,
+        @Param("downDelta") int downDelta,
+        @Param("replyDelta") int replyDelta,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
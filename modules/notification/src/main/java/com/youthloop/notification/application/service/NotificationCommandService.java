@@ -1,6 +1,8 @@
 package com.youthloop.notification.application.service;
 
 import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.common.exception.BizException;
 import com.youthloop.common.util.SecurityUtil;
 import com.youthloop.notification.persistence.entity.NotificationEntity;
@@ -22,6 +24,7 @@ import java.util.UUID;
 public class NotificationCommandService {
     
     private final NotificationMapper notificationMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
     
     /**
      * 创建通知（内部使用，由 Worker 或其他服务调用）
@@ -54,6 +57,9 @@ public class NotificationCommandService {
             throw new BizException(500, "创建通知失败");
         }
         
+        // Worker 创建的通知经总线失效 API 实例上该用户的通知总数
+        cacheInvalidationBus.publish(CacheRegions.USER_LIST, userId.toString());
+        
         log.info("通知创建成功: id={}, userId={}, type={}", 
             notification.getId(), userId, type);
         
@@ -1,5 +1,7 @@
 package com.youthloop.notification.application.service;
 
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.common.exception.BizException;
 import com.youthloop.common.util.SecurityUtil;
 import com.youthloop.notification.persistence.entity.NotificationEntity;
@@ -21,6 +23,7 @@ import java.util.UUID;
 public class NotificationService {
     
     private final NotificationMapper notificationMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
     
     /**
      * 创建通知（由 Worker 调用）
@@ -53,6 +56,9 @@ public class NotificationService {
             throw new BizException(60022, "创建通知失败");
         }
         
+        // Worker 创建的通知经总线失效 API 实例上该用户的通知总数
+        cacheInvalidationBus.publish(CacheRegions.USER_LIST, userId.toString());
+        
         log.info("通知创建成功: notificationId={}, userId={}, type={}", 
             entity.getId(), userId, type);
         
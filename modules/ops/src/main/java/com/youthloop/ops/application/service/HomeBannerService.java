@@ -1,6 +1,8 @@
 package com.youthloop.ops.application.service;
 
 import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
 import com.youthloop.common.exception.BizException;
 import com.youthloop.common.util.SecurityUtil;
 import com.youthloop.ops.api.dto.CreateHomeBannerRequest;
@@ -28,6 +30,7 @@ import java.util.stream.Collectors;
 public class HomeBannerService {
     
     private final HomeBannerMapper homeBannerMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
     
     /**
      * 查询所有轮播（管理端，分页）
@@ -90,6 +93,7 @@ public class HomeBannerService {
         entity.setUpdatedAt(LocalDateTime.now());
         
         homeBannerMapper.insert(entity);
+        cacheInvalidationBus.publish(CacheRegions.HOME);
         
         log.info("创建轮播成功: id={}, title={}, createdBy={}", entity.getId(), entity.getTitle(), currentUserId);
         return entity.getId();
@@ -137,6 +141,7 @@ public class HomeBannerService {
         entity.setUpdatedAt(LocalDateTime.now());
         
         homeBannerMapper.update(entity);
+        cacheInvalidationBus.publish(CacheRegions.HOME);
         
         log.info("更新轮播成功: id={}, updatedBy={}", id, currentUserId);
     }
@@ -154,6 +159,7 @@ public class HomeBannerService {
         }
         
         homeBannerMapper.deleteById(id);
+        cacheInvalidationBus.publish(CacheRegions.HOME);
         
         log.info("删除轮播成功: id={}, deletedBy={}", id, currentUserId);
     }
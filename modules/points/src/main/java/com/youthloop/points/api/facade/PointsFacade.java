@@ -47,8 +47,10 @@ public interface PointsFacade {
     
     /**
      * 获取积分流水
+     *
+     * @param cursor 游标；非 null 时按游标分页（空串为第一页），忽略 page 且不返回 total
      */
-    PageResponse<PointsLedgerDTO> getLedger(int page, int size);
+    PageResponse<PointsLedgerDTO> getLedger(int page, int size, String cursor);
 
     /**
      * 获取可兑换商品列表
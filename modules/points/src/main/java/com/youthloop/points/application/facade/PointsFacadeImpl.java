@@ -82,9 +82,9 @@ public class PointsFacadeImpl implements PointsFacade {
     }
     
     @Override
-    public PageResponse<PointsLedgerDTO> getLedger(int page, int size) {
+    public PageResponse<PointsLedgerDTO> getLedger(int page, int size, String cursor) {
         UUID userId = SecurityUtil.getCurrentUserId();
-        return pointsService.getLedger(userId, page, size);
+        return pointsService.getLedger(userId, page, size, cursor);
     }
 
     @Override
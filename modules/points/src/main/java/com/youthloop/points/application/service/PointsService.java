@@ -1,6 +1,11 @@
 package com.youthloop.points.application.service;
 
+import com.youthloop.common.api.PageCursor;
 import com.youthloop.common.api.PageResponse;
+import com.youthloop.common.api.TotalCount;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
+import com.youthloop.common.persistence.TotalCountService;
 import com.youthloop.points.api.dto.PointsLedgerDTO;
 import com.youthloop.points.persistence.entity.PointsAccountEntity;
 import com.youthloop.points.persistence.entity.PointsLedgerEntity;
@@ -24,8 +29,17 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PointsService {
     
+    /**
+     * 流水游标的排序名（按时间倒序）
+     */
+    private static final String LEDGER_SORT = "latest";
+    
+    private static final String COUNT_LEDGER = PointsLedgerMapper.class.getName() + ".countByUserId";
+    
     private final PointsAccountMapper pointsAccountMapper;
     private final PointsLedgerMapper pointsLedgerMapper;
+    private final TotalCountService totalCountService;
+    private final CacheInvalidationBus cacheInvalidationBus;
     
     /**
      * 增加积分
@@ -54,6 +68,7 @@ public class PointsService {
         ledger.setCreatedAt(LocalDateTime.now());
         
         pointsLedgerMapper.insert(ledger);
+        cacheInvalidationBus.publish(CacheRegions.USER_LIST, userId.toString());
         
         log.info("积分增加: userId={}, delta={}, reason={}, memo={}", userId, delta, reason, memo);
     }
@@ -88,6 +103,7 @@ public class PointsService {
         ledger.setCreatedAt(LocalDateTime.now());
         
         pointsLedgerMapper.insert(ledger);
+        cacheInvalidationBus.publish(CacheRegions.USER_LIST, userId.toString());
         
         log.info("积分扣除: userId={}, amount={}, reason={}, memo={}", userId, amount, reason, memo);
     }
@@ -102,19 +118,41 @@ public class PointsService {
     
     /**
      * 获取积分流水
+     * 
+     * cursor 非 null 时为游标模式（空串为第一页）：按 (created_at, id) seek，不执行 COUNT
      */
-    public PageResponse<PointsLedgerDTO> getLedger(UUID userId, int page, int size) {
+    public PageResponse<PointsLedgerDTO> getLedger(UUID userId, int page, int size, String cursor) {
         if (page < 1) page = 1;
         if (size < 1) size = 20;
         int offset = (page - 1) * size;
         
-        Long total = pointsLedgerMapper.countByUserId(userId);
-        if (total == 0) {
+        if (cursor != null) {
+            List<PointsLedgerEntity> entities = pointsLedgerMapper.selectByUserId(
+                userId, PageCursor.decode(cursor, LEDGER_SORT), 0, size + 1
+            );
+            return PageResponse.ofCursor(entities, size, this::toLedgerDTO,
+                e -> PageCursor.ofTime(LEDGER_SORT, e.getCreatedAt(), e.getId()));
+        }
+        
+        TotalCount total = totalCountService.count(
+            CacheRegions.USER_LIST,
+            userId.toString(),
+            COUNT_LEDGER,
+            TotalCountService.params("userId", userId),
+            () -> pointsLedgerMapper.countByUserId(userId)
+        );
+        if (total.total() == 0) {
             return PageResponse.of(new ArrayList<>(), 0L, page, size);
         }
         
-        List<PointsLedgerEntity> entities = pointsLedgerMapper.selectByUserId(userId, offset, size);
-        List<PointsLedgerDTO> items = entities.stream().map(e -> PointsLedgerDTO.builder()
+        List<PointsLedgerEntity> entities = pointsLedgerMapper.selectByUserId(userId, null, offset, size);
+        List<PointsLedgerDTO> items = entities.stream().map(this::toLedgerDTO).toList();
+        
+        return PageResponse.of(items, total, page, size);
+    }
+    
+    private PointsLedgerDTO toLedgerDTO(PointsLedgerEntity e) {
+        return PointsLedgerDTO.builder()
             .id(e.getId())
             .userId(e.getUserId())
             .amount(e.getDelta())
@@ -125,10 +163,7 @@ public class PointsService {
             .balance(0L) // 暂无流水余额快照
             .sourceType(getSourceType(e.getRefType() != null ? e.getRefType() : e.getReason())) // 暂时若refType为空则用reason回退
             .sourceId(e.getRefId())
-            .build()
-        ).toList();
-        
-        return PageResponse.of(items, total, page, size);
+            .build();
     }
     
     /**
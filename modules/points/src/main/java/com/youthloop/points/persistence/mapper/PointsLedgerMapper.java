@@ -1,6 +1,7 @@
 package com.youthloop.points.persistence.mapper;
 
 import com.youthloop.points.persistence.entity.PointsLedgerEntity;
+import com.youthloop.common.api.PageCursor;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import java.util.List;
@@ -14,7 +15,8 @@ public interface PointsLedgerMapper {
     
     void insert(PointsLedgerEntity entity);
     
-    List<PointsLedgerEntity> selectByUserId(@Param("userId") UUID userId, @Param("offset") int offset, @Param("limit") int limit);
+    List<PointsLedgerEntity> selectByUserId(@Param("userId") UUID userId, @Param("cursor") PageCursor cursor,
+                                            @Param("offset") int offset, @Param("limit") int limit);
     
     Long countByUserId(@Param("userId") UUID userId);
 }
@@ -63,6 +63,9 @@ public class ActivityListItemDTO {
     @Schema(description = "评论数")
     private Integer commentCount;
     
+    @Schema(description = "热度分（热度排序与游标定位用）")
+    private Long hotScore;
+    
     // === 用户状态（登录时返回）===
     @Schema(description = "用户状态（未登录时为 null）")
     private UserState userState;
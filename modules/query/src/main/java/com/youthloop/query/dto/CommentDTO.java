@@ -59,10 +59,16 @@ public class CommentDTO {
     @Schema(description = "点赞数")
     private Integer likeCount;
     
-    @Schema(description = "回复数")
+    @Schema(description = "回复数（根评论为其下可见回复总数）")
     private Integer replyCount;
     
+    @Schema(description = "热度")
+    private Long hotScore;
+    
     // === 回复列表（仅根评论有）===
     @Schema(description = "回复列表（仅根评论包含，最多返回最新的几条）")
     private List<CommentDTO> replies;
+    
+    @Schema(description = "更多回复的游标（用于分页查询回复，没有更多回复时不返回）")
+    private String repliesNextCursor;
 }
@@ -21,6 +21,8 @@ public interface QueryFacade {
     
     /**
      * 查询内容列表（含统计和用户状态）
+     *
+     * @param cursor 游标；非 null 时按游标分页（空串为第一页），忽略 page 且不返回 total
      */
     PageResponse<ContentListItemDTO> getContentList(
         Integer type,
@@ -28,7 +30,8 @@ public interface QueryFacade {
         Integer status,
         String sort,
         Integer page,
-        Integer size
+        Integer size,
+        String cursor
     );
     
     /**
@@ -38,13 +41,24 @@ public interface QueryFacade {
     
     /**
      * 查询评论树
+     *
+     * @param cursor 游标；非 null 时按游标分页（空串为第一页），忽略 page 且不返回 total
      */
-    CommentTreeDTO getCommentTree(Integer targetType, UUID targetId, String sort, Integer page, Integer size);
+    CommentTreeDTO getCommentTree(Integer targetType, UUID targetId, String sort, Integer page, Integer size, String cursor);
+    
+    /**
+     * 分页查询根评论下的回复（游标分页）
+     *
+     * @param cursor 游标（来自 repliesNextCursor 或上一页的 nextCursor），为空时从最新一条开始
+     */
+    PageResponse<CommentDTO> getCommentReplies(UUID rootId, Integer size, String cursor);
     
     /**
      * 查询活动列表（含统计和用户状态）
+     *
+     * @param cursor 游标；非 null 时按游标分页（空串为第一页），忽略 page 且不返回 total
      */
-    PageResponse<ActivityListItemDTO> getActivityList(Integer category, Integer status, String sort, Integer page, Integer size);
+    PageResponse<ActivityListItemDTO> getActivityList(Integer category, Integer status, String sort, Integer page, Integer size, String cursor);
     
     /**
      * 查询活动详情（含统计和用户状态）
@@ -58,18 +72,24 @@ public interface QueryFacade {
     
     /**
      * 查询我的收藏/点赞列表
+     *
+     * @param cursor 游标；非 null 时按游标分页（空串为第一页），忽略 page 且不返回 total
      */
-    PageResponse<ReactionItemDTO> getMyReactions(Integer reactionType, Integer targetType, Integer page, Integer size);
+    PageResponse<ReactionItemDTO> getMyReactions(Integer reactionType, Integer targetType, Integer page, Integer size, String cursor);
     
     /**
      * 查询我的通知列表
+     *
+     * @param cursor 游标；非 null 时按游标分页（空串为第一页），忽略 page 且不返回 total
      */
-    PageResponse<NotificationItemDTO> getMyNotifications(Integer page, Integer size);
+    PageResponse<NotificationItemDTO> getMyNotifications(Integer page, Integer size, String cursor);
     
     /**
      * 查询我报名的活动列表
+     *
+     * @param cursor 游标；非 null 时按游标分页（空串为第一页），忽略 page 且不返回 total
      */
-    PageResponse<MyActivityItemDTO> getMyActivities(Integer status, Integer page, Integer size);
+    PageResponse<MyActivityItemDTO> getMyActivities(Integer status, Integer page, Integer size, String cursor);
 
     /**
      * Get activity summary stats
@@ -50,9 +50,10 @@ public class QueryFacadeImpl implements QueryFacade {
         Integer status,
         String sort,
         Integer page,
-        Integer size
+        Integer size,
+        String cursor
     ) {
-        return contentQueryService.getContentList(type, sourceKey, status, sort, page, size);
+        return contentQueryService.getContentList(type, sourceKey, status, sort, page, size, cursor);
     }
     
     @Override
@@ -61,13 +62,18 @@ public class QueryFacadeImpl implements QueryFacade {
     }
     
     @Override
-    public CommentTreeDTO getCommentTree(Integer targetType, UUID targetId, String sort, Integer page, Integer size) {
-        return commentQueryService.getCommentTree(targetType, targetId, sort, page, size);
+    public CommentTreeDTO getCommentTree(Integer targetType, UUID targetId, String sort, Integer page, Integer size, String cursor) {
+        return commentQueryService.getCommentTree(targetType, targetId, sort, page, size, cursor);
     }
     
     @Override
-    public PageResponse<ActivityListItemDTO> getActivityList(Integer category, Integer status, String sort, Integer page, Integer size) {
-        return activityQueryService.getActivityList(category, status, sort, page, size);
+    public PageResponse<CommentDTO> getCommentReplies(UUID rootId, Integer size, String cursor) {
+        return commentQueryService.getCommentReplies(rootId, size, cursor);
+    }
+    
+    @Override
+    public PageResponse<ActivityListItemDTO> getActivityList(Integer category, Integer status, String sort, Integer page, Integer size, String cursor) {
+        return activityQueryService.getActivityList(category, status, sort, page, size, cursor);
     }
     
     @Override
@@ -81,18 +87,18 @@ public class QueryFacadeImpl implements QueryFacade {
     }
     
     @Override
-    public PageResponse<ReactionItemDTO> getMyReactions(Integer reactionType, Integer targetType, Integer page, Integer size) {
-        return meQueryService.getMyReactions(reactionType, targetType, page, size);
+    public PageResponse<ReactionItemDTO> getMyReactions(Integer reactionType, Integer targetType, Integer page, Integer size, String cursor) {
+        return meQueryService.getMyReactions(reactionType, targetType, page, size, cursor);
     }
     
     @Override
-    public PageResponse<NotificationItemDTO> getMyNotifications(Integer page, Integer size) {
-        return meQueryService.getMyNotifications(page, size);
+    public PageResponse<NotificationItemDTO> getMyNotifications(Integer page, Integer size, String cursor) {
+        return meQueryService.getMyNotifications(page, size, cursor);
     }
     
     @Override
-    public PageResponse<MyActivityItemDTO> getMyActivities(Integer status, Integer page, Integer size) {
-        return meQueryService.getMyActivities(status, page, size);
+    public PageResponse<MyActivityItemDTO> getMyActivities(Integer status, Integer page, Integer size, String cursor) {
+        return meQueryService.getMyActivities(status, page, size, cursor);
     }
 
     @Override
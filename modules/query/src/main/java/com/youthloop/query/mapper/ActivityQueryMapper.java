@@ -1,13 +1,17 @@
 package com.youthloop.query.mapper;
 
+import com.youthloop.common.api.PageCursor;
+import com.youthloop.query.dto.ActivityCategoryCountDTO;
+import com.youthloop.query.dto.ActivityDetailDTO;
+import com.youthloop.query.dto.ActivityListItemDTO;
+import com.youthloop.query.dto.ActivitySessionDTO;
+import com.youthloop.query.mapper.row.ActivityUserStateRow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.time.LocalDateTime;
-import com.youthloop.query.dto.ActivityCategoryCountDTO;
 
 /**
  * 活动查询 Mapper（只读）
@@ -16,12 +20,13 @@ import com.youthloop.query.dto.ActivityCategoryCountDTO;
 public interface ActivityQueryMapper {
     
     /**
-     * 查询活动列表（分页 + 筛选 + 排序）
+     * 查询活动列表（分页 + 筛选 + 排序；cursor 非空时按游标 seek）
      */
-    List<Map<String, Object>> selectActivityList(
+    List<ActivityListItemDTO> selectActivityList(
         @Param("category") Integer category,
         @Param("status") Integer status,
         @Param("sort") String sort,
+        @Param("cursor") PageCursor cursor,
         @Param("offset") Integer offset,
         @Param("limit") Integer limit
     );
@@ -37,19 +42,19 @@ public interface ActivityQueryMapper {
     /**
      * 查询活动详情
      */
-    Map<String, Object> selectActivityDetail(
+    ActivityDetailDTO selectActivityDetail(
         @Param("activityId") UUID activityId
     );
     
     /**
      * 查询活动场次列表
      */
-    List<Map<String, Object>> selectActivitySessions(@Param("activityId") UUID activityId);
+    List<ActivitySessionDTO> selectActivitySessions(@Param("activityId") UUID activityId);
     
     /**
-     * 批量查询用户状态（列表用）
+     * 批量查询用户状态（列表用；只返回有互动记录的活动）
      */
-    List<Map<String, Object>> selectUserStates(
+    List<ActivityUserStateRow> selectUserStates(
         @Param("userId") UUID userId,
         @Param("activityIds") List<UUID> activityIds
     );
@@ -57,7 +62,7 @@ public interface ActivityQueryMapper {
     /**
      * 查询单个活动的用户状态（详情用）
      */
-    Map<String, Object> selectUserState(
+    ActivityUserStateRow selectUserState(
         @Param("userId") UUID userId,
         @Param("activityId") UUID activityId
     );
@@ -1,10 +1,11 @@
 package com.youthloop.query.mapper;
 
+import com.youthloop.query.dto.CarbonMarketSnapshotDTO;
+import com.youthloop.query.dto.CarbonMarketTrendPointDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * Query mapper for carbon market database-backed homepage data.
@@ -12,7 +13,13 @@ import java.util.Map;
 @Mapper
 public interface CarbonMarketQueryMapper {
 
-    Map<String, Object> selectLatestRealtimeSnapshot();
+    /**
+     * Latest realtime snapshot, or null before the first successful sync.
+     */
+    CarbonMarketSnapshotDTO selectLatestRealtimeSnapshot();
 
-    List<Map<String, Object>> selectLatestDailyKlines(@Param("limit") Integer limit);
+    /**
+     * Most recent daily klines, oldest first.
+     */
+    List<CarbonMarketTrendPointDTO> selectLatestDailyKlines(@Param("limit") Integer limit);
 }
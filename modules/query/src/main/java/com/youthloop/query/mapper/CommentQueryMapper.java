@@ -1,10 +1,11 @@
 package com.youthloop.query.mapper;
 
+import com.youthloop.common.api.PageCursor;
+import com.youthloop.query.dto.CommentDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -15,19 +16,21 @@ import java.util.UUID;
 public interface CommentQueryMapper {
     
     /**
-     * 查询根评论列表（分页）
+     * 查询根评论列表（页码或游标分页）
      * 
      * @param targetType 目标类型：1=内容 2=活动
      * @param targetId 目标 ID
      * @param sort 排序：latest=最新 hot=热门
-     * @param offset 偏移量
+     * @param cursor 游标（游标模式的非首页），为 null 时从头查询
+     * @param offset 偏移量（游标模式为 0）
      * @param limit 限制数量
      * @return 根评论列表（含用户信息和统计）
      */
-    List<Map<String, Object>> selectRootComments(
+    List<CommentDTO> selectRootComments(
         @Param("targetType") Integer targetType,
         @Param("targetId") UUID targetId,
         @Param("sort") String sort,
+        @Param("cursor") PageCursor cursor,
         @Param("offset") Integer offset,
         @Param("limit") Integer limit
     );
@@ -41,14 +44,27 @@ public interface CommentQueryMapper {
     );
     
     /**
-     * 批量查询根评论的回复
+     * 批量查询根评论的最新回复
      * 
      * @param rootIds 根评论 ID 列表
      * @param limit 每个根评论最多返回的回复数
-     * @return 回复列表（含用户信息）
+     * @return 回复列表（含用户信息），按 root_id 分组、组内最新在前
      */
-    List<Map<String, Object>> selectRepliesByRootIds(
+    List<CommentDTO> selectReplyPreviews(
         @Param("rootIds") List<UUID> rootIds,
         @Param("limit") Integer limit
     );
+    
+    /**
+     * 查询根评论下的回复（游标分页，最新在前）
+     * 
+     * @param rootId 根评论 ID
+     * @param cursor 游标，为 null 时从最新一条开始
+     * @param limit 限制数量
+     */
+    List<CommentDTO> selectReplies(
+        @Param("rootId") UUID rootId,
+        @Param("cursor") PageCursor cursor,
+        @Param("limit") Integer limit
+    );
 }
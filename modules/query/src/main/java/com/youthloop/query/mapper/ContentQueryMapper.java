@@ -1,10 +1,14 @@
 package com.youthloop.query.mapper;
 
+import com.youthloop.common.api.PageCursor;
+import com.youthloop.query.dto.ContentDetailDTO;
+import com.youthloop.query.dto.ContentListItemDTO;
+import com.youthloop.query.mapper.row.ContentStatsRow;
+import com.youthloop.query.mapper.row.ReactionStateRow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -19,16 +23,18 @@ public interface ContentQueryMapper {
      * 
      * @param type 内容类型（可选）
      * @param status 状态（默认 1=已发布）
-     * @param offset 偏移量
+     * @param cursor 游标模式的 seek 位置（页码模式或第一页为 null）
+     * @param offset 偏移量（游标模式为 0）
      * @param limit 限制数量
-     * @return 内容列表（Map 格式，包含主数据和统计）
+     * @return 内容列表（主数据和统计，不含用户状态）
      */
-    List<Map<String, Object>> selectContentListWithStats(
+    List<ContentListItemDTO> selectContentListWithStats(
         @Param("type") Integer type,
         @Param("sourceKeys") List<String> sourceKeys,
         @Param("status") Integer status,
         @Param("sort") String sort,
         @Param("locale") String locale,
+        @Param("cursor") PageCursor cursor,
         @Param("offset") Integer offset,
         @Param("limit") Integer limit
     );
@@ -43,25 +49,32 @@ public interface ContentQueryMapper {
     );
     
     /**
-     * 查询内容详情（含统计）
+     * 查询内容详情（按语言取正文与元数据，不含计数）
      * 
      * @param contentId 内容 ID
-     * @param contentId 内容 ID
-     * @return 内容详情（Map 格式，包含主数据和统计）
+     * @return 内容详情；不存在时为 null
      */
-    Map<String, Object> selectContentDetailWithStats(
+    ContentDetailDTO selectContentDetail(
         @Param("contentId") UUID contentId,
         @Param("locale") String locale
     );
     
+    /**
+     * 查询内容计数
+     * 
+     * @param contentId 内容 ID
+     * @return 计数；统计行不存在时为 null
+     */
+    ContentStatsRow selectContentStats(@Param("contentId") UUID contentId);
+    
     /**
      * 批量查询用户对内容的反应状态
      * 
      * @param userId 用户 ID
      * @param contentIds 内容 ID 列表
-     * @return Map<contentId, Map<reactionType, exists>>
+     * @return 有互动记录的内容的状态（无记录的内容不返回）
      */
-    List<Map<String, Object>> selectUserReactionsForContents(
+    List<ReactionStateRow> selectUserReactionsForContents(
         @Param("userId") UUID userId,
         @Param("contentIds") List<UUID> contentIds
     );
@@ -72,7 +85,7 @@ public interface ContentQueryMapper {
      * @param limit 限制数量
      * @return 内容列表
      */
-    List<Map<String, Object>> selectLatestContents(
+    List<ContentListItemDTO> selectLatestContents(
         @Param("locale") String locale,
         @Param("limit") Integer limit
     );
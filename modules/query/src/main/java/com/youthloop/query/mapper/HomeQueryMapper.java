@@ -1,10 +1,11 @@
 package com.youthloop.query.mapper;
 
+import com.youthloop.query.dto.ActivityListItemDTO;
+import com.youthloop.query.dto.HomeBannerDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * 首页查询 Mapper（只读）
@@ -17,7 +18,7 @@ public interface HomeQueryMapper {
      * 
      * @return 轮播列表（按 sort_order 排序）
      */
-    List<Map<String, Object>> selectActiveBanners();
+    List<HomeBannerDTO> selectActiveBanners();
     
     /**
      * 查询最新活动（首页用）
@@ -25,7 +26,7 @@ public interface HomeQueryMapper {
      * @param limit 限制数量
      * @return 活动列表
      */
-    List<Map<String, Object>> selectLatestActivities(
+    List<ActivityListItemDTO> selectLatestActivities(
         @Param("limit") Integer limit
     );
 }
@@ -1,10 +1,14 @@
 package com.youthloop.query.mapper;
 
+import com.youthloop.common.api.PageCursor;
+import com.youthloop.query.dto.MyActivityItemDTO;
+import com.youthloop.query.dto.NotificationItemDTO;
+import com.youthloop.query.dto.ReactionItemDTO;
+import com.youthloop.query.mapper.row.UserReactionRow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -17,10 +21,11 @@ public interface MeQueryMapper {
     /**
      * 查询我的收藏/点赞列表
      */
-    List<Map<String, Object>> selectMyReactions(
+    List<ReactionItemDTO> selectMyReactions(
         @Param("userId") UUID userId,
         @Param("reactionType") Integer reactionType,
         @Param("targetType") Integer targetType,
+        @Param("cursor") PageCursor cursor,
         @Param("offset") Integer offset,
         @Param("limit") Integer limit
     );
@@ -37,8 +42,9 @@ public interface MeQueryMapper {
     /**
      * 查询我的通知列表
      */
-    List<Map<String, Object>> selectMyNotifications(
+    List<NotificationItemDTO> selectMyNotifications(
         @Param("userId") UUID userId,
+        @Param("cursor") PageCursor cursor,
         @Param("offset") Integer offset,
         @Param("limit") Integer limit
     );
@@ -51,9 +57,10 @@ public interface MeQueryMapper {
     /**
      * 查询我报名的活动列表
      */
-    List<Map<String, Object>> selectMyActivities(
+    List<MyActivityItemDTO> selectMyActivities(
         @Param("userId") UUID userId,
         @Param("status") Integer status,
+        @Param("cursor") PageCursor cursor,
         @Param("offset") Integer offset,
         @Param("limit") Integer limit
     );
@@ -65,4 +72,20 @@ public interface MeQueryMapper {
         @Param("userId") UUID userId,
         @Param("status") Integer status
     );
+    
+    /**
+     * 查询用户的全部反应（最多 limit 条），用于构建互动状态集合
+     */
+    List<UserReactionRow> selectUserReactionTargets(
+        @Param("userId") UUID userId,
+        @Param("limit") Integer limit
+    );
+    
+    /**
+     * 查询用户已报名（待审核或已通过）的活动 ID（最多 limit 条）
+     */
+    List<UUID> selectSignedUpActivityIds(
+        @Param("userId") UUID userId,
+        @Param("limit") Integer limit
+    );
 }
@@ -0,0 +1,22 @@
+package com.youthloop.query.mapper.row;
+
+import com.youthloop.query.dto.UserState;
+
+import java.util.UUID;
+
+/**
+ * 当前用户对某个活动的互动与报名状态（查询行，构造器映射）
+ *
+ * @param activityId 活动 ID
+ * @param liked 是否已点赞
+ * @param favorited 是否已收藏
+ * @param downvoted 是否已踩
+ * @param signedUp 是否已报名（待审核或已通过）
+ */
+public record ActivityUserStateRow(UUID activityId, boolean liked, boolean favorited, boolean downvoted,
+                                   boolean signedUp) {
+
+    public UserState toUserState() {
+        return new UserState(liked, favorited, downvoted);
+    }
+}
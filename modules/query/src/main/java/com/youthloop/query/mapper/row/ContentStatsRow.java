@@ -0,0 +1,21 @@
+package com.youthloop.query.mapper.row;
+
+import com.youthloop.query.dto.ContentDetailDTO;
+
+/**
+ * 内容计数（查询行，构造器映射），叠加到缓存的内容详情上
+ */
+public record ContentStatsRow(int likeCount, int favCount, int downCount, int commentCount, long viewCount,
+                              long hotScore) {
+
+    public static final ContentStatsRow EMPTY = new ContentStatsRow(0, 0, 0, 0, 0L, 0L);
+
+    public void applyTo(ContentDetailDTO dto) {
+        dto.setLikeCount(likeCount);
+        dto.setFavCount(favCount);
+        dto.setDownCount(downCount);
+        dto.setCommentCount(commentCount);
+        dto.setViewCount(viewCount);
+        dto.setHotScore(hotScore);
+    }
+}
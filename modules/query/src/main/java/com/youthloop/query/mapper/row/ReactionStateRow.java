@@ -0,0 +1,20 @@
+package com.youthloop.query.mapper.row;
+
+import com.youthloop.query.dto.UserState;
+
+import java.util.UUID;
+
+/**
+ * 当前用户对某个目标的互动状态（查询行，构造器映射）
+ *
+ * @param targetId 目标 ID
+ * @param liked 是否已点赞
+ * @param favorited 是否已收藏
+ * @param downvoted 是否已踩
+ */
+public record ReactionStateRow(UUID targetId, boolean liked, boolean favorited, boolean downvoted) {
+
+    public UserState toUserState() {
+        return new UserState(liked, favorited, downvoted);
+    }
+}
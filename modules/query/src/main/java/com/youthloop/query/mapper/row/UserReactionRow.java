@@ -0,0 +1,13 @@
+package com.youthloop.query.mapper.row;
+
+import java.util.UUID;
+
+/**
+ * 用户的一条反应（查询行，构造器映射），用于加载用户互动状态集合
+ *
+ * @param targetType 目标类型：1=内容 2=活动
+ * @param targetId 目标 ID
+ * @param reactionType 反应类型：1=点赞 2=收藏 3=踩
+ */
+public record UserReactionRow(int targetType, UUID targetId, int reactionType) {
+}
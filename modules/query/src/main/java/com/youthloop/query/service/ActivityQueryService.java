@@ -1,21 +1,26 @@
 package com.youthloop.query.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youthloop.common.api.PageCursor;
 import com.youthloop.common.api.PageResponse;
+import com.youthloop.common.api.TotalCount;
+import com.youthloop.common.cache.CacheRegions;
+import com.youthloop.common.concurrent.FanOutExecutor;
 import com.youthloop.common.exception.BizException;
+import com.youthloop.common.persistence.TotalCountService;
 import com.youthloop.common.util.SecurityUtil;
 import com.youthloop.query.dto.ActivityDetailDTO;
 import com.youthloop.query.dto.ActivityListItemDTO;
 import com.youthloop.query.dto.ActivitySessionDTO;
 import com.youthloop.query.dto.UserState;
 import com.youthloop.query.mapper.ActivityQueryMapper;
+import com.youthloop.query.mapper.row.ActivityUserStateRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -26,14 +31,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ActivityQueryService {
     
+    private static final String COUNT_ACTIVITY_LIST = ActivityQueryMapper.class.getName() + ".countActivityList";
+    
     private final ActivityQueryMapper activityQueryMapper;
-    private final ObjectMapper objectMapper;
+    private final FanOutExecutor fanOutExecutor;
+    private final TotalCountService totalCountService;
+    private final UserInteractionCache userInteractionCache;
     
     /**
      * 查询活动列表（分页 + 筛选 + 排序）
+     * 
+     * cursor 非 null 时为游标模式（空串为第一页）：按上一页最后一行的 (排序键, id) seek，
+     * 不执行 COUNT，也不返回 total
      */
     @Transactional(readOnly = true)
-    public PageResponse<ActivityListItemDTO> getActivityList(Integer category, Integer status, String sort, Integer page, Integer size) {
+    public PageResponse<ActivityListItemDTO> getActivityList(Integer category, Integer status, String sort, Integer page, Integer size, String cursor) {
         // 参数校验与默认值
         int validPage = Math.max(1, page);
         int validSize = Math.min(100, Math.max(1, size));
@@ -41,95 +53,157 @@ public class ActivityQueryService {
         Integer validStatus = (status != null) ? status : 1; // 默认只查已发布
         String validSort = (sort != null && sort.equals("hot")) ? "hot" : "latest";
         
-        // 查询总数
-        Long total = activityQueryMapper.countActivityList(category, validStatus);
+        if (cursor != null) {
+            // 多查一行用于判断是否还有下一页
+            List<ActivityListItemDTO> rows = activityQueryMapper.selectActivityList(
+                category, validStatus, validSort, PageCursor.decode(cursor, validSort), 0, validSize + 1
+            );
+            PageResponse<ActivityListItemDTO> response = PageResponse.ofCursor(
+                rows,
+                validSize,
+                Function.identity(),
+                item -> toCursor(validSort, item)
+            );
+            fillUserStates(response.getItems());
+            return response;
+        }
         
-        if (total == 0) {
+        // 查询总数（缓存；大结果集使用规划器估算）
+        TotalCount total = totalCountService.count(
+            CacheRegions.ACTIVITY_LIST,
+            null,
+            COUNT_ACTIVITY_LIST,
+            TotalCountService.params("category", category, "status", validStatus),
+            () -> activityQueryMapper.countActivityList(category, validStatus)
+        );
+        
+        if (total.total() == 0) {
             return PageResponse.of(Collections.emptyList(), total, validPage, validSize);
         }
         
-        // 查询列表
-        List<Map<String, Object>> rows = activityQueryMapper.selectActivityList(
-            category, validStatus, validSort, offset, validSize
+        // 查询列表，如果已登录，批量填充用户状态
+        List<ActivityListItemDTO> items = activityQueryMapper.selectActivityList(
+            category, validStatus, validSort, null, offset, validSize
         );
+        fillUserStates(items);
         
+        return PageResponse.of(items, total, validPage, validSize);
+    }
+    
+    /**
+     * 已登录时填充当前用户对这些活动的状态；报名状态独立于互动状态，未命中的活动为 false。
+     * 优先按 {@link UserInteractionCache} 的集合判断，用户未缓存时批量查询
+     */
+    private void fillUserStates(List<ActivityListItemDTO> items) {
+        items.forEach(item -> item.setSignedUp(false));
         // 获取当前用户 ID（如果已登录）
         UUID currentUserId = SecurityUtil.getCurrentUserIdOptional();
+        if (currentUserId == null || items.isEmpty()) {
+            return;
+        }
         
-        // 如果已登录，批量查询用户状态
-        Map<UUID, UserState> userStateMap = new HashMap<>();
-        Map<UUID, Boolean> signedUpMap = new HashMap<>();
-        if (currentUserId != null && !rows.isEmpty()) {
-            List<UUID> activityIds = rows.stream()
-                .map(row -> UUID.fromString(row.get("id").toString()))
-                .collect(Collectors.toList());
-            
-            List<Map<String, Object>> userStates = activityQueryMapper.selectUserStates(currentUserId, activityIds);
-            for (Map<String, Object> state : userStates) {
-                Object activityIdObj = state.get("activity_id");
-                if (activityIdObj == null) {
-                    log.warn("activity_id is null in user state: {}", state);
-                    continue;
-                }
-                UUID activityId = UUID.fromString(activityIdObj.toString());
-                UserState us = new UserState();
-                us.setLiked((Boolean) state.get("liked"));
-                us.setFavorited((Boolean) state.get("favorited"));
-                us.setDownvoted((Boolean) state.get("downvoted"));
-                userStateMap.put(activityId, us);
-                
-                // 存储 signedUp 状态
-                Boolean signedUp = (Boolean) state.get("signed_up");
-                signedUpMap.put(activityId, signedUp != null ? signedUp : false);
+        UserInteractions interactions = userInteractionCache.get(currentUserId);
+        if (interactions != null) {
+            for (ActivityListItemDTO item : items) {
+                item.setUserState(interactions.stateOf(UserInteractions.TARGET_ACTIVITY, item.getId()));
+                item.setSignedUp(interactions.isSignedUp(item.getId()));
             }
+            return;
         }
         
-        // 组装 DTO
-        List<ActivityListItemDTO> items = rows.stream()
-            .map(row -> mapToActivityListItem(row, userStateMap, signedUpMap))
+        List<UUID> activityIds = items.stream()
+            .map(ActivityListItemDTO::getId)
             .collect(Collectors.toList());
-        
-        return PageResponse.of(items, total, validPage, validSize);
+        Map<UUID, ActivityUserStateRow> stateMap = activityQueryMapper.selectUserStates(currentUserId, activityIds).stream()
+            .collect(Collectors.toMap(ActivityUserStateRow::activityId, Function.identity()));
+        for (ActivityListItemDTO item : items) {
+            ActivityUserStateRow state = stateMap.get(item.getId());
+            if (state != null) {
+                item.setUserState(state.toUserState());
+                item.setSignedUp(state.signedUp());
+            }
+        }
+    }
+    
+    /**
+     * 单个活动的用户状态（详情用），优先按 {@link UserInteractionCache} 的集合判断
+     */
+    private ActivityUserStateRow loadUserState(UUID userId, UUID activityId) {
+        UserInteractions interactions = userInteractionCache.get(userId);
+        if (interactions == null) {
+            return activityQueryMapper.selectUserState(userId, activityId);
+        }
+        UserState state = interactions.stateOf(UserInteractions.TARGET_ACTIVITY, activityId);
+        return new ActivityUserStateRow(
+            activityId, state.getLiked(), state.getFavorited(), state.getDownvoted(), interactions.isSignedUp(activityId)
+        );
+    }
+    
+    /**
+     * 列表项的游标位置，须与 selectActivityList 的 ORDER BY 一致
+     */
+    private PageCursor toCursor(String sort, ActivityListItemDTO item) {
+        if ("hot".equals(sort)) {
+            return PageCursor.ofScore(sort, item.getHotScore(), item.getId());
+        }
+        return PageCursor.ofTime(sort, item.getStartTime(), item.getId());
     }
     
     /**
      * 查询活动详情
+     * 
+     * 详情、用户状态与场次三个查询互不依赖，并行执行（不在事务内，各自使用连接）；
+     * 场次在拿到 source_type 之前就发起，非 HOSTED 活动的结果直接丢弃
      */
-    @Transactional(readOnly = true)
     public ActivityDetailDTO getActivityDetail(UUID activityId) {
-        Map<String, Object> row = activityQueryMapper.selectActivityDetail(activityId);
-        
-        if (row == null) {
-            throw new BizException(40041, "活动不存在");
-        }
-        
-        ActivityDetailDTO dto = mapToActivityDetail(row);
-        
         // 获取当前用户 ID（如果已登录）
         UUID currentUserId = SecurityUtil.getCurrentUserIdOptional();
         
-        // 如果已登录，查询用户状态
-        if (currentUserId != null) {
-            Map<String, Object> userState = activityQueryMapper.selectUserState(currentUserId, activityId);
+        try (FanOutExecutor.FanOut fanOut = fanOutExecutor.open("activity-detail")) {
+            FanOutExecutor.Task<ActivityDetailDTO> detail = fanOut.fork(
+                () -> activityQueryMapper.selectActivityDetail(activityId)
+            );
+            FanOutExecutor.Task<ActivityUserStateRow> userStateTask = currentUserId == null ? null : fanOut.fork(
+                () -> loadUserState(currentUserId, activityId)
+            );
+            FanOutExecutor.Task<List<ActivitySessionDTO>> sessionsTask = fanOut.fork(
+                () -> activityQueryMapper.selectActivitySessions(activityId)
+            );
+            
+            ActivityDetailDTO dto = detail.get();
+            if (dto == null) {
+                throw new BizException(40041, "活动不存在");
+            }
+            return assembleActivityDetail(dto, userStateTask, sessionsTask);
+        }
+    }
+    
+    private ActivityDetailDTO assembleActivityDetail(
+        ActivityDetailDTO dto,
+        FanOutExecutor.Task<ActivityUserStateRow> userStateTask,
+        FanOutExecutor.Task<List<ActivitySessionDTO>> sessionsTask
+    ) {
+        // 计算阅读时间（基于描述长度，假设每分钟阅读200个字符）
+        String description = dto.getDescription();
+        if (description != null && !description.isEmpty()) {
+            dto.setReadingTime(Math.max(1, (int) Math.ceil(description.length() / 200.0)));
+        } else {
+            dto.setReadingTime(1); // 默认1分钟
+        }
+        
+        // 如果已登录，填充用户状态
+        if (userStateTask != null) {
+            ActivityUserStateRow userState = userStateTask.get();
             if (userState != null) {
-                UserState us = new UserState();
-                us.setLiked((Boolean) userState.get("liked"));
-                us.setFavorited((Boolean) userState.get("favorited"));
-                us.setDownvoted((Boolean) userState.get("downvoted"));
-                dto.setUserState(us);
-                Boolean signedUp = (Boolean) userState.get("signed_up");
-                dto.setSignedUp(signedUp != null ? signedUp : false);
+                dto.setUserState(userState.toUserState());
+                dto.setSignedUp(userState.signedUp());
             }
         }
         
-        // 如果是 HOSTED 类型（sourceType=2），查询场次信息
-        Integer sourceType = (Integer) row.get("source_type");
+        // 如果是 HOSTED 类型（sourceType=2），填充场次信息
+        Integer sourceType = dto.getSourceType();
         if (sourceType != null && sourceType == 2) {
-            List<Map<String, Object>> sessionRows = activityQueryMapper.selectActivitySessions(activityId);
-            List<ActivitySessionDTO> sessions = sessionRows.stream()
-                .map(this::mapToActivitySession)
-                .collect(Collectors.toList());
-            dto.setSessions(sessions);
+            dto.setSessions(sessionsTask.get());
         }
         
         return dto;
@@ -140,10 +214,7 @@ public class ActivityQueryService {
      */
     @Transactional(readOnly = true)
     public List<ActivitySessionDTO> getActivitySessions(UUID activityId) {
-        List<Map<String, Object>> sessionRows = activityQueryMapper.selectActivitySessions(activityId);
-        return sessionRows.stream()
-            .map(this::mapToActivitySession)
-            .collect(Collectors.toList());
+        return activityQueryMapper.selectActivitySessions(activityId);
     }
     
     /**
@@ -207,124 +278,4 @@ public class ActivityQueryService {
             throw new BizException(400, "Invalid month format");
         }
     }
-    
-    // === 私有映射方法 ===
-    
-    private java.time.LocalDateTime toLocalDateTime(Object obj) {
-        if (obj == null) return null;
-        if (obj instanceof java.sql.Timestamp) {
-            return ((java.sql.Timestamp) obj).toLocalDateTime();
-        }
-        if (obj instanceof java.time.LocalDateTime) {
-            return (java.time.LocalDateTime) obj;
-        }
-        return null;
-    }
-
-    private ActivityListItemDTO mapToActivityListItem(Map<String, Object> row, Map<UUID, UserState> userStateMap, Map<UUID, Boolean> signedUpMap) {
-        ActivityListItemDTO dto = new ActivityListItemDTO();
-        dto.setId(UUID.fromString(row.get("id").toString()));
-        dto.setSourceType((Integer) row.get("source_type"));
-        dto.setTitle((String) row.get("title"));
-        dto.setCategory((Integer) row.get("category"));
-        dto.setTopic((String) row.get("topic"));
-        dto.setStartTime(toLocalDateTime(row.get("start_time")));
-        dto.setEndTime(toLocalDateTime(row.get("end_time")));
-        dto.setLocation((String) row.get("location"));
-        dto.setStatus((Integer) row.get("status"));
-        dto.setCreatedAt(toLocalDateTime(row.get("created_at")));
-        
-        // 海报（取第一张）- 正确解析JSONB
-        Object posterUrls = row.get("poster_urls");
-        if (posterUrls != null) {
-            try {
-                List<String> urls = objectMapper.readValue(posterUrls.toString(), new TypeReference<List<String>>() {});
-                if (!urls.isEmpty()) {
-                    dto.setPosterUrl(urls.get(0));
-                }
-            } catch (Exception e) {
-                log.warn("解析poster_urls失败: activityId={}, error={}", dto.getId(), e.getMessage());
-            }
-        }
-        
-        // 统计信息
-        dto.setSignupCount(row.get("signup_count") != null ? ((Number) row.get("signup_count")).intValue() : 0);
-        dto.setLikeCount(row.get("like_count") != null ? ((Number) row.get("like_count")).intValue() : 0);
-        dto.setFavCount(row.get("fav_count") != null ? ((Number) row.get("fav_count")).intValue() : 0);
-        dto.setCommentCount(row.get("comment_count") != null ? ((Number) row.get("comment_count")).intValue() : 0);
-        
-        // 用户状态
-        UserState userState = userStateMap.get(dto.getId());
-        if (userState != null) {
-            dto.setUserState(userState);
-        }
-        
-        // 报名状态（独立于用户状态）
-        dto.setSignedUp(signedUpMap.getOrDefault(dto.getId(), false));
-        
-        return dto;
-    }
-    
-    private ActivityDetailDTO mapToActivityDetail(Map<String, Object> row) {
-        ActivityDetailDTO dto = new ActivityDetailDTO();
-        dto.setId(UUID.fromString(row.get("id").toString()));
-        dto.setSourceType((Integer) row.get("source_type"));
-        dto.setTitle((String) row.get("title"));
-        dto.setCategory((Integer) row.get("category"));
-        dto.setTopic((String) row.get("topic"));
-        dto.setDescription((String) row.get("description"));
-        dto.setStartTime(toLocalDateTime(row.get("start_time")));
-        dto.setEndTime(toLocalDateTime(row.get("end_time")));
-        dto.setLocation((String) row.get("location"));
-        dto.setSignupPolicy((Integer) row.get("signup_policy"));
-        dto.setStatus((Integer) row.get("status"));
-        dto.setSourceUrl((String) row.get("source_url"));
-        dto.setCreatedAt(toLocalDateTime(row.get("created_at")));
-        dto.setUpdatedAt(toLocalDateTime(row.get("updated_at")));
-        
-        // 海报列表 - 正确解析JSONB
-        Object posterUrls = row.get("poster_urls");
-        if (posterUrls != null) {
-            try {
-                List<String> urls = objectMapper.readValue(posterUrls.toString(), new TypeReference<List<String>>() {});
-                dto.setPosterUrls(urls);
-            } catch (Exception e) {
-                log.warn("解析poster_urls失败: activityId={}, error={}", dto.getId(), e.getMessage());
-                dto.setPosterUrls(Collections.emptyList());
-            }
-        } else {
-            dto.setPosterUrls(Collections.emptyList());
-        }
-        
-        // 统计信息
-        dto.setSignupCount(row.get("signup_count") != null ? ((Number) row.get("signup_count")).intValue() : 0);
-        dto.setLikeCount(row.get("like_count") != null ? ((Number) row.get("like_count")).intValue() : 0);
-        dto.setFavCount(row.get("fav_count") != null ? ((Number) row.get("fav_count")).intValue() : 0);
-        dto.setCommentCount(row.get("comment_count") != null ? ((Number) row.get("comment_count")).intValue() : 0);
-        
-        // 计算阅读时间（基于描述长度，假设每分钟阅读200个字符）
-        String description = (String) row.get("description");
-        if (description != null && !description.isEmpty()) {
-            int readingTime = Math.max(1, (int) Math.ceil(description.length() / 200.0));
-            dto.setReadingTime(readingTime);
-        } else {
-            dto.setReadingTime(1); // 默认1分钟
-        }
-        
-        return dto;
-    }
-    
-    private ActivitySessionDTO mapToActivitySession(Map<String, Object> row) {
-        ActivitySessionDTO dto = new ActivitySessionDTO();
-        dto.setId(UUID.fromString(row.get("id").toString()));
-        dto.setActivityId(UUID.fromString(row.get("activity_id").toString()));
-        dto.setSessionName((String) row.get("session_name"));
-        dto.setStartTime(toLocalDateTime(row.get("start_time")));
-        dto.setEndTime(toLocalDateTime(row.get("end_time")));
-        dto.setLocation((String) row.get("location"));
-        dto.setCapacity((Integer) row.get("capacity"));
-        dto.setSignupCount(row.get("signup_count") != null ? ((Number) row.get("signup_count")).intValue() : 0);
-        dto.setStatus((Integer) row.get("status"));
-        return dto;
-    }
 }
@@ -1,94 +1,167 @@
 package com.youthloop.query.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
+import com.youthloop.common.cache.LocalTtlCache;
+import com.youthloop.common.cache.RedisCacheStore;
+import com.youthloop.common.exception.BizException;
 import com.youthloop.query.dto.CarbonMarketSnapshotDTO;
-import com.youthloop.query.dto.CarbonMarketTrendPointDTO;
 import com.youthloop.query.mapper.CarbonMarketQueryMapper;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
- * Reads the latest carbon market snapshot from the database.
+ * Serves the latest carbon market snapshot from memory.
+ *
+ * The data only changes when the sync job succeeds, which publishes {@link CacheRegions#CARBON_MARKET}
+ * after commit. Every instance then drops its in-process copy and the shared Redis copy; the next read
+ * loads once from the database and repopulates both. A cold instance reads Redis first and only falls
+ * back to the database when Redis has nothing. The in-process copy also expires after a max age, in case
+ * an invalidation message is lost.
+ * The market status depends on the current time, so it is resolved on read; the parsed snapshot is
+ * reused until the status changes.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class CarbonMarketSnapshotService {
 
     private static final String SOURCE_URL = "https://www.cneeex.com/zhhq/quotshown.html";
     private static final String SOURCE_NAME = "China Emissions Exchange";
     private static final ZoneId ASIA_SHANGHAI = ZoneId.of("Asia/Shanghai");
+    private static final int TREND_POINTS = 20;
+    private static final String CACHE_KEY = "carbon-market:snapshot";
 
     private final CarbonMarketQueryMapper carbonMarketQueryMapper;
+    private final RedisCacheStore redisCacheStore;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader snapshotReader;
+    private final boolean enabled;
+    private final Duration redisTtl;
+    private final LocalTtlCache<String, String> snapshotCache;
+
+    /**
+     * Last snapshot handed out, keyed by the cached JSON it was parsed from.
+     */
+    private volatile ResolvedSnapshot resolved;
+
+    public CarbonMarketSnapshotService(
+        CarbonMarketQueryMapper carbonMarketQueryMapper,
+        RedisCacheStore redisCacheStore,
+        ObjectMapper objectMapper,
+        CacheInvalidationBus cacheInvalidationBus,
+        @Value("${query.carbon-market-cache.enabled:true}") boolean enabled,
+        @Value("${query.carbon-market-cache.max-age-seconds:900}") long maxAgeSeconds,
+        @Value("${query.carbon-market-cache.redis-ttl-seconds:86400}") long redisTtlSeconds
+    ) {
+        this.carbonMarketQueryMapper = carbonMarketQueryMapper;
+        this.redisCacheStore = redisCacheStore;
+        this.objectMapper = objectMapper;
+        this.snapshotReader = objectMapper.readerFor(CarbonMarketSnapshotDTO.class);
+        this.enabled = enabled;
+        this.redisTtl = Duration.ofSeconds(Math.max(1, redisTtlSeconds));
+        this.snapshotCache = new LocalTtlCache<>(Duration.ofSeconds(Math.max(1, maxAgeSeconds)), 1);
+        cacheInvalidationBus.subscribe(CacheRegions.CARBON_MARKET, key -> evict());
+    }
 
-    @Transactional(readOnly = true)
+    /**
+     * Latest snapshot with the current market status. The returned object is shared and must not be modified.
+     */
     public CarbonMarketSnapshotDTO getSnapshot() {
-        Map<String, Object> latestRow = carbonMarketQueryMapper.selectLatestRealtimeSnapshot();
-        if (latestRow == null || latestRow.isEmpty()) {
-            return buildEmptySnapshot();
-        }
+        if (!enabled) {
+            CarbonMarketSnapshotDTO dto = loadFromDatabase();
+            dto.setMarketStatus(resolveMarketStatus(dto.getTradeDate(), dto.getQuoteTime()));
+            return dto;
+        }
+        String json = snapshotCache.get(CACHE_KEY, key -> loadJson());
+        ResolvedSnapshot current = resolved;
+        // Same cached string instance means the snapshot has not been reloaded since it was parsed
+        if (current != null && current.json() == json) {
+            String status = resolveMarketStatus(current.dto().getTradeDate(), current.dto().getQuoteTime());
+            if (status.equals(current.dto().getMarketStatus())) {
+                return current.dto();
+            }
+        }
+        CarbonMarketSnapshotDTO dto = parse(json);
+        dto.setMarketStatus(resolveMarketStatus(dto.getTradeDate(), dto.getQuoteTime()));
+        resolved = new ResolvedSnapshot(json, dto);
+        return dto;
+    }
 
-        List<Map<String, Object>> trendRows = carbonMarketQueryMapper.selectLatestDailyKlines(20);
+    // === Private helpers ===
 
-        CarbonMarketSnapshotDTO dto = new CarbonMarketSnapshotDTO();
+    private String loadJson() {
+        String cached = redisCacheStore.get(CACHE_KEY);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(loadFromDatabase());
+            redisCacheStore.put(CACHE_KEY, json, redisTtl);
+            // A sync that committed during this load may have deleted Redis before the put; undo it
+            if (snapshotCache.isLoadStale(CACHE_KEY)) {
+                redisCacheStore.delete(List.of(CACHE_KEY));
+            }
+            return json;
+        } catch (IOException e) {
+            throw new BizException(ErrorCode.SYSTEM_ERROR, "碳市场行情序列化失败");
+        }
+    }
+
+    /**
+     * Snapshot without market status, as stored in the caches.
+     */
+    private CarbonMarketSnapshotDTO loadFromDatabase() {
+        CarbonMarketSnapshotDTO dto = carbonMarketQueryMapper.selectLatestRealtimeSnapshot();
+        if (dto == null) {
+            return buildEmptySnapshot();
+        }
         dto.setSourceUrl(SOURCE_URL);
         dto.setSourceName(SOURCE_NAME);
-        dto.setTradeDate(toLocalDate(latestRow.get("trade_date")));
-        dto.setQuoteTime(toLocalTime(latestRow.get("quote_time")));
-        dto.setMarketStatus(resolveMarketStatus(dto.getTradeDate(), dto.getQuoteTime()));
-        dto.setClosingPrice(toBigDecimal(latestRow.get("last_price")));
-        dto.setClosingChangePercent(toBigDecimal(latestRow.get("change_percent")));
-        dto.setPreviousClosePrice(toBigDecimal(latestRow.get("previous_close_price")));
-        dto.setOpenPrice(toBigDecimal(latestRow.get("open_price")));
-        dto.setHighPrice(toBigDecimal(latestRow.get("high_price")));
-        dto.setLowPrice(toBigDecimal(latestRow.get("low_price")));
         dto.setPriceUp(dto.getClosingChangePercent() != null ? dto.getClosingChangePercent().signum() >= 0 : null);
-        dto.setDailyVolume(toLong(latestRow.get("daily_volume_tons")));
-        dto.setDailyTurnover(toBigDecimal(latestRow.get("daily_turnover_cny")));
-        dto.setCumulativeVolume(toLong(latestRow.get("cumulative_volume_tons")));
-        dto.setCumulativeTurnover(toBigDecimal(latestRow.get("cumulative_turnover_cny")));
-        dto.setDailyVolumeText((String) latestRow.get("daily_volume_text"));
-        dto.setDailyTurnoverText((String) latestRow.get("daily_turnover_text"));
-        dto.setCumulativeVolumeText((String) latestRow.get("cumulative_volume_text"));
-        dto.setCumulativeTurnoverText((String) latestRow.get("cumulative_turnover_text"));
-        dto.setSyncedAt(toLocalDateTime(latestRow.get("synced_at")));
-        dto.setTrendPoints(trendRows.stream()
-            .map(this::toTrendPoint)
-            .sorted(Comparator.comparing(CarbonMarketTrendPointDTO::getTradeDate))
-            .collect(Collectors.toList()));
+        dto.setTrendPoints(carbonMarketQueryMapper.selectLatestDailyKlines(TREND_POINTS));
         return dto;
     }
 
+    private CarbonMarketSnapshotDTO parse(String json) {
+        try {
+            return snapshotReader.readValue(json);
+        } catch (IOException e) {
+            evict();
+            throw new BizException(ErrorCode.SYSTEM_ERROR, "碳市场行情缓存读取失败");
+        }
+    }
+
+    private void evict() {
+        snapshotCache.invalidateAll();
+        redisCacheStore.delete(List.of(CACHE_KEY));
+        log.debug("Carbon market snapshot cache evicted");
+    }
+
     private CarbonMarketSnapshotDTO buildEmptySnapshot() {
         CarbonMarketSnapshotDTO dto = new CarbonMarketSnapshotDTO();
         dto.setSourceUrl(SOURCE_URL);
         dto.setSourceName(SOURCE_NAME);
-        dto.setMarketStatus("UNAVAILABLE");
         dto.setTrendPoints(List.of());
         return dto;
     }
 
-    private CarbonMarketTrendPointDTO toTrendPoint(Map<String, Object> row) {
-        CarbonMarketTrendPointDTO point = new CarbonMarketTrendPointDTO();
-        point.setTradeDate(toLocalDate(row.get("trade_date")));
-        point.setPreviousClosePrice(null);
-        point.setClosingPrice(toBigDecimal(row.get("close_price")));
-        point.setLowPrice(toBigDecimal(row.get("low_price")));
-        point.setHighPrice(toBigDecimal(row.get("high_price")));
-        point.setVolume(toLong(row.get("volume_tons")));
-        return point;
-    }
-
     private String resolveMarketStatus(LocalDate tradeDate, LocalTime quoteTime) {
+        if (tradeDate == null && quoteTime == null) {
+            // Nothing synced yet
+            return "UNAVAILABLE";
+        }
+
         LocalDate nowDate = LocalDate.now(ASIA_SHANGHAI);
         LocalTime nowTime = LocalTime.now(ASIA_SHANGHAI);
 
@@ -111,53 +184,6 @@ public class CarbonMarketSnapshotService {
         return "CLOSED";
     }
 
-    private LocalDate toLocalDate(Object value) {
-        if (value instanceof java.sql.Date date) {
-            return date.toLocalDate();
-        }
-        if (value instanceof LocalDate localDate) {
-            return localDate;
-        }
-        return null;
-    }
-
-    private LocalTime toLocalTime(Object value) {
-        if (value instanceof java.sql.Time time) {
-            return time.toLocalTime();
-        }
-        if (value instanceof LocalTime localTime) {
-            return localTime;
-        }
-        return null;
-    }
-
-    private LocalDateTime toLocalDateTime(Object value) {
-        if (value instanceof java.sql.Timestamp timestamp) {
-            return timestamp.toLocalDateTime();
-        }
-        if (value instanceof LocalDateTime localDateTime) {
-            return localDateTime;
-        }
-        if (value instanceof java.time.OffsetDateTime offsetDateTime) {
-            return offsetDateTime.toLocalDateTime();
-        }
-        return null;
-    }
-
-    private BigDecimal toBigDecimal(Object value) {
-        if (value instanceof BigDecimal decimal) {
-            return decimal;
-        }
-        if (value instanceof Number number) {
-            return BigDecimal.valueOf(number.doubleValue());
-        }
-        return null;
-    }
-
-    private Long toLong(Object value) {
-        if (value instanceof Number number) {
-            return number.longValue();
-        }
-        return null;
+    private record ResolvedSnapshot(String json, CarbonMarketSnapshotDTO dto) {
     }
 }
@@ -1,6 +1,10 @@
 package com.youthloop.query.service;
 
+import com.youthloop.common.api.PageCursor;
 import com.youthloop.common.api.PageResponse;
+import com.youthloop.common.api.TotalCount;
+import com.youthloop.common.cache.CacheRegions;
+import com.youthloop.common.persistence.TotalCountService;
 import com.youthloop.query.dto.CommentDTO;
 import com.youthloop.query.dto.CommentTreeDTO;
 import com.youthloop.query.mapper.CommentQueryMapper;
@@ -9,8 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -20,109 +24,167 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class CommentQueryService {
-    
+
+    private static final String COUNT_ROOT_COMMENTS = CommentQueryMapper.class.getName() + ".countRootComments";
+
+    /**
+     * 每个根评论随评论树返回的最新回复数，更多回复通过 repliesNextCursor 分页查询
+     */
+    private static final int REPLY_PREVIEW_SIZE = 3;
+
+    /**
+     * 回复游标的排序名
+     */
+    private static final String REPLY_SORT = "reply";
+
     private final CommentQueryMapper commentQueryMapper;
-    
+    private final TotalCountService totalCountService;
+    private final CommentTreeCache commentTreeCache;
+
     /**
      * 查询评论树
-     * 
+     *
+     * 根评论按页码或游标分页（cursor 非 null 时为游标模式，空串为第一页，不返回 total），
+     * 每个根评论附带最新的几条回复；第一页从 {@link CommentTreeCache} 读取。
+     *
      * @param targetType 目标类型：1=内容 2=活动
      * @param targetId 目标 ID
      * @param sort 排序：latest=最新 hot=热门
      * @param page 页码
      * @param size 每页数量
+     * @param cursor 游标
      * @return 评论树（根评论分页 + 每个根评论的回复）
      */
     @Transactional(readOnly = true)
-    public CommentTreeDTO getCommentTree(Integer targetType, UUID targetId, String sort, Integer page, Integer size) {
+    public CommentTreeDTO getCommentTree(
+        Integer targetType,
+        UUID targetId,
+        String sort,
+        Integer page,
+        Integer size,
+        String cursor
+    ) {
         // 参数校验
-        sort = sort != null ? sort : "latest";
-        page = Math.max(1, page != null ? page : 1);
-        size = Math.min(50, Math.max(1, size != null ? size : 10));
-        int offset = (page - 1) * size;
-        
+        String treeSort = "hot".equals(sort) ? "hot" : "latest";
+        int treePage = Math.max(1, page != null ? page : 1);
+        int treeSize = Math.min(50, Math.max(1, size != null ? size : 10));
+
+        if (cursor != null) {
+            PageCursor position = PageCursor.decode(cursor, treeSort);
+            if (position == null) {
+                return commentTreeCache.getFirstPage(targetType, targetId, treeSort, treeSize, true,
+                    () -> loadCursorPage(targetType, targetId, treeSort, null, treeSize));
+            }
+            return loadCursorPage(targetType, targetId, treeSort, position, treeSize);
+        }
+        if (treePage == 1) {
+            return commentTreeCache.getFirstPage(targetType, targetId, treeSort, treeSize, false,
+                () -> loadPage(targetType, targetId, treeSort, 1, treeSize));
+        }
+        return loadPage(targetType, targetId, treeSort, treePage, treeSize);
+    }
+
+    /**
+     * 分页查询根评论下的回复（游标分页，最新在前）
+     *
+     * @param rootId 根评论 ID
+     * @param size 每页数量
+     * @param cursor 游标（来自 repliesNextCursor 或上一页的 nextCursor），为空时从最新一条开始
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<CommentDTO> getCommentReplies(UUID rootId, Integer size, String cursor) {
+        int replySize = Math.min(50, Math.max(1, size != null ? size : 10));
+        List<CommentDTO> rows = commentQueryMapper.selectReplies(
+            rootId,
+            PageCursor.decode(cursor, REPLY_SORT),
+            replySize + 1
+        );
+        return PageResponse.ofCursor(rows, replySize, Function.identity(), this::toReplyCursor);
+    }
+
+    // === 私有方法 ===
+
+    private CommentTreeDTO loadPage(Integer targetType, UUID targetId, String sort, int page, int size) {
         // 查询根评论总数
-        Long total = commentQueryMapper.countRootComments(targetType, targetId);
-        
+        TotalCount total = totalCountService.count(
+            CacheRegions.COMMENT_LIST,
+            CacheRegions.targetKey(targetType, targetId),
+            COUNT_ROOT_COMMENTS,
+            TotalCountService.params("targetType", targetType, "targetId", targetId),
+            () -> commentQueryMapper.countRootComments(targetType, targetId)
+        );
+
+        List<CommentDTO> rootComments = total.total() == 0
+            ? Collections.emptyList()
+            : commentQueryMapper.selectRootComments(targetType, targetId, sort, null, (page - 1) * size, size);
+        fillReplyPreviews(rootComments);
+
         CommentTreeDTO result = new CommentTreeDTO();
         result.setSort(sort);
-        
-        if (total == 0) {
-            result.setRootComments(PageResponse.of(Collections.emptyList(), total, page, size));
-            return result;
-        }
-        
-        // 查询根评论列表
-        List<Map<String, Object>> rootRows = commentQueryMapper.selectRootComments(
-            targetType, targetId, sort, offset, size
+        result.setRootComments(PageResponse.of(rootComments, total, page, size));
+        return result;
+    }
+
+    private CommentTreeDTO loadCursorPage(
+        Integer targetType,
+        UUID targetId,
+        String sort,
+        PageCursor cursor,
+        int size
+    ) {
+        List<CommentDTO> rows = commentQueryMapper.selectRootComments(targetType, targetId, sort, cursor, 0, size + 1);
+        PageResponse<CommentDTO> rootComments = PageResponse.ofCursor(
+            rows,
+            size,
+            Function.identity(),
+            root -> toRootCursor(sort, root)
         );
-        
-        if (rootRows.isEmpty()) {
-            result.setRootComments(PageResponse.of(Collections.emptyList(), total, page, size));
-            return result;
+        fillReplyPreviews(rootComments.getItems());
+
+        CommentTreeDTO result = new CommentTreeDTO();
+        result.setSort(sort);
+        result.setRootComments(rootComments);
+        return result;
+    }
+
+    /**
+     * 批量查询每个根评论的最新回复（多取一条判断是否还有更多回复）
+     */
+    private void fillReplyPreviews(List<CommentDTO> rootComments) {
+        if (rootComments.isEmpty()) {
+            return;
         }
-        
-        // 转换为 DTO
-        List<CommentDTO> rootComments = rootRows.stream()
-            .map(this::mapToCommentDTO)
-            .collect(Collectors.toList());
-        
-        // 批量查询回复（每个根评论最多返回 3 条最新回复）
         List<UUID> rootIds = rootComments.stream()
             .map(CommentDTO::getId)
             .collect(Collectors.toList());
-        
-        List<Map<String, Object>> replyRows = commentQueryMapper.selectRepliesByRootIds(rootIds, 3);
-        
+
         // 按 root_id 分组
-        Map<UUID, List<CommentDTO>> repliesMap = replyRows.stream()
-            .map(this::mapToCommentDTO)
+        Map<UUID, List<CommentDTO>> repliesMap = commentQueryMapper
+            .selectReplyPreviews(rootIds, REPLY_PREVIEW_SIZE + 1).stream()
             .collect(Collectors.groupingBy(CommentDTO::getRootId));
-        
+
         // 填充回复到根评论
         rootComments.forEach(root -> {
-            List<CommentDTO> replies = repliesMap.get(root.getId());
-            root.setReplies(replies != null ? replies : Collections.emptyList());
+            List<CommentDTO> replies = repliesMap.getOrDefault(root.getId(), Collections.emptyList());
+            if (replies.size() > REPLY_PREVIEW_SIZE) {
+                replies = List.copyOf(replies.subList(0, REPLY_PREVIEW_SIZE));
+                root.setRepliesNextCursor(toReplyCursor(replies.get(REPLY_PREVIEW_SIZE - 1)).encode());
+            }
+            root.setReplies(replies);
         });
-        
-        result.setRootComments(PageResponse.of(rootComments, total, page, size));
-        return result;
-    }
-    
-    private java.time.LocalDateTime toLocalDateTime(Object obj) {
-        if (obj == null) return null;
-        if (obj instanceof java.sql.Timestamp) {
-            return ((java.sql.Timestamp) obj).toLocalDateTime();
-        }
-        if (obj instanceof java.time.LocalDateTime) {
-            return (java.time.LocalDateTime) obj;
-        }
-        return null;
     }
 
     /**
-     * 映射到评论 DTO
+     * 根评论的游标位置，须与 selectRootComments 的 ORDER BY 一致
      */
-    private CommentDTO mapToCommentDTO(Map<String, Object> row) {
-        CommentDTO dto = new CommentDTO();
-        dto.setId((UUID) row.get("id"));
-        dto.setTargetType((Integer) row.get("target_type"));
-        dto.setTargetId((UUID) row.get("target_id"));
-        dto.setUserId((UUID) row.get("user_id"));
-        dto.setUserNickname((String) row.get("user_nickname"));
-        dto.setUserAvatar((String) row.get("user_avatar"));
-        dto.setParentId((UUID) row.get("parent_id"));
-        dto.setRootId((UUID) row.get("root_id"));
-        dto.setDepth((Integer) row.get("depth"));
-        dto.setBody((String) row.get("body"));
-        dto.setStatus((Integer) row.get("status"));
-        dto.setCreatedAt(toLocalDateTime(row.get("created_at")));
-        dto.setUpdatedAt(toLocalDateTime(row.get("updated_at")));
-        
-        // 统计信息（安全转换）
-        dto.setLikeCount(row.get("like_count") != null ? ((Number) row.get("like_count")).intValue() : 0);
-        dto.setReplyCount(row.get("reply_count") != null ? ((Number) row.get("reply_count")).intValue() : 0);
-        
-        return dto;
+    private PageCursor toRootCursor(String sort, CommentDTO root) {
+        if ("hot".equals(sort)) {
+            return PageCursor.ofScore(sort, root.getHotScore(), root.getId());
+        }
+        return PageCursor.ofTime(sort, root.getCreatedAt(), root.getId());
+    }
+
+    private PageCursor toReplyCursor(CommentDTO reply) {
+        return PageCursor.ofTime(REPLY_SORT, reply.getCreatedAt(), reply.getId());
     }
 }
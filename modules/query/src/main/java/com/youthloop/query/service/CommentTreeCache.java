@@ -0,0 +1,74 @@
+package com.youthloop.query.service;
+
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
+import com.youthloop.common.cache.LocalTtlCache;
+import com.youthloop.query.dto.CommentTreeDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 评论树首页缓存
+ *
+ * 热门帖子的评论区绝大多数请求都落在第一页，且评论树不含用户相关字段，可以在所有请求间共享。
+ * 这里按 (目标, 排序, 每页数量, 分页模式) 缓存第一页；评论创建 / 删除（COMMENT_CREATED / COMMENT_DELETED）
+ * 提交后发布 {@link CacheRegions#COMMENT_LIST}（key 为目标），各实例丢弃该目标的全部首页。
+ * 点赞数与热度的变化不触发失效，依靠较短的 TTL 收敛。
+ * 缓存的对象在调用方之间共享，只读。
+ */
+@Component
+public class CommentTreeCache {
+
+    private final boolean enabled;
+    private final LocalTtlCache<FirstPageKey, CommentTreeDTO> cache;
+
+    public CommentTreeCache(
+        CacheInvalidationBus cacheInvalidationBus,
+        @Value("${query.comment-tree-cache.enabled:true}") boolean enabled,
+        @Value("${query.comment-tree-cache.ttl-seconds:30}") long ttlSeconds,
+        @Value("${query.comment-tree-cache.max-entries:2000}") int maxEntries
+    ) {
+        this.enabled = enabled;
+        this.cache = new LocalTtlCache<>(Duration.ofSeconds(Math.max(1, ttlSeconds)), maxEntries);
+        cacheInvalidationBus.subscribe(CacheRegions.COMMENT_LIST, this::evict);
+    }
+
+    /**
+     * 读取目标评论树的第一页，未命中时由 loader 查询
+     *
+     * @param cursorMode 游标模式（不含 total）与页码模式的第一页分别缓存
+     */
+    public CommentTreeDTO getFirstPage(
+        Integer targetType,
+        Object targetId,
+        String sort,
+        int size,
+        boolean cursorMode,
+        Supplier<CommentTreeDTO> loader
+    ) {
+        if (!enabled) {
+            return loader.get();
+        }
+        FirstPageKey key = new FirstPageKey(CacheRegions.targetKey(targetType, targetId), sort, size, cursorMode);
+        return cache.get(key, ignored -> loader.get());
+    }
+
+    // === 私有方法 ===
+
+    /**
+     * @param targetKey {@link CacheRegions#targetKey}，null 时清空全部
+     */
+    private void evict(String targetKey) {
+        if (targetKey == null) {
+            cache.invalidateAll();
+            return;
+        }
+        cache.invalidateIf(key -> key.targetKey().equals(targetKey));
+    }
+
+    private record FirstPageKey(String targetKey, String sort, int size, boolean cursorMode) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.youthloop.query.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.youthloop.common.api.ErrorCode;
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
+import com.youthloop.common.cache.LocalTtlCache;
+import com.youthloop.common.cache.RedisCacheStore;
+import com.youthloop.common.exception.BizException;
+import com.youthloop.query.dto.ContentDetailDTO;
+import com.youthloop.query.mapper.ContentQueryMapper;
+import com.youthloop.query.mapper.row.ContentStatsRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Two-tier cache for content detail.
+ *
+ * The locale-resolved body and metadata rarely change after ingestion, so they are cached as JSON
+ * in process (L1) and in Redis (L2, shared by all API instances and surviving restarts).
+ * Counters change on every like and view; they come from a separate short-lived stats cache and are
+ * overlaid on a fresh copy of the detail, so counter updates never evict the heavy body.
+ * Content writes publish {@link CacheRegions#CONTENT_DETAIL} with the content ID; every instance drops
+ * its L1 entries and the Redis entries for all locales.
+ */
+@Slf4j
+@Component
+public class ContentDetailCache {
+
+    /**
+     * Locales the query services resolve to; an invalidation drops every one of them.
+     */
+    private static final List<String> LOCALES = List.of("zh", "en");
+
+    /**
+     * L1 value for a missing content ID, so repeated lookups of an unknown ID stay off the database.
+     */
+    private static final String MISSING = "";
+
+    private final ContentQueryMapper contentQueryMapper;
+    private final RedisCacheStore redisCacheStore;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader detailReader;
+    private final boolean enabled;
+    private final Duration redisTtl;
+    private final LocalTtlCache<DetailKey, String> detailCache;
+    private final LocalTtlCache<UUID, ContentStatsRow> statsCache;
+
+    public ContentDetailCache(
+        ContentQueryMapper contentQueryMapper,
+        RedisCacheStore redisCacheStore,
+        ObjectMapper objectMapper,
+        CacheInvalidationBus cacheInvalidationBus,
+        @Value("${query.content-detail-cache.enabled:true}") boolean enabled,
+        @Value("${query.content-detail-cache.ttl-seconds:300}") long ttlSeconds,
+        @Value("${query.content-detail-cache.redis-ttl-seconds:3600}") long redisTtlSeconds,
+        @Value("${query.content-detail-cache.max-entries:1000}") int maxEntries,
+        @Value("${query.content-detail-cache.stats-ttl-seconds:5}") long statsTtlSeconds
+    ) {
+        this.contentQueryMapper = contentQueryMapper;
+        this.redisCacheStore = redisCacheStore;
+        this.objectMapper = objectMapper;
+        this.detailReader = objectMapper.readerFor(ContentDetailDTO.class);
+        this.enabled = enabled;
+        this.redisTtl = Duration.ofSeconds(Math.max(1, redisTtlSeconds));
+        this.detailCache = new LocalTtlCache<>(Duration.ofSeconds(Math.max(1, ttlSeconds)), maxEntries);
+        this.statsCache = new LocalTtlCache<>(Duration.ofSeconds(Math.max(0, statsTtlSeconds)), maxEntries * 4);
+        cacheInvalidationBus.subscribe(CacheRegions.CONTENT_DETAIL, this::evict);
+    }
+
+    /**
+     * Returns a fresh copy of the locale-resolved detail without counters or user state,
+     * or null when the content does not exist.
+     */
+    public ContentDetailDTO getDetail(UUID contentId, String locale) {
+        if (!enabled) {
+            return contentQueryMapper.selectContentDetail(contentId, locale);
+        }
+        String json = detailCache.get(new DetailKey(contentId, locale), this::loadDetail);
+        if (MISSING.equals(json)) {
+            return null;
+        }
+        try {
+            return detailReader.readValue(json);
+        } catch (IOException e) {
+            evict(contentId.toString());
+            throw new BizException(ErrorCode.SYSTEM_ERROR, "内容详情缓存读取失败");
+        }
+    }
+
+    /**
+     * Counters of a content, cached for a few seconds only.
+     */
+    public ContentStatsRow getStats(UUID contentId) {
+        if (!enabled) {
+            return loadStats(contentId);
+        }
+        return statsCache.get(contentId, this::loadStats);
+    }
+
+    // === Private helpers ===
+
+    private String loadDetail(DetailKey key) {
+        String redisKey = redisKey(key.contentId(), key.locale());
+        String cached = redisCacheStore.get(redisKey);
+        if (cached != null) {
+            return cached;
+        }
+        ContentDetailDTO dto = contentQueryMapper.selectContentDetail(key.contentId(), key.locale());
+        if (dto == null) {
+            return MISSING;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(dto);
+            redisCacheStore.put(redisKey, json, redisTtl);
+            // An invalidation that raced with this load may have deleted Redis before the put; undo it
+            if (detailCache.isLoadStale(key)) {
+                redisCacheStore.delete(List.of(redisKey));
+            }
+            return json;
+        } catch (IOException e) {
+            throw new BizException(ErrorCode.SYSTEM_ERROR, "内容详情序列化失败");
+        }
+    }
+
+    private ContentStatsRow loadStats(UUID contentId) {
+        return Objects.requireNonNullElse(contentQueryMapper.selectContentStats(contentId), ContentStatsRow.EMPTY);
+    }
+
+    /**
+     * @param key content ID, or null to drop every L1 entry (Redis entries then expire by TTL)
+     */
+    private void evict(String key) {
+        if (key == null) {
+            detailCache.invalidateAll();
+            statsCache.invalidateAll();
+            return;
+        }
+        UUID contentId = UUID.fromString(key);
+        detailCache.invalidateIf(cacheKey -> cacheKey.contentId().equals(contentId));
+        statsCache.invalidate(contentId);
+        redisCacheStore.delete(LOCALES.stream().map(locale -> redisKey(contentId, locale)).toList());
+    }
+
+    private String redisKey(UUID contentId, String locale) {
+        return "content:detail:" + contentId + ":" + locale;
+    }
+
+    private record DetailKey(UUID contentId, String locale) {
+    }
+}
@@ -1,11 +1,18 @@
 package com.youthloop.query.service;
 
+import com.youthloop.common.api.PageCursor;
 import com.youthloop.common.api.PageResponse;
+import com.youthloop.common.api.TotalCount;
+import com.youthloop.common.cache.CacheRegions;
+import com.youthloop.common.concurrent.FanOutExecutor;
+import com.youthloop.common.persistence.TotalCountService;
 import com.youthloop.common.util.SecurityUtil;
 import com.youthloop.query.dto.ContentDetailDTO;
 import com.youthloop.query.dto.ContentListItemDTO;
 import com.youthloop.query.dto.UserState;
 import com.youthloop.query.mapper.ContentQueryMapper;
+import com.youthloop.query.mapper.row.ContentStatsRow;
+import com.youthloop.query.mapper.row.ReactionStateRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.i18n.LocaleContextHolder;
@@ -18,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,8 +36,19 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ContentQueryService {
 
-    private final ContentQueryMapper contentQueryMapper;
+    private static final String COUNT_CONTENT_LIST = ContentQueryMapper.class.getName() + ".countContentList";
 
+    private final ContentQueryMapper contentQueryMapper;
+    private final ContentDetailCache contentDetailCache;
+    private final UserInteractionCache userInteractionCache;
+    private final FanOutExecutor fanOutExecutor;
+    private final TotalCountService totalCountService;
+
+    /**
+     * Lists content in page mode, or in cursor mode when {@code cursor} is non-null
+     * (an empty cursor requests the first page). Cursor mode seeks past the previous page's
+     * last (sort key, id) instead of counting and skipping rows, and returns no total.
+     */
     @Transactional(readOnly = true)
     public PageResponse<ContentListItemDTO> getContentList(
         Integer type,
@@ -37,84 +56,122 @@ public class ContentQueryService {
         Integer status,
         String sort,
         Integer page,
-        Integer size
+        Integer size,
+        String cursor
     ) {
         status = status != null ? status : 1;
-        sort = sort != null ? sort : "latest";
+        sort = "hot".equals(sort) ? "hot" : "latest";
         page = Math.max(1, page != null ? page : 1);
         size = Math.min(100, Math.max(1, size != null ? size : 20));
         List<String> sourceKeys = parseSourceKeys(sourceKey);
         String locale = resolveLocale();
-        int offset = (page - 1) * size;
 
-        Long total = contentQueryMapper.countContentList(type, sourceKeys, status);
-        if (total == 0) {
+        if (cursor != null) {
+            String cursorSort = sort;
+            List<ContentListItemDTO> rows = contentQueryMapper.selectContentListWithStats(
+                type,
+                sourceKeys,
+                status,
+                sort,
+                locale,
+                PageCursor.decode(cursor, sort),
+                0,
+                size + 1
+            );
+            PageResponse<ContentListItemDTO> response = PageResponse.ofCursor(
+                rows,
+                size,
+                Function.identity(),
+                item -> toCursor(cursorSort, item)
+            );
+            enrichWithUserState(response.getItems());
+            return response;
+        }
+
+        int offset = (page - 1) * size;
+        Integer countStatus = status;
+        TotalCount total = totalCountService.count(
+            CacheRegions.CONTENT_LIST,
+            null,
+            COUNT_CONTENT_LIST,
+            TotalCountService.params("type", type, "sourceKeys", sourceKeys, "status", status),
+            () -> contentQueryMapper.countContentList(type, sourceKeys, countStatus)
+        );
+        if (total.total() == 0) {
             return PageResponse.of(Collections.emptyList(), total, page, size);
         }
 
-        List<Map<String, Object>> rows = contentQueryMapper.selectContentListWithStats(
+        List<ContentListItemDTO> items = contentQueryMapper.selectContentListWithStats(
             type,
             sourceKeys,
             status,
             sort,
             locale,
+            null,
             offset,
             size
         );
-        if (rows.isEmpty()) {
-            return PageResponse.of(Collections.emptyList(), total, page, size);
-        }
-
-        List<ContentListItemDTO> items = rows.stream()
-            .map(this::mapToContentListItem)
-            .collect(Collectors.toList());
-
-        UUID currentUserId = SecurityUtil.getCurrentUserIdOptional();
-        if (currentUserId != null) {
-            enrichWithUserState(items, currentUserId);
-        }
+        enrichWithUserState(items);
 
         return PageResponse.of(items, total, page, size);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Detail body, counters and the viewer's reactions are independent, so they are fetched concurrently
+     * (outside a transaction, each on its own connection). Body and counters come from
+     * {@link ContentDetailCache}; cache hits finish without touching the database.
+     */
     public ContentDetailDTO getContentDetail(UUID contentId) {
-        Map<String, Object> row = contentQueryMapper.selectContentDetailWithStats(contentId, resolveLocale());
-        if (row == null) {
-            return null;
-        }
-
-        ContentDetailDTO dto = mapToContentDetail(row);
+        String locale = resolveLocale();
         UUID currentUserId = SecurityUtil.getCurrentUserIdOptional();
-        if (currentUserId != null) {
-            List<Map<String, Object>> reactions = contentQueryMapper.selectUserReactionsForContents(
-                currentUserId,
-                Collections.singletonList(contentId)
+        try (FanOutExecutor.FanOut fanOut = fanOutExecutor.open("content-detail")) {
+            FanOutExecutor.Task<ContentDetailDTO> detail = fanOut.fork(
+                () -> contentDetailCache.getDetail(contentId, locale)
             );
-            dto.setUserState(reactions.isEmpty() ? UserState.empty() : buildUserState(reactions.get(0)));
+            FanOutExecutor.Task<ContentStatsRow> stats = fanOut.fork(() -> contentDetailCache.getStats(contentId));
+            FanOutExecutor.Task<Map<UUID, UserState>> userStates = currentUserId == null ? null : fanOut.fork(
+                () -> loadUserStates(currentUserId, List.of(contentId))
+            );
+
+            ContentDetailDTO dto = detail.get();
+            if (dto == null) {
+                return null;
+            }
+            stats.get().applyTo(dto);
+            if (userStates != null) {
+                dto.setUserState(userStates.get().getOrDefault(contentId, UserState.empty()));
+            }
+            return dto;
         }
-        return dto;
     }
 
-    private void enrichWithUserState(List<ContentListItemDTO> items, UUID userId) {
+    private void enrichWithUserState(List<ContentListItemDTO> items) {
+        UUID userId = SecurityUtil.getCurrentUserIdOptional();
+        if (userId == null || items.isEmpty()) {
+            return;
+        }
         List<UUID> contentIds = items.stream()
             .map(ContentListItemDTO::getId)
             .collect(Collectors.toList());
 
-        List<Map<String, Object>> reactions = contentQueryMapper.selectUserReactionsForContents(userId, contentIds);
-        Map<UUID, UserState> stateMap = reactions.stream().collect(Collectors.toMap(
-            row -> (UUID) row.get("content_id"),
-            this::buildUserState
-        ));
-
+        Map<UUID, UserState> stateMap = loadUserStates(userId, contentIds);
         items.forEach(item -> item.setUserState(stateMap.getOrDefault(item.getId(), UserState.empty())));
     }
 
-    private UserState buildUserState(Map<String, Object> row) {
-        Boolean liked = (Boolean) row.getOrDefault("liked", false);
-        Boolean favorited = (Boolean) row.getOrDefault("favorited", false);
-        Boolean downvoted = (Boolean) row.getOrDefault("downvoted", false);
-        return new UserState(liked, favorited, downvoted);
+    /**
+     * The viewer's reactions to the given contents: set membership against {@link UserInteractionCache},
+     * or a batch query when the user's interactions are not cached.
+     */
+    private Map<UUID, UserState> loadUserStates(UUID userId, List<UUID> contentIds) {
+        UserInteractions interactions = userInteractionCache.get(userId);
+        if (interactions != null) {
+            return contentIds.stream().distinct().collect(Collectors.toMap(
+                Function.identity(),
+                id -> interactions.stateOf(UserInteractions.TARGET_CONTENT, id)
+            ));
+        }
+        return contentQueryMapper.selectUserReactionsForContents(userId, contentIds).stream()
+            .collect(Collectors.toMap(ReactionStateRow::targetId, ReactionStateRow::toUserState));
     }
 
     private List<String> parseSourceKeys(String sourceKey) {
@@ -134,59 +191,14 @@ public class ContentQueryService {
         return List.copyOf(unique);
     }
 
-    private java.time.LocalDateTime toLocalDateTime(Object obj) {
-        if (obj == null) {
-            return null;
-        }
-        if (obj instanceof java.sql.Timestamp timestamp) {
-            return timestamp.toLocalDateTime();
-        }
-        if (obj instanceof java.time.LocalDateTime localDateTime) {
-            return localDateTime;
+    /**
+     * Cursor position of a list item; must match the ORDER BY of selectContentListWithStats.
+     */
+    private PageCursor toCursor(String sort, ContentListItemDTO item) {
+        if ("hot".equals(sort)) {
+            return PageCursor.ofScore(sort, item.getHotScore(), item.getId());
         }
-        return null;
-    }
-
-    private ContentListItemDTO mapToContentListItem(Map<String, Object> row) {
-        ContentListItemDTO dto = new ContentListItemDTO();
-        dto.setId((UUID) row.get("id"));
-        dto.setType((Integer) row.get("type"));
-        dto.setTitle((String) row.get("title"));
-        dto.setSummary((String) row.get("summary"));
-        dto.setCoverUrl((String) row.get("cover_url"));
-        dto.setSourceUrl((String) row.get("source_url"));
-        dto.setPublishedAt(toLocalDateTime(row.get("published_at")));
-        dto.setStatus((Integer) row.get("status"));
-        dto.setCreatedAt(toLocalDateTime(row.get("created_at")));
-        dto.setLikeCount(row.get("like_count") != null ? ((Number) row.get("like_count")).intValue() : 0);
-        dto.setFavCount(row.get("fav_count") != null ? ((Number) row.get("fav_count")).intValue() : 0);
-        dto.setCommentCount(row.get("comment_count") != null ? ((Number) row.get("comment_count")).intValue() : 0);
-        dto.setViewCount(row.get("view_count") != null ? ((Number) row.get("view_count")).longValue() : 0L);
-        dto.setHotScore(row.get("hot_score") != null ? ((Number) row.get("hot_score")).longValue() : 0L);
-        return dto;
-    }
-
-    private ContentDetailDTO mapToContentDetail(Map<String, Object> row) {
-        ContentDetailDTO dto = new ContentDetailDTO();
-        dto.setId((UUID) row.get("id"));
-        dto.setType((Integer) row.get("type"));
-        dto.setTitle((String) row.get("title"));
-        dto.setSummary((String) row.get("summary"));
-        dto.setCoverUrl((String) row.get("cover_url"));
-        dto.setBody((String) row.get("body"));
-        dto.setSourceType((Integer) row.get("source_type"));
-        dto.setSourceUrl((String) row.get("source_url"));
-        dto.setPublishedAt(toLocalDateTime(row.get("published_at")));
-        dto.setStatus((Integer) row.get("status"));
-        dto.setCreatedAt(toLocalDateTime(row.get("created_at")));
-        dto.setUpdatedAt(toLocalDateTime(row.get("updated_at")));
-        dto.setLikeCount(row.get("like_count") != null ? ((Number) row.get("like_count")).intValue() : 0);
-        dto.setFavCount(row.get("fav_count") != null ? ((Number) row.get("fav_count")).intValue() : 0);
-        dto.setDownCount(row.get("down_count") != null ? ((Number) row.get("down_count")).intValue() : 0);
-        dto.setCommentCount(row.get("comment_count") != null ? ((Number) row.get("comment_count")).intValue() : 0);
-        dto.setViewCount(row.get("view_count") != null ? ((Number) row.get("view_count")).longValue() : 0L);
-        dto.setHotScore(row.get("hot_score") != null ? ((Number) row.get("hot_score")).longValue() : 0L);
-        return dto;
+        return PageCursor.ofTime(sort, item.getCreatedAt(), item.getId());
     }
 
     private String resolveLocale() {
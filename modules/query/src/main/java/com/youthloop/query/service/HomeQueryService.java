@@ -1,5 +1,9 @@
 package com.youthloop.query.service;
 
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
+import com.youthloop.common.cache.LocalTtlCache;
+import com.youthloop.common.concurrent.FanOutExecutor;
 import com.youthloop.query.dto.ActivityListItemDTO;
 import com.youthloop.query.dto.CarbonMarketSnapshotDTO;
 import com.youthloop.query.dto.ContentListItemDTO;
@@ -7,123 +11,93 @@ import com.youthloop.query.dto.HomeBannerDTO;
 import com.youthloop.query.dto.HomeDTO;
 import com.youthloop.query.mapper.ContentQueryMapper;
 import com.youthloop.query.mapper.HomeQueryMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * Homepage aggregate query service.
+ *
+ * The aggregate is identical for every visitor of a locale, so its lists are cached per locale with a
+ * short TTL and shared by every hit; concurrent misses share a single rebuild. Content and banner writes
+ * invalidate it through {@link CacheInvalidationBus}. The carbon market snapshot has its own cache and a
+ * time-dependent status, so it is attached on each read instead of being cached here.
+ * A rebuild runs its three independent reads concurrently through {@link FanOutExecutor}.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class HomeQueryService {
 
     private final HomeQueryMapper homeQueryMapper;
     private final ContentQueryMapper contentQueryMapper;
     private final CarbonMarketSnapshotService carbonMarketSnapshotService;
+    private final FanOutExecutor fanOutExecutor;
+    private final boolean cacheEnabled;
+    private final LocalTtlCache<String, HomeDTO> homeCache;
+
+    public HomeQueryService(
+        HomeQueryMapper homeQueryMapper,
+        ContentQueryMapper contentQueryMapper,
+        CarbonMarketSnapshotService carbonMarketSnapshotService,
+        FanOutExecutor fanOutExecutor,
+        CacheInvalidationBus cacheInvalidationBus,
+        @Value("${query.home-cache.enabled:true}") boolean cacheEnabled,
+        @Value("${query.home-cache.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.homeQueryMapper = homeQueryMapper;
+        this.contentQueryMapper = contentQueryMapper;
+        this.carbonMarketSnapshotService = carbonMarketSnapshotService;
+        this.fanOutExecutor = fanOutExecutor;
+        this.cacheEnabled = cacheEnabled;
+        this.homeCache = new LocalTtlCache<>(Duration.ofSeconds(Math.max(1, ttlSeconds)), 8);
+        cacheInvalidationBus.subscribe(CacheRegions.HOME, key -> homeCache.invalidateAll());
+    }
 
-    @Transactional(readOnly = true)
+    /**
+     * Cache hits do not open a transaction or touch the connection pool. The lists and their items are
+     * shared between requests and must not be modified.
+     */
     public HomeDTO getHomeData() {
+        String locale = resolveLocale();
+        HomeDTO lists = cacheEnabled ? homeCache.get(locale, this::loadHomeLists) : loadHomeLists(locale);
         HomeDTO dto = new HomeDTO();
-
-        List<Map<String, Object>> bannerRows = homeQueryMapper.selectActiveBanners();
-        dto.setBanners(bannerRows.stream()
-            .map(this::mapToHomeBannerDTO)
-            .collect(Collectors.toList()));
-
-        List<Map<String, Object>> contentRows = contentQueryMapper.selectLatestContents(resolveLocale(), 10);
-        dto.setLatestContents(contentRows.stream()
-            .map(this::mapToContentListItem)
-            .collect(Collectors.toList()));
-
-        List<Map<String, Object>> activityRows = homeQueryMapper.selectLatestActivities(5);
-        dto.setLatestActivities(activityRows.stream()
-            .map(this::mapToActivityListItem)
-            .collect(Collectors.toList()));
-
+        dto.setBanners(lists.getBanners());
+        dto.setLatestContents(lists.getLatestContents());
+        dto.setLatestActivities(lists.getLatestActivities());
         dto.setMarketSnapshot(carbonMarketSnapshotService.getSnapshot());
         return dto;
     }
 
-    @Transactional(readOnly = true)
-    public CarbonMarketSnapshotDTO getCarbonMarketSnapshot() {
-        return carbonMarketSnapshotService.getSnapshot();
-    }
-
-    private LocalDateTime toLocalDateTime(Object obj) {
-        if (obj == null) {
-            return null;
+    /**
+     * Homepage lists without the market snapshot, as stored in the cache.
+     */
+    private HomeDTO loadHomeLists(String locale) {
+        try (FanOutExecutor.FanOut fanOut = fanOutExecutor.open("home")) {
+            FanOutExecutor.Task<List<HomeBannerDTO>> banners = fanOut.fork(homeQueryMapper::selectActiveBanners);
+            FanOutExecutor.Task<List<ContentListItemDTO>> latestContents = fanOut.fork(
+                () -> contentQueryMapper.selectLatestContents(locale, 10)
+            );
+            FanOutExecutor.Task<List<ActivityListItemDTO>> latestActivities = fanOut.fork(
+                () -> homeQueryMapper.selectLatestActivities(5)
+            );
+
+            HomeDTO dto = new HomeDTO();
+            dto.setBanners(List.copyOf(banners.get()));
+            dto.setLatestContents(List.copyOf(latestContents.get()));
+            dto.setLatestActivities(List.copyOf(latestActivities.get()));
+            return dto;
         }
-        if (obj instanceof java.sql.Timestamp timestamp) {
-            return timestamp.toLocalDateTime();
-        }
-        if (obj instanceof LocalDateTime localDateTime) {
-            return localDateTime;
-        }
-        return null;
     }
 
-    private HomeBannerDTO mapToHomeBannerDTO(Map<String, Object> row) {
-        HomeBannerDTO dto = new HomeBannerDTO();
-        dto.setId((UUID) row.get("id"));
-        dto.setTitle((String) row.get("title"));
-        dto.setImageUrl((String) row.get("image_url"));
-        dto.setLinkUrl((String) row.get("link_url"));
-        dto.setSortOrder((Integer) row.get("sort_order"));
-        dto.setStartAt(toLocalDateTime(row.get("start_at")));
-        dto.setEndAt(toLocalDateTime(row.get("end_at")));
-        return dto;
-    }
-
-    private ContentListItemDTO mapToContentListItem(Map<String, Object> row) {
-        ContentListItemDTO dto = new ContentListItemDTO();
-        dto.setId((UUID) row.get("id"));
-        dto.setType((Integer) row.get("type"));
-        dto.setTitle((String) row.get("title"));
-        dto.setSummary((String) row.get("summary"));
-        dto.setCoverUrl((String) row.get("cover_url"));
-        dto.setPublishedAt(toLocalDateTime(row.get("published_at")));
-        dto.setStatus((Integer) row.get("status"));
-        dto.setCreatedAt(toLocalDateTime(row.get("created_at")));
-        dto.setLikeCount(row.get("like_count") != null ? ((Number) row.get("like_count")).intValue() : 0);
-        dto.setFavCount(row.get("fav_count") != null ? ((Number) row.get("fav_count")).intValue() : 0);
-        dto.setCommentCount(row.get("comment_count") != null ? ((Number) row.get("comment_count")).intValue() : 0);
-        dto.setHotScore(row.get("hot_score") != null ? ((Number) row.get("hot_score")).longValue() : 0L);
-        return dto;
-    }
-
-    private ActivityListItemDTO mapToActivityListItem(Map<String, Object> row) {
-        ActivityListItemDTO dto = new ActivityListItemDTO();
-        dto.setId((UUID) row.get("id"));
-        dto.setSourceType((Integer) row.get("source_type"));
-        dto.setTitle((String) row.get("title"));
-        dto.setCategory((Integer) row.get("category"));
-        dto.setTopic((String) row.get("topic"));
-        dto.setStartTime(toLocalDateTime(row.get("start_time")));
-        dto.setEndTime(toLocalDateTime(row.get("end_time")));
-        dto.setLocation((String) row.get("location"));
-
-        Object posterUrls = row.get("poster_urls");
-        if (posterUrls != null) {
-            dto.setPosterUrl(posterUrls.toString());
-        }
-
-        dto.setStatus((Integer) row.get("status"));
-        dto.setCreatedAt(toLocalDateTime(row.get("created_at")));
-        dto.setSignupCount(row.get("signup_count") != null ? ((Number) row.get("signup_count")).intValue() : 0);
-        dto.setLikeCount(row.get("like_count") != null ? ((Number) row.get("like_count")).intValue() : 0);
-        dto.setFavCount(row.get("fav_count") != null ? ((Number) row.get("fav_count")).intValue() : 0);
-        dto.setCommentCount(row.get("comment_count") != null ? ((Number) row.get("comment_count")).intValue() : 0);
-        return dto;
+    /**
+     * Served from memory; a miss reads through without a surrounding transaction.
+     */
+    public CarbonMarketSnapshotDTO getCarbonMarketSnapshot() {
+        return carbonMarketSnapshotService.getSnapshot();
     }
 
     private String resolveLocale() {
@@ -0,0 +1,112 @@
+package com.youthloop.query.service;
+
+import com.youthloop.common.cache.CacheInvalidationBus;
+import com.youthloop.common.cache.CacheRegions;
+import com.youthloop.common.cache.LocalTtlCache;
+import com.youthloop.query.mapper.MeQueryMapper;
+import com.youthloop.query.mapper.row.UserReactionRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 用户互动状态缓存
+ *
+ * 登录用户浏览列表时，每一页都要查询一次对这些目标的点赞/收藏/踩与报名状态。
+ * 这里按用户缓存其全部反应与已报名活动的集合（首次访问时加载），之后每页只做集合成员判断。
+ * 反应增删经 {@link CacheRegions#USER_INTERACTION} 广播单条变化，各实例就地更新已缓存的集合；
+ * 报名变化按用户整体失效，下次访问时重新加载。
+ * 各用户的集合大小差异很大，除用户数外还按全部用户的目标总数（max-total-targets）限制内存。
+ */
+@Slf4j
+@Component
+public class UserInteractionCache {
+
+    private final MeQueryMapper meQueryMapper;
+    private final boolean enabled;
+    private final int maxTargets;
+    private final LocalTtlCache<UUID, UserInteractions> cache;
+
+    public UserInteractionCache(
+        MeQueryMapper meQueryMapper,
+        CacheInvalidationBus cacheInvalidationBus,
+        @Value("${query.interaction-cache.enabled:true}") boolean enabled,
+        @Value("${query.interaction-cache.ttl-seconds:600}") long ttlSeconds,
+        @Value("${query.interaction-cache.max-entries:10000}") int maxEntries,
+        @Value("${query.interaction-cache.max-targets:5000}") int maxTargets,
+        @Value("${query.interaction-cache.max-total-targets:500000}") long maxTotalTargets
+    ) {
+        this.meQueryMapper = meQueryMapper;
+        this.enabled = enabled;
+        this.maxTargets = Math.max(1, maxTargets);
+        // 权重 = 目标数 + 1，超出上限的用户（OVERFLOW）也占一个单位
+        this.cache = new LocalTtlCache<>(
+            Duration.ofSeconds(Math.max(1, ttlSeconds)),
+            maxEntries,
+            interactions -> interactions.size() + 1,
+            maxTotalTargets
+        );
+        cacheInvalidationBus.subscribe(CacheRegions.USER_INTERACTION, this::onChange);
+    }
+
+    /**
+     * 用户的互动状态集合
+     *
+     * @return 未启用或用户的反应/报名数超过上限时为 null，调用方按页查询数据库
+     */
+    public UserInteractions get(UUID userId) {
+        if (!enabled) {
+            return null;
+        }
+        UserInteractions interactions = cache.get(userId, this::load);
+        return interactions.isComplete() ? interactions : null;
+    }
+
+    // === 私有方法 ===
+
+    private UserInteractions load(UUID userId) {
+        // 多取一行判断是否超过上限
+        List<UserReactionRow> reactions = meQueryMapper.selectUserReactionTargets(userId, maxTargets + 1);
+        if (reactions.size() > maxTargets) {
+            return UserInteractions.OVERFLOW;
+        }
+        List<UUID> signedUp = meQueryMapper.selectSignedUpActivityIds(userId, maxTargets + 1);
+        if (reactions.size() + signedUp.size() > maxTargets) {
+            return UserInteractions.OVERFLOW;
+        }
+        return UserInteractions.of(reactions, signedUp);
+    }
+
+    /**
+     * @param key 用户 ID（整体失效）、{@link CacheRegions#reactionChangeKey} 或 null（全部失效）
+     */
+    private void onChange(String key) {
+        if (key == null) {
+            cache.invalidateAll();
+            return;
+        }
+        String[] parts = key.split(":");
+        try {
+            UUID userId = UUID.fromString(parts[0]);
+            if (parts.length != 5) {
+                cache.invalidate(userId);
+                return;
+            }
+            int targetType = Integer.parseInt(parts[1]);
+            UUID targetId = UUID.fromString(parts[2]);
+            int reactionType = Integer.parseInt(parts[3]);
+            boolean added = "+".equals(parts[4]);
+            cache.update(userId, current -> {
+                UserInteractions updated = current.withReaction(targetType, targetId, reactionType, added);
+                return updated.size() > maxTargets ? UserInteractions.OVERFLOW : updated;
+            });
+        } catch (IllegalArgumentException e) {
+            log.warn("无法解析互动状态变化，清空缓存: key={}", key);
+            cache.invalidateAll();
+        }
+    }
+}
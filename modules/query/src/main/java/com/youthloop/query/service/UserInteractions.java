@@ -0,0 +1,94 @@
+package com.youthloop.query.service;
+
+import com.youthloop.query.dto.UserState;
+import com.youthloop.query.mapper.row.UserReactionRow;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 用户互动状态快照（不可变）
+ *
+ * 用户反应过的 (目标类型, 目标 ID, 反应类型) 集合与已报名的活动 ID 集合，列表页的点赞/收藏/踩/已报名标记
+ * 直接按集合成员判断；单条反应变化时复制出新快照，不修改旧快照
+ */
+public final class UserInteractions {
+
+    public static final int TARGET_CONTENT = 1;
+    public static final int TARGET_ACTIVITY = 2;
+
+    private static final int REACTION_LIKE = 1;
+    private static final int REACTION_FAV = 2;
+    private static final int REACTION_DOWN = 3;
+
+    /**
+     * 反应或报名数超过上限的用户不缓存集合，调用方回退到按页查询
+     */
+    static final UserInteractions OVERFLOW = new UserInteractions(Set.of(), Set.of(), false);
+
+    private final Set<Reaction> reactions;
+    private final Set<UUID> signedUpActivityIds;
+    private final boolean complete;
+
+    private UserInteractions(Set<Reaction> reactions, Set<UUID> signedUpActivityIds, boolean complete) {
+        this.reactions = reactions;
+        this.signedUpActivityIds = signedUpActivityIds;
+        this.complete = complete;
+    }
+
+    static UserInteractions of(List<UserReactionRow> reactionRows, List<UUID> signedUpActivityIds) {
+        Set<Reaction> reactions = new HashSet<>(reactionRows.size() * 2);
+        for (UserReactionRow row : reactionRows) {
+            reactions.add(new Reaction(row.targetType(), row.targetId(), row.reactionType()));
+        }
+        return new UserInteractions(Set.copyOf(reactions), Set.copyOf(signedUpActivityIds), true);
+    }
+
+    /**
+     * 是否持有完整集合；为 false 时成员判断没有意义
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public UserState stateOf(int targetType, UUID targetId) {
+        return new UserState(
+            reactions.contains(new Reaction(targetType, targetId, REACTION_LIKE)),
+            reactions.contains(new Reaction(targetType, targetId, REACTION_FAV)),
+            reactions.contains(new Reaction(targetType, targetId, REACTION_DOWN))
+        );
+    }
+
+    public boolean isSignedUp(UUID activityId) {
+        return signedUpActivityIds.contains(activityId);
+    }
+
+    /**
+     * 应用一条反应的新增或删除，返回新快照
+     */
+    UserInteractions withReaction(int targetType, UUID targetId, int reactionType, boolean added) {
+        if (!complete) {
+            return this;
+        }
+        Reaction reaction = new Reaction(targetType, targetId, reactionType);
+        if (reactions.contains(reaction) == added) {
+            return this;
+        }
+        Set<Reaction> updated = new HashSet<>(reactions);
+        if (added) {
+            updated.add(reaction);
+        } else {
+            updated.remove(reaction);
+        }
+        return new UserInteractions(Set.copyOf(updated), signedUpActivityIds, true);
+    }
+
+    int size() {
+        return reactions.size() + signedUpActivityIds.size();
+    }
+
+    private record Reaction(int targetType, UUID targetId, int reactionType) {
+    }
+}
@@ -0,0 +1,305 @@
+package com.youthloop.query.mapper;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.youthloop.query.dto.ActivityListItemDTO;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.postgresql.util.PGobject;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 活动列表行映射的分配与耗时对比（手动运行，不属于单元测试）
+ *
+ * 对比 resultType="map" + 服务层逐字段转换（含 poster_urls 的 Jackson 解析）与 activityListItemMap 直接映射 DTO。
+ * 两条路径都走 MyBatis 的 DefaultResultSetHandler，数据来自内存中的合成 ResultSet，
+ * 驱动侧的解码与网络开销不计入；合成 ResultSet 的代理调用开销两边都有。
+ *
+ * 运行：mvn -pl modules/query -am test-compile 后，以 test classpath 执行本类的 main，
+ * 可选参数：行数（默认 20）、轮数（默认 200000）。
+ */
+public class RowMappingAllocationBenchmark {
+
+    private static final String[] MAP_COLUMNS = {
+        "id", "source_type", "title", "category", "topic", "start_time", "end_time", "location",
+        "poster_urls", "status", "created_at", "signup_count", "like_count", "fav_count", "comment_count", "hot_score"
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+
+        Configuration configuration = new Configuration();
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeHandlerRegistry().register("com.youthloop.common.persistence");
+        parse(configuration, "mapper/KeysetSql.xml");
+        parse(configuration, "mapper/ActivityQueryMapper.xml");
+
+        MappedStatement dtoStatement = configuration.getMappedStatement(
+            ActivityQueryMapper.class.getName() + ".selectActivityList");
+        MappedStatement mapStatement = mapStatement(configuration);
+
+        List<Object[]> mapRows = new ArrayList<>();
+        List<Object[]> dtoRows = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Object[][] row = row(i);
+            mapRows.add(row[0]);
+            dtoRows.add(row[1]);
+        }
+
+        Runnable mapPath = () -> convert(handle(mapStatement, MAP_COLUMNS, mapRows));
+        Runnable dtoPath = () -> handle(dtoStatement, dtoColumns(), dtoRows);
+        Runnable floor = () -> drain(MAP_COLUMNS, mapRows);
+
+        // 预热，让两条路径都完成 JIT
+        for (int i = 0; i < Math.max(1, rounds / 4); i++) {
+            mapPath.run();
+            dtoPath.run();
+            floor.run();
+        }
+        report("synthetic ResultSet only", floor, rounds, rows);
+        report("map + manual conversion", mapPath, rounds, rows);
+        report("resultMap -> DTO", dtoPath, rounds, rows);
+    }
+
+    // === 两条映射路径 ===
+
+    private static List<Object> handle(MappedStatement statement, String[] columns, List<Object[]> rows) {
+        try {
+            DefaultResultSetHandler handler = new DefaultResultSetHandler(
+                null, statement, null, null, statement.getBoundSql(null), RowBounds.DEFAULT);
+            return handler.handleResultSets(statement(columns, rows));
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 只逐列读取合成 ResultSet，作为两条路径共有的开销基线
+     */
+    private static void drain(String[] columns, List<Object[]> rows) {
+        try (ResultSet resultSet = statement(columns, rows).getResultSet()) {
+            while (resultSet.next()) {
+                for (String column : columns) {
+                    resultSet.getObject(column);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 原 ActivityQueryService.mapToActivityListItem 的转换逻辑
+     */
+    @SuppressWarnings("unchecked")
+    private static List<ActivityListItemDTO> convert(List<Object> rows) {
+        List<ActivityListItemDTO> result = new ArrayList<>(rows.size());
+        for (Object item : rows) {
+            Map<String, Object> row = (Map<String, Object>) item;
+            ActivityListItemDTO dto = new ActivityListItemDTO();
+            dto.setId(UUID.fromString(row.get("id").toString()));
+            dto.setSourceType((Integer) row.get("source_type"));
+            dto.setTitle((String) row.get("title"));
+            dto.setCategory((Integer) row.get("category"));
+            dto.setTopic((String) row.get("topic"));
+            dto.setStartTime(toLocalDateTime(row.get("start_time")));
+            dto.setEndTime(toLocalDateTime(row.get("end_time")));
+            dto.setLocation((String) row.get("location"));
+            dto.setStatus((Integer) row.get("status"));
+            dto.setCreatedAt(toLocalDateTime(row.get("created_at")));
+            Object posterUrls = row.get("poster_urls");
+            if (posterUrls != null) {
+                try {
+                    List<String> urls = OBJECT_MAPPER.readValue(posterUrls.toString(), new TypeReference<List<String>>() {});
+                    if (!urls.isEmpty()) {
+                        dto.setPosterUrl(urls.get(0));
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            dto.setSignupCount(row.get("signup_count") != null ? ((Number) row.get("signup_count")).intValue() : 0);
+            dto.setLikeCount(row.get("like_count") != null ? ((Number) row.get("like_count")).intValue() : 0);
+            dto.setFavCount(row.get("fav_count") != null ? ((Number) row.get("fav_count")).intValue() : 0);
+            dto.setCommentCount(row.get("comment_count") != null ? ((Number) row.get("comment_count")).intValue() : 0);
+            dto.setHotScore(row.get("hot_score") != null ? ((Number) row.get("hot_score")).longValue() : 0L);
+            result.add(dto);
+        }
+        return result;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object obj) {
+        if (obj instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return obj instanceof LocalDateTime localDateTime ? localDateTime : null;
+    }
+
+    // === 测量 ===
+
+    private static void report(String name, Runnable path, int rounds, int rows) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            path.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        long mappedRows = (long) rounds * rows;
+        System.out.printf("%-26s %8.0f B/row %8.1f ns/row%n", name, (double) bytes / mappedRows, (double) elapsed / mappedRows);
+    }
+
+    // === 合成数据 ===
+
+    private static void parse(Configuration configuration, String resource) throws Exception {
+        try (InputStream in = Resources.getResourceAsStream(resource)) {
+            new XMLMapperBuilder(in, configuration, resource, configuration.getSqlFragments()).parse();
+        }
+    }
+
+    private static MappedStatement mapStatement(Configuration configuration) {
+        ResultMap inline = new ResultMap.Builder(configuration, "bench.mapRows-Inline", Map.class, new ArrayList<>()).build();
+        return new MappedStatement.Builder(configuration, "bench.mapRows",
+            new StaticSqlSource(configuration, "SELECT 1"), SqlCommandType.SELECT)
+            .resultMaps(List.of(inline))
+            .build();
+    }
+
+    private static String[] dtoColumns() {
+        String[] columns = MAP_COLUMNS.clone();
+        columns[8] = "poster_url";
+        return columns;
+    }
+
+    /**
+     * 同一行的两种形态：map 路径拿到整段 poster_urls（jsonb），DTO 路径只拿第一张
+     */
+    private static Object[][] row(int i) throws SQLException {
+        String first = "https://cdn.example.com/activity/" + i + "/poster-1.jpg";
+        PGobject posters = new PGobject();
+        posters.setType("jsonb");
+        posters.setValue("[\"" + first + "\", \"https://cdn.example.com/activity/" + i + "/poster-2.jpg\"]");
+        Timestamp time = Timestamp.valueOf(LocalDateTime.of(2026, 5, 1, 9, 30).plusHours(i));
+        Object[] values = {
+            UUID.randomUUID(), 1, "周末河岸清洁活动 " + i, 2, "环保", time, time, "滨江公园",
+            posters, 1, time, (long) i, 12 + i, 3, 5, 1000L + i
+        };
+        Object[] dtoValues = values.clone();
+        dtoValues[8] = first;
+        return new Object[][] {values, dtoValues};
+    }
+
+    private static Statement statement(String[] columns, List<Object[]> rows) {
+        ResultSet resultSet = resultSet(columns, rows);
+        DatabaseMetaData databaseMetaData = proxy(DatabaseMetaData.class, (name, args) ->
+            "supportsMultipleResultSets".equals(name) ? Boolean.FALSE : null);
+        Connection connection = proxy(Connection.class, (name, args) ->
+            "getMetaData".equals(name) ? databaseMetaData : null);
+        return proxy(Statement.class, (name, args) -> switch (name) {
+            case "getResultSet" -> resultSet;
+            case "getConnection" -> connection;
+            case "getUpdateCount" -> -1;
+            case "getMoreResults" -> Boolean.FALSE;
+            default -> null;
+        });
+    }
+
+    private static ResultSet resultSet(String[] columns, List<Object[]> rows) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            index.put(columns[i], i);
+        }
+        Object[] sample = rows.get(0);
+        ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (name, args) -> switch (name) {
+            case "getColumnCount" -> columns.length;
+            case "getColumnLabel", "getColumnName" -> columns[(Integer) args[0] - 1];
+            case "getColumnClassName" -> sample[(Integer) args[0] - 1].getClass().getName();
+            case "getColumnType" -> jdbcType(sample[(Integer) args[0] - 1]);
+            default -> null;
+        });
+        int[] cursor = {-1};
+        Object[] last = {null};
+        return proxy(ResultSet.class, (name, args) -> {
+            switch (name) {
+                case "next":
+                    return ++cursor[0] < rows.size();
+                case "getMetaData":
+                    return metaData;
+                case "getType":
+                    return ResultSet.TYPE_FORWARD_ONLY;
+                case "wasNull":
+                    return last[0] == null;
+                case "isClosed":
+                    return Boolean.FALSE;
+                case "close":
+                    return null;
+                default:
+                    break;
+            }
+            Object value = rows.get(cursor[0])[args[0] instanceof String column ? index.get(column) : (Integer) args[0] - 1];
+            last[0] = value;
+            return switch (name) {
+                case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+                case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+                case "getString" -> value == null ? null : value.toString();
+                default -> value;
+            };
+        });
+    }
+
+    private static int jdbcType(Object value) {
+        if (value instanceof Integer) {
+            return Types.INTEGER;
+        }
+        if (value instanceof Long) {
+            return Types.BIGINT;
+        }
+        if (value instanceof Timestamp) {
+            return Types.TIMESTAMP;
+        }
+        if (value instanceof String) {
+            return Types.VARCHAR;
+        }
+        return Types.OTHER;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Answer answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (target, method, args) -> answer.answer(method.getName(), args));
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+        Object answer(String method, Object[] args) throws Exception;
+    }
+}
@@ -0,0 +1,114 @@
+package com.youthloop.recommendation.application.service;
+
+import com.youthloop.recommendation.domain.HotScoreFormula;
+import com.youthloop.recommendation.persistence.entity.HotScoreRuleEntity;
+import com.youthloop.recommendation.persistence.mapper.HotScoreMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 热度计算服务
+ * 
+ * 热度随时间衰减，因此需要两类刷新：
+ * 1. 增量：统计在上次刷新之后有变化的目标（updated_at 走索引）立即按当前规则重算
+ * 2. 衰减：定期按批重算当前热度最高的 Top-N（排名靠前的目标分数必须及时衰减，靠后的只会更低），
+ *    并逐批补算不是由当前启用规则计算的目标（规则切换、历史数据）
+ * 计算全部在 SQL 中完成，每批一条 UPDATE
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HotScoreService {
+    
+    private static final int[] TARGET_TYPES = {
+        HotScoreFormula.TARGET_CONTENT, HotScoreFormula.TARGET_ACTIVITY, HotScoreFormula.TARGET_COMMENT
+    };
+    
+    private final HotScoreMapper hotScoreMapper;
+    
+    /**
+     * 重算统计在 since 之后有变化的目标
+     * 
+     * @return 重算的目标数
+     */
+    public int refreshTouched(LocalDateTime since) {
+        Map<Integer, HotScoreFormula> formulas = loadFormulas();
+        int total = 0;
+        for (int targetType : TARGET_TYPES) {
+            total += refresh(targetType, formulas.get(targetType), since, null);
+        }
+        if (total > 0) {
+            log.debug("增量热度重算完成: since={}, targets={}", since, total);
+        }
+        return total;
+    }
+    
+    /**
+     * 衰减 Top-N 并补算过期规则的目标
+     * 
+     * @param topN 每种目标重算热度最高的前 N 个
+     * @param batchSize 每条 UPDATE 的目标数
+     * @param staleLimit 每种目标本轮最多补算的数量
+     * @return 重算的目标数
+     */
+    public int redecay(int topN, int batchSize, int staleLimit) {
+        Map<Integer, HotScoreFormula> formulas = loadFormulas();
+        int total = 0;
+        for (int targetType : TARGET_TYPES) {
+            HotScoreFormula formula = formulas.get(targetType);
+            // 先取 ID 快照再分批更新，避免边更新边按分数翻页导致遗漏
+            List<UUID> top = toUuids(hotScoreMapper.selectTopIds(targetType, topN));
+            total += refreshInBatches(targetType, formula, top, batchSize);
+            if (staleLimit > 0) {
+                List<UUID> stale = toUuids(hotScoreMapper.selectStaleIds(targetType, formula.getRuleId(), staleLimit));
+                total += refreshInBatches(targetType, formula, stale, batchSize);
+            }
+        }
+        log.info("热度衰减重算完成: targets={}", total);
+        return total;
+    }
+    
+    // === 私有方法 ===
+    
+    /**
+     * 每种目标类型取版本最高的启用规则，没有规则时使用默认参数
+     */
+    private Map<Integer, HotScoreFormula> loadFormulas() {
+        Map<Integer, HotScoreFormula> formulas = new HashMap<>();
+        for (HotScoreRuleEntity rule : hotScoreMapper.selectActiveRules()) {
+            formulas.putIfAbsent(rule.getTargetType(), HotScoreFormula.from(rule.getId(), rule.getFormulaJson()));
+        }
+        for (int targetType : TARGET_TYPES) {
+            formulas.computeIfAbsent(targetType, key -> HotScoreFormula.from(null, null));
+        }
+        return formulas;
+    }
+    
+    private int refreshInBatches(int targetType, HotScoreFormula formula, List<UUID> ids, int batchSize) {
+        int total = 0;
+        int size = Math.max(1, batchSize);
+        for (int from = 0; from < ids.size(); from += size) {
+            total += refresh(targetType, formula, null, ids.subList(from, Math.min(ids.size(), from + size)));
+        }
+        return total;
+    }
+    
+    private int refresh(int targetType, HotScoreFormula formula, LocalDateTime since, List<UUID> ids) {
+        return switch (targetType) {
+            case HotScoreFormula.TARGET_CONTENT -> hotScoreMapper.refreshContentScores(formula, since, ids);
+            case HotScoreFormula.TARGET_ACTIVITY -> hotScoreMapper.refreshActivityScores(formula, since, ids);
+            default -> hotScoreMapper.refreshCommentScores(formula, since, ids);
+        };
+    }
+    
+    private List<UUID> toUuids(List<String> ids) {
+        return ids.stream().map(UUID::fromString).toList();
+    }
+}
@@ -111,9 +111,9 @@ public class RecommendationGenerationService {
         String sql = """
             SELECT c.id, c.title
             FROM social.content c
-            LEFT JOIN social.content_stats s ON c.id = s.content_id
+            JOIN social.content_stats s ON c.id = s.content_id
             WHERE c.status = 1
-            ORDER BY COALESCE(s.hot_score, 0) DESC, c.published_at DESC
+            ORDER BY s.hot_score DESC, c.published_at DESC
             LIMIT ?
             """;
         
@@ -127,10 +127,10 @@ public class RecommendationGenerationService {
         String sql = """
             SELECT a.id, a.title
             FROM social.activity a
-            LEFT JOIN social.activity_stats s ON a.id = s.activity_id
+            JOIN social.activity_stats s ON a.id = s.activity_id
             WHERE a.status = 1
               AND a.start_time > NOW()
-            ORDER BY COALESCE(s.hot_score, 0) DESC, a.start_time ASC
+            ORDER BY s.hot_score DESC, a.start_time ASC
             LIMIT ?
             """;
         
@@ -0,0 +1,61 @@
+package com.youthloop.recommendation.domain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * 热度公式（重力衰减）
+ * 
+ * score = scale * max(0, base + likeWeight * like + favWeight * fav + commentWeight * comment
+ *                        + viewWeight * ln(1 + view) + downWeight * down) / (ageHours + offsetHours) ^ gravity
+ * 
+ * 参数来自 hot_score_rule.formula_json，缺省字段使用下面的默认值；计算在 SQL 中完成
+ */
+@Data
+public class HotScoreFormula {
+    
+    /**
+     * 目标类型：1=内容 2=活动 3=评论
+     */
+    public static final int TARGET_CONTENT = 1;
+    public static final int TARGET_ACTIVITY = 2;
+    public static final int TARGET_COMMENT = 3;
+    
+    /**
+     * 规则 ID（写入 hot_rule_id；为空表示没有启用的规则，使用默认参数）
+     */
+    private UUID ruleId;
+    private double likeWeight = 1;
+    private double favWeight = 2;
+    private double commentWeight = 3;
+    private double viewWeight = 0.5;
+    private double downWeight = -1;
+    private double base = 1;
+    private double gravity = 1.5;
+    private double offsetHours = 2;
+    private double scale = 1_000_000;
+    
+    /**
+     * 从规则 JSON 解析
+     */
+    public static HotScoreFormula from(UUID ruleId, JsonNode formula) {
+        HotScoreFormula result = new HotScoreFormula();
+        result.setRuleId(ruleId);
+        if (formula == null || !formula.isObject()) {
+            return result;
+        }
+        result.setLikeWeight(formula.path("likeWeight").asDouble(result.getLikeWeight()));
+        result.setFavWeight(formula.path("favWeight").asDouble(result.getFavWeight()));
+        result.setCommentWeight(formula.path("commentWeight").asDouble(result.getCommentWeight()));
+        result.setViewWeight(formula.path("viewWeight").asDouble(result.getViewWeight()));
+        result.setDownWeight(formula.path("downWeight").asDouble(result.getDownWeight()));
+        result.setBase(formula.path("base").asDouble(result.getBase()));
+        // 重力必须为正，偏移至少 1 小时，避免新发布内容分母趋近 0
+        result.setGravity(Math.max(0.1, formula.path("gravity").asDouble(result.getGravity())));
+        result.setOffsetHours(Math.max(1, formula.path("offsetHours").asDouble(result.getOffsetHours())));
+        result.setScale(Math.max(1, formula.path("scale").asDouble(result.getScale())));
+        return result;
+    }
+}
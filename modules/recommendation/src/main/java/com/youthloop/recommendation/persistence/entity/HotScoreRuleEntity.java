@@ -0,0 +1,24 @@
+package com.youthloop.recommendation.persistence.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 热度规则实体
+ */
+@Data
+public class HotScoreRuleEntity {
+    private UUID id;
+    /**
+     * 目标类型：1=内容 2=活动 3=评论
+     */
+    private Integer targetType;
+    private String name;
+    private Integer version;
+    private JsonNode formulaJson;
+    private Boolean isActive;
+    private LocalDateTime updatedAt;
+}
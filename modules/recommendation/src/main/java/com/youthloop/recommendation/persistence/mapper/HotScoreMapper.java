@@ -0,0 +1,56 @@
+package com.youthloop.recommendation.persistence.mapper;
+
+import com.youthloop.recommendation.domain.HotScoreFormula;
+import com.youthloop.recommendation.persistence.entity.HotScoreRuleEntity;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 热度计算 Mapper
+ * 
+ * 刷新语句二选一限定范围：since（统计在此之后有变化的目标）或 ids（指定目标）
+ */
+@Mapper
+public interface HotScoreMapper {
+    
+    /**
+     * 查询启用的规则（同一目标类型按版本、更新时间倒序）
+     */
+    List<HotScoreRuleEntity> selectActiveRules();
+    
+    int refreshContentScores(
+        @Param("f") HotScoreFormula formula,
+        @Param("since") LocalDateTime since,
+        @Param("ids") List<UUID> ids
+    );
+    
+    int refreshActivityScores(
+        @Param("f") HotScoreFormula formula,
+        @Param("since") LocalDateTime since,
+        @Param("ids") List<UUID> ids
+    );
+    
+    int refreshCommentScores(
+        @Param("f") HotScoreFormula formula,
+        @Param("since") LocalDateTime since,
+        @Param("ids") List<UUID> ids
+    );
+    
+    /**
+     * 当前热度最高的目标 ID（文本）
+     */
+    List<String> selectTopIds(@Param("targetType") int targetType, @Param("limit") int limit);
+    
+    /**
+     * 不是由指定规则计算的目标 ID（文本；规则切换或从未计算过）
+     */
+    List<String> selectStaleIds(
+        @Param("targetType") int targetType,
+        @Param("ruleId") UUID ruleId,
+        @Param("limit") int limit
+    );
+}